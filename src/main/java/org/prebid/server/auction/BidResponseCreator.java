@@ -806,6 +806,10 @@ public class BidResponseCreator {
         final BidRequest bidRequest = auctionContext.getBidRequest();
         final Account account = auctionContext.getAccount();
 
+        final Map<BidType, TargetingKeywordsCreator> keywordsCreators = targeting != null
+                ? keywordsCreators(targeting, bidRequest, account)
+                : null;
+
         final Map<String, List<ExtBidderError>> bidErrors = new HashMap<>();
         final List<SeatBid> seatBids = bidderResponseInfos.stream()
                 .map(BidderResponseInfo::getSeatBid)
@@ -813,7 +817,7 @@ public class BidResponseCreator {
                 .filter(CollectionUtils::isNotEmpty)
                 .map(bidInfos -> toSeatBid(
                         bidInfos,
-                        targeting,
+                        keywordsCreators,
                         bidRequest,
                         requestCacheInfo,
                         cacheResult.getCacheBids(),
@@ -888,7 +892,7 @@ public class BidResponseCreator {
      * extension field populated.
      */
     private SeatBid toSeatBid(List<BidInfo> bidInfos,
-                              ExtRequestTargeting targeting,
+                              Map<BidType, TargetingKeywordsCreator> keywordsCreators,
                               BidRequest bidRequest,
                               BidRequestCacheInfo requestCacheInfo,
                               Map<Bid, CacheInfo> bidToCacheInfo,
@@ -914,8 +918,7 @@ public class BidResponseCreator {
                 .filter(Objects::nonNull)
                 .map(bidInfo -> toBid(
                         bidInfo,
-                        targeting,
-                        bidRequest,
+                        keywordsCreators,
                         videoStoredDataResult.getImpIdToStoredVideo(),
                         account,
                         eventsContext))
@@ -971,8 +974,7 @@ public class BidResponseCreator {
      * Returns an OpenRTB {@link Bid} with "prebid" and "bidder" extension fields populated.
      */
     private Bid toBid(BidInfo bidInfo,
-                      ExtRequestTargeting targeting,
-                      BidRequest bidRequest,
+                      Map<BidType, TargetingKeywordsCreator> keywordsCreators,
                       Map<String, Video> impIdToStoredVideo,
                       Account account,
                       EventsContext eventsContext) {
@@ -985,13 +987,10 @@ public class BidResponseCreator {
         final String cacheId = cacheInfo != null ? cacheInfo.getCacheId() : null;
         final String videoCacheId = cacheInfo != null ? cacheInfo.getVideoCacheId() : null;
 
-        final boolean isApp = bidRequest.getApp() != null;
-
         final Map<String, String> targetingKeywords;
         final String bidderCode = targetingInfo.getBidderCode();
-        if (targeting != null && targetingInfo.isTargetingEnabled() && targetingInfo.isBidderWinningBid()) {
-            final TargetingKeywordsCreator keywordsCreator = resolveKeywordsCreator(bidType, targeting, isApp,
-                    bidRequest, account);
+        if (keywordsCreators != null && targetingInfo.isTargetingEnabled() && targetingInfo.isBidderWinningBid()) {
+            final TargetingKeywordsCreator keywordsCreator = keywordsCreators.get(bidType);
 
             final boolean isWinningBid = targetingInfo.isWinningBid();
             targetingKeywords = keywordsCreator.makeFor(bid, bidderCode, isWinningBid, cacheId,
@@ -1145,15 +1144,28 @@ public class BidResponseCreator {
         return prebid != null && prebid.getEvents() != null;
     }
 
-    private TargetingKeywordsCreator resolveKeywordsCreator(BidType bidType,
-                                                            ExtRequestTargeting targeting,
-                                                            boolean isApp,
-                                                            BidRequest bidRequest,
-                                                            Account account) {
+    /**
+     * Returns a map of {@link BidType} to {@link TargetingKeywordsCreator} to be used for bids of that type.
+     * <p>
+     * Creators are shared by all bids of the response, so targeting rules are resolved against the bid request
+     * only once.
+     */
+    private Map<BidType, TargetingKeywordsCreator> keywordsCreators(ExtRequestTargeting targeting,
+                                                                    BidRequest bidRequest,
+                                                                    Account account) {
+
+        final boolean isApp = bidRequest.getApp() != null;
+        final TargetingKeywordsResolver resolver = TargetingKeywordsResolver.create(bidRequest, mapper);
+
         final Map<BidType, TargetingKeywordsCreator> keywordsCreatorByBidType =
-                keywordsCreatorByBidType(targeting, isApp, bidRequest, account);
+                keywordsCreatorByBidType(targeting, isApp, resolver, account);
+        final TargetingKeywordsCreator keywordsCreator = keywordsCreator(targeting, isApp, resolver, account);
 
-        return keywordsCreatorByBidType.getOrDefault(bidType, keywordsCreator(targeting, isApp, bidRequest, account));
+        final Map<BidType, TargetingKeywordsCreator> result = new EnumMap<>(BidType.class);
+        for (BidType bidType : BidType.values()) {
+            result.put(bidType, keywordsCreatorByBidType.getOrDefault(bidType, keywordsCreator));
+        }
+        return result;
     }
 
     /**
@@ -1162,13 +1174,13 @@ public class BidResponseCreator {
      */
     private TargetingKeywordsCreator keywordsCreator(ExtRequestTargeting targeting,
                                                      boolean isApp,
-                                                     BidRequest bidRequest,
+                                                     TargetingKeywordsResolver resolver,
                                                      Account account) {
 
         final JsonNode priceGranularityNode = targeting.getPricegranularity();
         return priceGranularityNode == null || priceGranularityNode.isNull()
                 ? null
-                : createKeywordsCreator(targeting, isApp, priceGranularityNode, bidRequest, account);
+                : createKeywordsCreator(targeting, isApp, priceGranularityNode, resolver, account);
     }
 
     /**
@@ -1177,7 +1189,7 @@ public class BidResponseCreator {
      */
     private Map<BidType, TargetingKeywordsCreator> keywordsCreatorByBidType(ExtRequestTargeting targeting,
                                                                             boolean isApp,
-                                                                            BidRequest bidRequest,
+                                                                            TargetingKeywordsResolver resolver,
                                                                             Account account) {
 
         final ExtMediaTypePriceGranularity mediaTypePriceGranularity = targeting.getMediatypepricegranularity();
@@ -1190,19 +1202,19 @@ public class BidResponseCreator {
         final ObjectNode banner = mediaTypePriceGranularity.getBanner();
         final boolean isBannerNull = banner == null || banner.isNull();
         if (!isBannerNull) {
-            result.put(BidType.banner, createKeywordsCreator(targeting, isApp, banner, bidRequest, account));
+            result.put(BidType.banner, createKeywordsCreator(targeting, isApp, banner, resolver, account));
         }
 
         final ObjectNode video = mediaTypePriceGranularity.getVideo();
         final boolean isVideoNull = video == null || video.isNull();
         if (!isVideoNull) {
-            result.put(BidType.video, createKeywordsCreator(targeting, isApp, video, bidRequest, account));
+            result.put(BidType.video, createKeywordsCreator(targeting, isApp, video, resolver, account));
         }
 
         final ObjectNode xNative = mediaTypePriceGranularity.getXNative();
         final boolean isNativeNull = xNative == null || xNative.isNull();
         if (!isNativeNull) {
-            result.put(BidType.xNative, createKeywordsCreator(targeting, isApp, xNative, bidRequest, account));
+            result.put(BidType.xNative, createKeywordsCreator(targeting, isApp, xNative, resolver, account));
         }
 
         return result;
@@ -1211,7 +1223,7 @@ public class BidResponseCreator {
     private TargetingKeywordsCreator createKeywordsCreator(ExtRequestTargeting targeting,
                                                            boolean isApp,
                                                            JsonNode priceGranularity,
-                                                           BidRequest bidRequest,
+                                                           TargetingKeywordsResolver resolver,
                                                            Account account) {
 
         return TargetingKeywordsCreator.create(
@@ -1223,7 +1235,7 @@ public class BidResponseCreator {
                 resolveTruncateAttrChars(targeting, account),
                 cacheHost,
                 cachePath,
-                TargetingKeywordsResolver.create(bidRequest, mapper));
+                resolver);
     }
 
     /**
@@ -0,0 +1,100 @@
+package org.prebid.server.auction;
+
+import org.prebid.server.execution.LatencyEstimator;
+import org.prebid.server.execution.Timeout;
+import org.prebid.server.metric.Metrics;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caps timeout given to bidder by configured percentile of its recent response times, so chronically slow bidders
+ * are cut earlier than the rest of the auction.
+ * <p>
+ * Timed out calls are registered as longer than any timeout, since their actual response time is unknown,
+ * so once share of timed out calls exceeds the percentile the cap is lifted and bidder gets the whole auction
+ * timeout again. Calls failed for other reasons are not registered, because they tell nothing about the time
+ * bidder needs to respond with bids.
+ */
+public class BidderTimeoutResolver {
+
+    private final long windowMs;
+    private final double percentile;
+    private final int minSamples;
+    private final long minTimeout;
+    private final Metrics metrics;
+    private final Clock clock;
+
+    private final Map<String, LatencyEstimator> bidderToEstimator;
+
+    public BidderTimeoutResolver(long windowMs,
+                                 double percentile,
+                                 int minSamples,
+                                 long minTimeout,
+                                 Metrics metrics,
+                                 Clock clock) {
+
+        if (minTimeout < 0) {
+            throw new IllegalArgumentException("Min timeout should be positive");
+        }
+
+        this.windowMs = windowMs;
+        this.percentile = percentile;
+        this.minSamples = minSamples;
+        this.minTimeout = minTimeout;
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
+
+        // validates estimation settings on startup rather than on first bidder request
+        new LatencyEstimator(windowMs, percentile, minSamples, clock);
+
+        bidderToEstimator = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Registers response time of the successful bidder call.
+     */
+    public void updateResponseTime(String bidder, long responseTime) {
+        estimator(bidder).update(responseTime);
+    }
+
+    /**
+     * Registers bidder call which timed out.
+     */
+    public void updateTimedOut(String bidder) {
+        estimator(bidder).update(Long.MAX_VALUE);
+    }
+
+    /**
+     * Returns given {@link Timeout} reduced to the bidder timeout cap if it expires later than the cap.
+     */
+    public Timeout resolve(String bidder, Timeout timeout) {
+        final Long timeoutCap = timeoutCap(bidder);
+        final long remaining = timeout.remaining();
+
+        return timeoutCap != null && timeoutCap < remaining ? timeout.minus(remaining - timeoutCap) : timeout;
+    }
+
+    /**
+     * Returns timeout cap for the bidder or null if there were not enough bidder responses to estimate it.
+     */
+    private Long timeoutCap(String bidder) {
+        final Long estimation = estimator(bidder).estimate();
+        return estimation != null ? Math.max(estimation, minTimeout) : null;
+    }
+
+    private LatencyEstimator estimator(String bidder) {
+        return bidderToEstimator.computeIfAbsent(bidder, this::createEstimator);
+    }
+
+    private LatencyEstimator createEstimator(String bidder) {
+        final LatencyEstimator estimator = new LatencyEstimator(windowMs, percentile, minSamples, clock);
+        metrics.createAdapterTimeoutCapGauge(bidder, () -> {
+            final Long timeoutCap = timeoutCap(bidder);
+            return timeoutCap != null ? timeoutCap : 0;
+        });
+        return estimator;
+    }
+}
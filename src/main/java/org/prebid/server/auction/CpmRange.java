@@ -23,6 +23,11 @@ public class CpmRange {
      * Rounding price by specified rules defined in {@link PriceGranularity} object and returns it in string format
      */
     public static String fromCpm(BigDecimal cpm, PriceGranularity priceGranularity) {
+        final PriceBuckets priceBuckets = priceGranularity.getPriceBuckets();
+        if (priceBuckets != null) {
+            return priceBuckets.bucketFor(cpm);
+        }
+
         final BigDecimal value = fromCpmAsNumber(cpm, priceGranularity);
         return value != null
                 ? format(value, ObjectUtils.defaultIfNull(priceGranularity.getPrecision(), 2))
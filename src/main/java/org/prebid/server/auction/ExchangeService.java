@@ -40,7 +40,9 @@ import org.prebid.server.bidder.model.BidderError;
 import org.prebid.server.bidder.model.BidderSeatBid;
 import org.prebid.server.cookie.UidsCookie;
 import org.prebid.server.currency.CurrencyConversionService;
+import org.prebid.server.currency.CurrencyRates;
 import org.prebid.server.exception.PreBidException;
+import org.prebid.server.execution.LatencyEstimator;
 import org.prebid.server.execution.Timeout;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.metric.MetricName;
@@ -102,6 +104,9 @@ public class ExchangeService {
     private static final BigDecimal THOUSAND = BigDecimal.valueOf(1000);
 
     private final long expectedCacheTime;
+    private final LatencyEstimator cacheTimeEstimator;
+    private final long maxCacheTime;
+    private final BidderTimeoutResolver bidderTimeoutResolver;
     private final BidderCatalog bidderCatalog;
     private final StoredResponseProcessor storedResponseProcessor;
     private final PrivacyEnforcementService privacyEnforcementService;
@@ -117,6 +122,9 @@ public class ExchangeService {
     private final JacksonMapper mapper;
 
     public ExchangeService(long expectedCacheTime,
+                           LatencyEstimator cacheTimeEstimator,
+                           long maxCacheTime,
+                           BidderTimeoutResolver bidderTimeoutResolver,
                            BidderCatalog bidderCatalog,
                            StoredResponseProcessor storedResponseProcessor,
                            PrivacyEnforcementService privacyEnforcementService,
@@ -134,7 +142,13 @@ public class ExchangeService {
         if (expectedCacheTime < 0) {
             throw new IllegalArgumentException("Expected cache time should be positive");
         }
+        if (maxCacheTime < 0) {
+            throw new IllegalArgumentException("Max cache time should be positive");
+        }
         this.expectedCacheTime = expectedCacheTime;
+        this.cacheTimeEstimator = cacheTimeEstimator;
+        this.maxCacheTime = maxCacheTime;
+        this.bidderTimeoutResolver = bidderTimeoutResolver;
         this.bidderCatalog = Objects.requireNonNull(bidderCatalog);
         this.storedResponseProcessor = Objects.requireNonNull(storedResponseProcessor);
         this.privacyEnforcementService = Objects.requireNonNull(privacyEnforcementService);
@@ -148,6 +162,8 @@ public class ExchangeService {
         this.metrics = Objects.requireNonNull(metrics);
         this.clock = Objects.requireNonNull(clock);
         this.mapper = Objects.requireNonNull(mapper);
+
+        metrics.createCacheExpectedRequestTimeGauge(this::expectedCacheTime);
     }
 
     /**
@@ -168,6 +184,7 @@ public class ExchangeService {
         final BidRequestCacheInfo cacheInfo = bidRequestCacheInfo(bidRequest);
         final boolean debugEnabled = isDebugEnabled(bidRequest);
         final Map<String, MultiBidConfig> bidderToMultiBid = bidderToMultiBids(bidRequest, debugWarnings);
+        final CurrencyRates requestCurrencyRates = currencyService.requestCurrencyRates(bidRequest);
 
         return storedResponseProcessor.getStoredResponseResult(bidRequest.getImp(), timeout)
                 .map(storedResponseResult -> populateStoredResponse(storedResponseResult, storedAuctionResponses))
@@ -175,6 +192,8 @@ public class ExchangeService {
                         context, storedResponseResult, aliases, bidderToMultiBid))
                 .map(bidderRequests -> updateRequestMetric(
                         bidderRequests, uidsCookie, aliases, publisherId, context.getRequestTypeMetric()))
+                // send all the requests to the bidders and process each response as soon as it arrives, unless
+                // stored auction responses should be merged into bidder responses first
                 .compose(bidderRequests -> CompositeFuture.join(
                         bidderRequests.stream()
                                 .map(bidderRequest -> requestBids(
@@ -182,14 +201,20 @@ public class ExchangeService {
                                         auctionTimeout(timeout, cacheInfo.isDoCaching()),
                                         routingContext,
                                         debugEnabled,
-                                        aliases))
+                                        aliases,
+                                        debugWarnings)
+                                        .map(bidderResponse -> storedAuctionResponses.isEmpty()
+                                                ? processBidderResponse(bidderResponse, context, aliases,
+                                                        requestCurrencyRates)
+                                                : bidderResponse))
                                 .collect(Collectors.toList())))
-                // send all the requests to the bidders and gathers results
+                // gather results
                 .map(CompositeFuture::<BidderResponse>list)
-                .map(bidderResponses -> storedResponseProcessor.mergeWithBidderResponses(
-                        bidderResponses, storedAuctionResponses, bidRequest.getImp()))
-                .map(bidderResponses -> validateAndAdjustBids(bidderResponses, context, aliases))
-                .map(bidderResponses -> updateMetricsFromResponses(bidderResponses, publisherId, aliases))
+                .map(bidderResponses -> storedAuctionResponses.isEmpty()
+                        ? bidderResponses
+                        : processBidderResponses(storedResponseProcessor.mergeWithBidderResponses(
+                                bidderResponses, storedAuctionResponses, bidRequest.getImp()), context, aliases,
+                                requestCurrencyRates))
                 // produce response from bidder results
                 .compose(bidderResponses -> bidResponseCreator.create(
                         bidderResponses,
@@ -979,25 +1004,60 @@ public class ExchangeService {
                                                Timeout timeout,
                                                RoutingContext routingContext,
                                                boolean debugEnabled,
-                                               BidderAliases aliases) {
+                                               BidderAliases aliases,
+                                               List<String> debugWarnings) {
 
         final String bidderName = bidderRequest.getBidder();
-        final Bidder<?> bidder = bidderCatalog.bidderByName(aliases.resolveBidder(bidderName));
+        final String resolvedBidderName = aliases.resolveBidder(bidderName);
+        final Bidder<?> bidder = bidderCatalog.bidderByName(resolvedBidderName);
+        final Timeout bidderTimeout = bidderTimeout(resolvedBidderName, timeout, debugEnabled, debugWarnings);
         final long startTime = clock.millis();
 
-        return httpBidderRequester.requestBids(bidder, bidderRequest, timeout, routingContext, debugEnabled)
+        return httpBidderRequester.requestBids(bidder, bidderRequest, bidderTimeout, routingContext, debugEnabled)
                 .map(seatBid -> BidderResponse.of(bidderName, seatBid, responseTime(startTime)));
     }
 
-    private List<BidderResponse> validateAndAdjustBids(
-            List<BidderResponse> bidderResponses, AuctionContext auctionContext, BidderAliases aliases) {
+    /**
+     * Caps auction timeout for the bidder by its recent response times if adaptive bidder timeouts are enabled.
+     */
+    private Timeout bidderTimeout(String bidder, Timeout timeout, boolean debugEnabled, List<String> debugWarnings) {
+        if (bidderTimeoutResolver == null) {
+            return timeout;
+        }
+
+        final Timeout bidderTimeout = bidderTimeoutResolver.resolve(bidder, timeout);
+        if (debugEnabled && bidderTimeout != timeout) {
+            debugWarnings.add(String.format("Timeout for bidder %s was capped to %d ms by its recent response times",
+                    bidder, bidderTimeout.remaining()));
+        }
+        return bidderTimeout;
+    }
+
+    private List<BidderResponse> processBidderResponses(List<BidderResponse> bidderResponses,
+                                                        AuctionContext auctionContext,
+                                                        BidderAliases aliases,
+                                                        CurrencyRates requestCurrencyRates) {
 
         return bidderResponses.stream()
-                .map(bidderResponse -> validBidderResponse(bidderResponse, auctionContext, aliases))
-                .map(bidderResponse -> applyBidPriceChanges(bidderResponse, auctionContext.getBidRequest()))
+                .map(bidderResponse -> processBidderResponse(
+                        bidderResponse, auctionContext, aliases, requestCurrencyRates))
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Validates bids, applies price changes and updates metrics for single {@link BidderResponse}.
+     */
+    private BidderResponse processBidderResponse(BidderResponse bidderResponse,
+                                                 AuctionContext auctionContext,
+                                                 BidderAliases aliases,
+                                                 CurrencyRates requestCurrencyRates) {
+
+        final BidderResponse validBidderResponse = validBidderResponse(bidderResponse, auctionContext, aliases);
+        final BidderResponse adjustedBidderResponse = applyBidPriceChanges(
+                validBidderResponse, auctionContext.getBidRequest(), requestCurrencyRates);
+        return updateMetricsFromResponse(adjustedBidderResponse, auctionContext.getAccount().getId(), aliases);
+    }
+
     /**
      * Validates bid response from exchange.
      * <p>
@@ -1054,7 +1114,9 @@ public class ExchangeService {
      * This method should always be invoked after {@link ExchangeService#validBidderResponse} to make sure
      * {@link Bid#getPrice()} is not empty.
      */
-    private BidderResponse applyBidPriceChanges(BidderResponse bidderResponse, BidRequest bidRequest) {
+    private BidderResponse applyBidPriceChanges(BidderResponse bidderResponse,
+                                                BidRequest bidRequest,
+                                                CurrencyRates requestCurrencyRates) {
         final BidderSeatBid seatBid = bidderResponse.getSeatBid();
 
         final List<BidderBid> bidderBids = seatBid.getBids();
@@ -1069,8 +1131,8 @@ public class ExchangeService {
 
         for (final BidderBid bidderBid : bidderBids) {
             try {
-                final BidderBid updatedBidderBid =
-                        updateBidderBidWithBidPriceChanges(bidderBid, bidderResponse, bidRequest, adServerCurrency);
+                final BidderBid updatedBidderBid = updateBidderBidWithBidPriceChanges(
+                        bidderBid, bidderResponse, bidRequest, requestCurrencyRates, adServerCurrency);
                 updatedBidderBids.add(updatedBidderBid);
             } catch (PreBidException e) {
                 errors.add(BidderError.generic(e.getMessage()));
@@ -1083,13 +1145,14 @@ public class ExchangeService {
     private BidderBid updateBidderBidWithBidPriceChanges(BidderBid bidderBid,
                                                          BidderResponse bidderResponse,
                                                          BidRequest bidRequest,
+                                                         CurrencyRates requestCurrencyRates,
                                                          String adServerCurrency) {
         final Bid bid = bidderBid.getBid();
         final String bidCurrency = bidderBid.getBidCurrency();
         final BigDecimal price = bid.getPrice();
 
         final BigDecimal priceInAdServerCurrency = currencyService.convertCurrency(
-                price, bidRequest, adServerCurrency, StringUtils.stripToNull(bidCurrency));
+                price, bidRequest, requestCurrencyRates, adServerCurrency, StringUtils.stripToNull(bidCurrency));
 
         final BigDecimal priceAdjustmentFactor =
                 bidAdjustmentForBidder(bidderResponse.getBidder(), bidRequest, bidderBid);
@@ -1204,55 +1267,78 @@ public class ExchangeService {
      * We should reduce the amount of time the bidders have, to compensate.
      */
     private Timeout auctionTimeout(Timeout timeout, boolean shouldCacheBids) {
-        // A static timeout here is not ideal. This is a hack because we have some aggressive timelines for OpenRTB
-        // support.
-        // In reality, the cache response time will probably fluctuate with the traffic over time. Someday, this
-        // should be replaced by code which tracks the response time of recent cache calls and adjusts the time
-        // dynamically.
-        return shouldCacheBids ? timeout.minus(expectedCacheTime) : timeout;
+        return shouldCacheBids ? timeout.minus(expectedCacheTime()) : timeout;
+    }
+
+    /**
+     * Returns time reserved for prebid cache call: estimated by response time of recent cache calls if estimation
+     * is enabled and there were enough of them, configured static value otherwise.
+     * <p>
+     * Estimation never exceeds configured max value, so degraded cache can't consume the whole auction timeout.
+     */
+    private long expectedCacheTime() {
+        final Long estimatedCacheTime = cacheTimeEstimator != null ? cacheTimeEstimator.estimate() : null;
+        return estimatedCacheTime != null ? Math.min(estimatedCacheTime, maxCacheTime) : expectedCacheTime;
+    }
+
+    /**
+     * Registers bidder response time for adaptive bidder timeouts: timed out calls are registered as censored ones
+     * and calls failed without bids are skipped, since they don't tell how long bidder takes to respond with bids.
+     */
+    private void updateBidderResponseTime(String bidder, BidderResponse bidderResponse) {
+        final BidderSeatBid seatBid = bidderResponse.getSeatBid();
+        final List<BidderError> errors = seatBid.getErrors();
+        if (CollectionUtils.isEmpty(errors)) {
+            bidderTimeoutResolver.updateResponseTime(bidder, bidderResponse.getResponseTime());
+        } else if (errors.stream().anyMatch(error -> error.getType() == BidderError.Type.timeout)) {
+            bidderTimeoutResolver.updateTimedOut(bidder);
+        } else if (CollectionUtils.isNotEmpty(seatBid.getBids())) {
+            bidderTimeoutResolver.updateResponseTime(bidder, bidderResponse.getResponseTime());
+        }
     }
 
     /**
      * Updates 'request_time', 'responseTime', 'timeout_request', 'error_requests', 'no_bid_requests',
-     * 'prices' metrics for each {@link BidderResponse}.
+     * 'prices' metrics for given {@link BidderResponse}.
      * <p>
      * This method should always be invoked after {@link ExchangeService#validBidderResponse} to make sure
      * {@link Bid#getPrice()} is not empty.
      */
-    private List<BidderResponse> updateMetricsFromResponses(
-            List<BidderResponse> bidderResponses, String publisherId, BidderAliases aliases) {
+    private BidderResponse updateMetricsFromResponse(
+            BidderResponse bidderResponse, String publisherId, BidderAliases aliases) {
 
-        for (final BidderResponse bidderResponse : bidderResponses) {
-            final String bidder = aliases.resolveBidder(bidderResponse.getBidder());
+        final String bidder = aliases.resolveBidder(bidderResponse.getBidder());
 
-            metrics.updateAdapterResponseTime(bidder, publisherId, bidderResponse.getResponseTime());
+        metrics.updateAdapterResponseTime(bidder, publisherId, bidderResponse.getResponseTime());
+        if (bidderTimeoutResolver != null) {
+            updateBidderResponseTime(bidder, bidderResponse);
+        }
 
-            final List<BidderBid> bidderBids = bidderResponse.getSeatBid().getBids();
-            if (CollectionUtils.isEmpty(bidderBids)) {
-                metrics.updateAdapterRequestNobidMetrics(bidder, publisherId);
-            } else {
-                metrics.updateAdapterRequestGotbidsMetrics(bidder, publisherId);
+        final List<BidderBid> bidderBids = bidderResponse.getSeatBid().getBids();
+        if (CollectionUtils.isEmpty(bidderBids)) {
+            metrics.updateAdapterRequestNobidMetrics(bidder, publisherId);
+        } else {
+            metrics.updateAdapterRequestGotbidsMetrics(bidder, publisherId);
 
-                for (final BidderBid bidderBid : bidderBids) {
-                    final Bid bid = bidderBid.getBid();
+            for (final BidderBid bidderBid : bidderBids) {
+                final Bid bid = bidderBid.getBid();
 
-                    final long cpm = bid.getPrice().multiply(THOUSAND).longValue();
-                    metrics.updateAdapterBidMetrics(bidder, publisherId, cpm, bid.getAdm() != null,
-                            bidderBid.getType().toString());
-                }
+                final long cpm = bid.getPrice().multiply(THOUSAND).longValue();
+                metrics.updateAdapterBidMetrics(bidder, publisherId, cpm, bid.getAdm() != null,
+                        bidderBid.getType().toString());
             }
+        }
 
-            final List<BidderError> errors = bidderResponse.getSeatBid().getErrors();
-            if (CollectionUtils.isNotEmpty(errors)) {
-                errors.stream()
-                        .map(BidderError::getType)
-                        .distinct()
-                        .map(ExchangeService::bidderErrorTypeToMetric)
-                        .forEach(errorMetric -> metrics.updateAdapterRequestErrorMetric(bidder, errorMetric));
-            }
+        final List<BidderError> errors = bidderResponse.getSeatBid().getErrors();
+        if (CollectionUtils.isNotEmpty(errors)) {
+            errors.stream()
+                    .map(BidderError::getType)
+                    .distinct()
+                    .map(ExchangeService::bidderErrorTypeToMetric)
+                    .forEach(errorMetric -> metrics.updateAdapterRequestErrorMetric(bidder, errorMetric));
         }
 
-        return bidderResponses;
+        return bidderResponse;
     }
 
     /**
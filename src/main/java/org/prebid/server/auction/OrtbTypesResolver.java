@@ -86,8 +86,22 @@ public class OrtbTypesResolver {
      * Mutates both parameters, {@param fpdContainerNode} and {@param warnings}.
      */
     public void normalizeBidRequest(JsonNode bidRequest, List<String> warnings, String referer) {
-        final List<String> resolverWarnings = new ArrayList<>();
         final String rowOriginBidRequest = getOriginalRowContainerNode(bidRequest);
+        normalizeBidRequest(bidRequest, warnings, referer, () -> rowOriginBidRequest);
+    }
+
+    /**
+     * Resolves fields types inconsistency to ortb2 protocol for {@param bidRequest} for bidRequest level parameters
+     * and bidderconfig.
+     * <p>
+     * Original bid request representation is obtained from {@param rowOriginBidRequestSupplier} only if warnings
+     * occurred, so callers having raw request body can avoid serializing the whole request on each call.
+     * <p>
+     * Mutates both parameters, {@param fpdContainerNode} and {@param warnings}.
+     */
+    public void normalizeBidRequest(JsonNode bidRequest, List<String> warnings, String referer,
+                                    Supplier<String> rowOriginBidRequestSupplier) {
+        final List<String> resolverWarnings = new ArrayList<>();
         normalizeRequestFpdFields(bidRequest, resolverWarnings);
         final JsonNode bidderConfigs = bidRequest.path("ext").path("prebid").path("bidderconfig");
         if (!bidderConfigs.isMissingNode() && bidderConfigs.isArray()) {
@@ -101,7 +115,7 @@ public class OrtbTypesResolver {
                 }
             }
         }
-        processWarnings(resolverWarnings, warnings, rowOriginBidRequest, referer, BIDREQUEST);
+        processWarnings(resolverWarnings, warnings, rowOriginBidRequestSupplier, referer, BIDREQUEST);
     }
 
     private String getOriginalRowContainerNode(JsonNode bidRequest) {
@@ -167,7 +181,7 @@ public class OrtbTypesResolver {
         final List<String> resolverWarnings = new ArrayList<>();
         final String rowOriginTargeting = getOriginalRowContainerNode(targeting);
         normalizeStandardFpdFields(targeting, resolverWarnings, TARGETING);
-        processWarnings(resolverWarnings, warnings, rowOriginTargeting, referer, TARGETING);
+        processWarnings(resolverWarnings, warnings, () -> rowOriginTargeting, referer, TARGETING);
     }
 
     /**
@@ -341,15 +355,15 @@ public class OrtbTypesResolver {
         return StreamSupport.stream(arrayNode.spliterator(), false).allMatch(JsonNode::isTextual);
     }
 
-    private void processWarnings(List<String> resolverWarning, List<String> warnings, String containerValue,
-                                 String referer, String containerName) {
+    private void processWarnings(List<String> resolverWarning, List<String> warnings,
+                                 Supplier<String> containerValueSupplier, String referer, String containerName) {
         if (CollectionUtils.isNotEmpty(resolverWarning)) {
             warnings.addAll(updateWithWarningPrefix(resolverWarning));
             // log only 1% of cases
             ORTB_TYPES_RESOLVING_LOGGER.warn(String.format("WARNINGS: %s. \n Referer = %s and %s = %s",
                     String.join("\n", resolverWarning),
                     StringUtils.isNotBlank(referer) ? referer : UNKNOWN_REFERER,
-                    containerName, containerValue), 0.01);
+                    containerName, containerValueSupplier.get()), 0.01);
         }
     }
 
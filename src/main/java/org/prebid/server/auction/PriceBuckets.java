@@ -0,0 +1,143 @@
+package org.prebid.server.auction;
+
+import org.prebid.server.proto.openrtb.ext.request.ExtGranularityRange;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Precomputed table of price buckets defined by {@link PriceGranularity} ranges with pre-rendered bucket strings.
+ * <p>
+ * Prices are compared as keys equal to doubled amount of micros, plus one if the price has a fraction of micro,
+ * so the ranges bounds are compared exactly the same way as by {@link CpmRange#fromCpmAsNumber}
+ * and bucket is found by binary search.
+ */
+class PriceBuckets {
+
+    private static final Locale LOCALE = Locale.US;
+    private static final int MICROS_SCALE = 6;
+    private static final int MAX_BUCKETS = 10000;
+
+    private final BigDecimal rangesMax;
+    private final String rangesMaxBucket;
+    private final long[] bucketStartKeys;
+    private final String[] buckets;
+
+    private PriceBuckets(BigDecimal rangesMax, String rangesMaxBucket, long[] bucketStartKeys, String[] buckets) {
+        this.rangesMax = rangesMax;
+        this.rangesMaxBucket = rangesMaxBucket;
+        this.bucketStartKeys = bucketStartKeys;
+        this.buckets = buckets;
+    }
+
+    /**
+     * Builds {@link PriceBuckets} for the given ranges or returns null if ranges can't be represented by table:
+     * they are not ascending, have increments or bounds finer than micro, or define too many buckets.
+     */
+    static PriceBuckets compile(List<ExtGranularityRange> ranges, BigDecimal rangesMax, int precision) {
+        final int bucketsCount = bucketsCount(ranges);
+        if (bucketsCount < 0) {
+            return null;
+        }
+
+        final long[] bucketStartKeys = new long[bucketsCount];
+        final String[] buckets = new String[bucketsCount];
+        int bucketIndex = 0;
+
+        long rangeMinMicros = 0;
+        long rangeStartKey = 0;
+        for (final ExtGranularityRange range : ranges) {
+            final long maxMicros = toExactMicros(range.getMax());
+            final long incrementMicros = toExactMicros(range.getIncrement());
+
+            final long rangeEndKey = maxMicros * 2;
+            long bucketMicros = rangeMinMicros / incrementMicros * incrementMicros;
+            long bucketStartKey = rangeStartKey;
+            while (bucketStartKey <= rangeEndKey) {
+                bucketStartKeys[bucketIndex] = bucketStartKey;
+                buckets[bucketIndex] = format(BigDecimal.valueOf(bucketMicros, MICROS_SCALE), precision);
+                bucketIndex++;
+
+                bucketMicros += incrementMicros;
+                bucketStartKey = bucketMicros * 2;
+            }
+
+            rangeMinMicros = maxMicros;
+            rangeStartKey = rangeEndKey + 1;
+        }
+
+        return new PriceBuckets(rangesMax, format(rangesMax, precision), bucketStartKeys, buckets);
+    }
+
+    /**
+     * Returns number of buckets defined by the given ranges or -1 if ranges can't be represented by table,
+     * so nothing is allocated or formatted for ranges that are rejected.
+     */
+    private static int bucketsCount(List<ExtGranularityRange> ranges) {
+        long bucketsCount = 0;
+        long rangeMinMicros = 0;
+        long rangeStartKey = 0;
+        for (final ExtGranularityRange range : ranges) {
+            final Long maxMicros = toExactMicros(range.getMax());
+            final Long incrementMicros = toExactMicros(range.getIncrement());
+            if (maxMicros == null || incrementMicros == null || incrementMicros <= 0 || maxMicros < rangeMinMicros) {
+                return -1;
+            }
+
+            // first bucket of range starts right after previous range max, others - at each increment up to max
+            final long rangeEndKey = maxMicros * 2;
+            if (rangeStartKey <= rangeEndKey) {
+                final long firstBucketMicros = rangeMinMicros / incrementMicros * incrementMicros;
+                bucketsCount += 1 + (maxMicros - firstBucketMicros) / incrementMicros;
+                if (bucketsCount > MAX_BUCKETS) {
+                    return -1;
+                }
+            }
+
+            rangeMinMicros = maxMicros;
+            rangeStartKey = rangeEndKey + 1;
+        }
+        return (int) bucketsCount;
+    }
+
+    /**
+     * Returns pre-rendered bucket the given price falls into, or empty string if price is negative.
+     */
+    String bucketFor(BigDecimal cpm) {
+        if (cpm.compareTo(rangesMax) > 0) {
+            return rangesMaxBucket;
+        }
+        if (cpm.signum() < 0) {
+            return "";
+        }
+
+        final BigDecimal micros = cpm.movePointRight(MICROS_SCALE);
+        final long wholeMicros = micros.longValue();
+        final boolean hasMicroFraction = micros.scale() > 0 && micros.stripTrailingZeros().scale() > 0;
+        final long key = wholeMicros * 2 + (hasMicroFraction ? 1 : 0);
+
+        final int index = Arrays.binarySearch(bucketStartKeys, key);
+        return buckets[index >= 0 ? index : -index - 2];
+    }
+
+    private static Long toExactMicros(BigDecimal value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return value.movePointRight(MICROS_SCALE).setScale(0, RoundingMode.UNNECESSARY).longValueExact();
+        } catch (ArithmeticException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Formats {@link BigDecimal} value with a given precision the same way as {@link CpmRange} does.
+     */
+    private static String format(BigDecimal value, int precision) {
+        return String.format(LOCALE, String.format("%%.%sf", precision), value);
+    }
+}
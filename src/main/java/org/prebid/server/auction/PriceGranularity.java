@@ -2,6 +2,7 @@ package org.prebid.server.auction;
 
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.EnumUtils;
+import org.apache.commons.lang3.ObjectUtils;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.proto.openrtb.ext.request.ExtGranularityRange;
 import org.prebid.server.proto.openrtb.ext.request.ExtPriceGranularity;
@@ -10,6 +11,9 @@ import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Describes the behavior for price granularity feature.
@@ -41,9 +45,19 @@ public class PriceGranularity {
 
     public static final PriceGranularity DEFAULT = STRING_TO_CUSTOM_PRICE_GRANULARITY.get(PriceGranularityType.med);
 
+    /**
+     * Standard price granularities by their {@link ExtPriceGranularity} representation, requests mostly
+     * refer to them so their precomputed price buckets are reused for custom ranges equal to standard ones.
+     */
+    private static final Map<ExtPriceGranularity, PriceGranularity> EXT_TO_STANDARD_PRICE_GRANULARITY =
+            STRING_TO_CUSTOM_PRICE_GRANULARITY.values().stream()
+                    .collect(Collectors.toMap(ExtPriceGranularity::from, Function.identity(),
+                            (first, second) -> first));
+
     private List<ExtGranularityRange> ranges;
     private BigDecimal rangesMax;
     private Integer precision;
+    private PriceBuckets priceBuckets;
 
     private PriceGranularity(List<ExtGranularityRange> ranges, BigDecimal rangesMax, Integer precision) {
         this.ranges = ranges;
@@ -55,7 +69,10 @@ public class PriceGranularity {
      * Creates {@link PriceGranularity} from {@link ExtPriceGranularity}.
      */
     static PriceGranularity createFromExtPriceGranularity(ExtPriceGranularity extPriceGranularity) {
-        return createFromRanges(extPriceGranularity.getPrecision(), extPriceGranularity.getRanges());
+        final PriceGranularity standardPriceGranularity = EXT_TO_STANDARD_PRICE_GRANULARITY.get(extPriceGranularity);
+        return standardPriceGranularity != null
+                ? standardPriceGranularity
+                : createFromRanges(extPriceGranularity.getPrecision(), extPriceGranularity.getRanges());
     }
 
     /**
@@ -91,14 +108,27 @@ public class PriceGranularity {
         return precision;
     }
 
+    /**
+     * Returns precomputed {@link PriceBuckets} or null if granularity is not standard or its ranges can't be
+     * represented by them.
+     */
+    PriceBuckets getPriceBuckets() {
+        return priceBuckets;
+    }
+
     /**
      * Creates {@link PriceGranularity} for string representation and puts it to
      * {@link EnumMap<PriceGranularityType, PriceGranularity>}.
+     * <p>
+     * Price buckets are precomputed only for standard granularities, since they are created once and shared
+     * by all requests, while custom granularities are created per request.
      */
     private static void putStringPriceGranularity(PriceGranularityType type, Integer precision,
                                                   ExtGranularityRange... ranges) {
-        STRING_TO_CUSTOM_PRICE_GRANULARITY.put(type,
-                PriceGranularity.createFromRanges(precision, Arrays.asList(ranges)));
+        final PriceGranularity priceGranularity = createFromRanges(precision, Arrays.asList(ranges));
+        priceGranularity.priceBuckets = PriceBuckets.compile(priceGranularity.ranges, priceGranularity.rangesMax,
+                ObjectUtils.defaultIfNull(precision, 2));
+        STRING_TO_CUSTOM_PRICE_GRANULARITY.put(type, priceGranularity);
     }
 
     /**
@@ -254,6 +254,9 @@ public class StoredRequestProcessor {
     /**
      * Merges original request with request from stored request source. Values from original request
      * has higher priority than stored request values.
+     * <p>
+     * Stored data strings are passed to {@link JsonMerger} as returned by settings, since its parsed tree cache
+     * reuses trees only for the same string instance kept by settings cache.
      */
     private BidRequest mergeBidRequest(BidRequest originalRequest, String storedRequestId,
                                        StoredDataResult storedDataResult) {
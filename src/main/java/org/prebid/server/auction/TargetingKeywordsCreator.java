@@ -5,12 +5,11 @@ import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.proto.openrtb.ext.request.ExtPriceGranularity;
 
 import java.math.BigDecimal;
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -76,6 +75,9 @@ public class TargetingKeywordsCreator {
      */
     private static final String HB_FORMAT_KEY = "hb_format";
 
+    private static final List<String> KEY_PREFIXES = Arrays.asList(HB_ENV_KEY, HB_BIDDER_KEY, HB_PB_KEY, HB_SIZE_KEY,
+            HB_CACHE_ID_KEY, HB_VAST_ID_KEY, HB_DEAL_KEY, HB_CACHE_HOST_KEY, HB_CACHE_PATH_KEY, HB_FORMAT_KEY);
+
     private final PriceGranularity priceGranularity;
     private final boolean includeWinners;
     private final boolean includeBidderKeys;
@@ -86,6 +88,12 @@ public class TargetingKeywordsCreator {
     private final String cachePath;
     private final TargetingKeywordsResolver resolver;
 
+    /**
+     * Key names are the same for all bids of the bidder, so they are created once per bidder for the response.
+     */
+    private final Map<String, Map<String, String>> bidderToKeyNames;
+    private final Map<String, String> winningBidKeyNames;
+
     private TargetingKeywordsCreator(PriceGranularity priceGranularity,
                                      boolean includeWinners,
                                      boolean includeBidderKeys,
@@ -105,6 +113,9 @@ public class TargetingKeywordsCreator {
         this.cacheHost = cacheHost;
         this.cachePath = cachePath;
         this.resolver = resolver;
+
+        this.bidderToKeyNames = new HashMap<>();
+        this.winningBidKeyNames = includeWinners ? keyNames(Function.identity(), truncateAttrChars) : null;
     }
 
     /**
@@ -142,9 +153,21 @@ public class TargetingKeywordsCreator {
                                 String format,
                                 String vastCacheId) {
 
-        final Map<String, String> keywords = makeFor(
+        final Map<String, String> keywords = new HashMap<>();
+
+        // keywords from resolver take precedence over the ones created by default
+        if (resolver != null) {
+            resolver.resolve(bid, bidder).forEach((key, value) -> keywords.put(truncateKey(key), value));
+        }
+
+        final KeywordMap keywordMap = new KeywordMap(
+                keywords,
+                includeBidderKeys ? bidderKeyNames(bidder) : null,
+                winningBid ? winningBidKeyNames : null);
+
+        makeFor(
+                keywordMap,
                 bidder,
-                winningBid,
                 bid.getPrice(),
                 "0.0",
                 bid.getW(),
@@ -154,32 +177,22 @@ public class TargetingKeywordsCreator {
                 format,
                 bid.getDealid());
 
-        if (resolver == null) {
-            return truncateKeys(keywords);
-        }
-
-        final Map<String, String> augmentedKeywords = new HashMap<>(keywords);
-        augmentedKeywords.putAll(resolver.resolve(bid, bidder));
-
-        return truncateKeys(augmentedKeywords);
+        return keywords;
     }
 
     /**
      * Common method for creating targeting keywords.
      */
-    private Map<String, String> makeFor(String bidder,
-                                        boolean winningBid,
-                                        BigDecimal price,
-                                        String defaultCpm,
-                                        Integer width,
-                                        Integer height,
-                                        String cacheId,
-                                        String vastCacheId,
-                                        String format,
-                                        String dealId) {
-
-        final KeywordMap keywordMap = new KeywordMap(bidder, winningBid, includeWinners, includeBidderKeys,
-                Collections.emptySet());
+    private void makeFor(KeywordMap keywordMap,
+                         String bidder,
+                         BigDecimal price,
+                         String defaultCpm,
+                         Integer width,
+                         Integer height,
+                         String cacheId,
+                         String vastCacheId,
+                         String format,
+                         String dealId) {
 
         final String roundedCpm = isPriceGranularityValid() ? CpmRange.fromCpm(price, priceGranularity) : defaultCpm;
         keywordMap.put(HB_PB_KEY, roundedCpm);
@@ -210,8 +223,6 @@ public class TargetingKeywordsCreator {
         if (isApp) {
             keywordMap.put(HB_ENV_KEY, HB_ENV_APP_VALUE);
         }
-
-        return keywordMap.asMap();
     }
 
     /**
@@ -228,20 +239,30 @@ public class TargetingKeywordsCreator {
      */
     private static String sizeFrom(Integer width, Integer height) {
         return width != null && width != 0 && height != null && height != 0
-                ? String.format("%sx%s", width, height)
+                ? width + "x" + height
                 : null;
     }
 
-    private Map<String, String> truncateKeys(Map<String, String> keyValues) {
-        return truncateAttrChars > 0
-                ? keyValues.entrySet().stream()
-                .collect(Collectors
-                        .toMap(keyValue -> truncateKey(keyValue.getKey()), Map.Entry::getValue, (key1, key2) -> key1))
-                : keyValues;
+    private Map<String, String> bidderKeyNames(String bidder) {
+        return bidderToKeyNames.computeIfAbsent(bidder,
+                key -> keyNames(prefix -> prefix + "_" + key, truncateAttrChars));
+    }
+
+    /**
+     * Creates targeting key names by key prefixes.
+     */
+    private static Map<String, String> keyNames(Function<String, String> prefixToKey, int truncateAttrChars) {
+        return KEY_PREFIXES.stream()
+                .collect(Collectors.toMap(Function.identity(),
+                        prefix -> truncateKey(prefixToKey.apply(prefix), truncateAttrChars)));
     }
 
     private String truncateKey(String key) {
-        return key.length() > truncateAttrChars
+        return truncateKey(key, truncateAttrChars);
+    }
+
+    private static String truncateKey(String key, int truncateAttrChars) {
+        return truncateAttrChars > 0 && key.length() > truncateAttrChars
                 ? key.substring(0, truncateAttrChars)
                 : key;
     }
@@ -250,46 +271,29 @@ public class TargetingKeywordsCreator {
      * Helper for targeting keywords.
      * <p>
      * Brings a convenient way for creating keywords regarding to bidder and winning bid flag.
+     * Keywords which are already present are not overridden.
      */
     private static class KeywordMap {
 
-        private final String bidder;
-        private final boolean winningBid;
-        private final boolean includeWinners;
-        private final boolean includeBidderKeys;
-        private final Set<String> excludedBidderKeys;
-
         private final Map<String, String> keywords;
-
-        KeywordMap(String bidder, boolean winningBid, boolean includeWinners, boolean includeBidderKeys,
-                   Set<String> excludedBidderKeys) {
-            this.bidder = bidder;
-            this.winningBid = winningBid;
-            this.includeWinners = includeWinners;
-            this.includeBidderKeys = includeBidderKeys;
-            this.excludedBidderKeys = excludedBidderKeys;
-
-            this.keywords = new HashMap<>();
+        private final Map<String, String> bidderKeyNames;
+        private final Map<String, String> winningBidKeyNames;
+
+        KeywordMap(Map<String, String> keywords, Map<String, String> bidderKeyNames,
+                   Map<String, String> winningBidKeyNames) {
+            this.keywords = keywords;
+            this.bidderKeyNames = bidderKeyNames;
+            this.winningBidKeyNames = winningBidKeyNames;
         }
 
         void put(String prefix, String value) {
-            createKeys(prefix).forEach(key -> keywords.put(key, value));
-        }
-
-        private List<String> createKeys(String prefix) {
-            final List<String> keys = new ArrayList<>(2);
-            if (includeBidderKeys && !excludedBidderKeys.contains(prefix)) {
-                keys.add(String.format("%s_%s", prefix, bidder));
+            if (bidderKeyNames != null) {
+                keywords.putIfAbsent(bidderKeyNames.get(prefix), value);
             }
             // For the top bid, we want to put additional keys apart from bidder-suffixed
-            if (winningBid && includeWinners) {
-                keys.add(prefix);
+            if (winningBidKeyNames != null) {
+                keywords.putIfAbsent(winningBidKeyNames.get(prefix), value);
             }
-            return keys;
-        }
-
-        private Map<String, String> asMap() {
-            return keywords;
         }
     }
 }
@@ -1,8 +1,11 @@
 package org.prebid.server.auction;
 
+import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Imp;
 import com.iab.openrtb.response.Bid;
+import lombok.Value;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.json.JacksonMapper;
@@ -19,18 +22,31 @@ import java.util.Objects;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+/**
+ * Resolves targeting keywords defined by ad server targeting rules of the bid request.
+ * <p>
+ * Rules are compiled to {@link JsonPointer}s once, bid request is converted to tree once and imps are converted
+ * on first use, so resolving keywords for each bid doesn't involve conversion of the whole request.
+ * Instances are not thread-safe and are meant to be used while building the response to a single request.
+ */
 public class TargetingKeywordsResolver {
 
     public static final String IMP_PREFIX = "imp.";
     public static final String SEATBID_BID_PREFIX = "seatbid.bid.";
     public static final String BIDDER_MACRO = "{{BIDDER}}";
 
+    private static final String EXT_PROPERTY = "ext";
+
     private final BidRequest bidRequest;
     private final JacksonMapper mapper;
 
     private final Map<String, String> staticAndRequestKeywords;
-    private final List<ExtRequestPrebidAdservertargetingRule> impRequestRules;
-    private final List<ExtRequestPrebidAdservertargetingRule> responseRules;
+    private final List<CompiledRule> impRequestRules;
+    private final List<CompiledRule> responseRules;
+    private final boolean responseRulesNeedBidTree;
+
+    private final Map<String, JsonNode> impIdToImpNode;
+    private Map<String, Imp> impIdToImp;
 
     private TargetingKeywordsResolver(BidRequest bidRequest, JacksonMapper mapper) {
         this.bidRequest = Objects.requireNonNull(bidRequest);
@@ -40,7 +56,10 @@ public class TargetingKeywordsResolver {
 
         this.impRequestRules = impRequestRules(rulesBySource);
         this.responseRules = responseRules(rulesBySource);
+        this.responseRulesNeedBidTree = responseRules.stream().anyMatch(rule -> !rule.isExtPath());
         this.staticAndRequestKeywords = resolveStaticAndRequestKeywords(rulesBySource);
+
+        this.impIdToImpNode = new HashMap<>();
     }
 
     public static TargetingKeywordsResolver create(BidRequest bidRequest, JacksonMapper mapper) {
@@ -49,8 +68,8 @@ public class TargetingKeywordsResolver {
 
     public Map<String, String> resolve(Bid bid, String bidder) {
         final Map<String, String> result = new HashMap<>(staticAndRequestKeywords);
-        result.putAll(resolveImpRequestKeywords(bid));
-        result.putAll(resolveResponseKeywords(bid, bidder));
+        resolveImpRequestKeywords(bid, result);
+        resolveResponseKeywords(bid, bidder, result);
 
         return result;
     }
@@ -66,19 +85,21 @@ public class TargetingKeywordsResolver {
                 .collect(Collectors.groupingBy(ExtRequestPrebidAdservertargetingRule::getSource));
     }
 
-    private static List<ExtRequestPrebidAdservertargetingRule> impRequestRules(
+    private static List<CompiledRule> impRequestRules(
             Map<Source, List<ExtRequestPrebidAdservertargetingRule>> rulesBySource) {
 
         return rulesBySource.getOrDefault(Source.bidrequest, Collections.emptyList()).stream()
                 .filter(TargetingKeywordsResolver::hasImpPath)
+                .map(rule -> CompiledRule.of(rule, IMP_PREFIX))
                 .collect(Collectors.toList());
     }
 
-    private static List<ExtRequestPrebidAdservertargetingRule> responseRules(
+    private static List<CompiledRule> responseRules(
             Map<Source, List<ExtRequestPrebidAdservertargetingRule>> rulesBySource) {
 
         return rulesBySource.getOrDefault(Source.bidresponse, Collections.emptyList()).stream()
                 .filter(TargetingKeywordsResolver::hasSeatbidBidPath)
+                .map(rule -> CompiledRule.of(rule, SEATBID_BID_PREFIX))
                 .collect(Collectors.toList());
     }
 
@@ -104,41 +125,38 @@ public class TargetingKeywordsResolver {
     private Map<String, String> resolveRequestKeywords(
             Map<Source, List<ExtRequestPrebidAdservertargetingRule>> rulesBySource) {
 
-        final List<ExtRequestPrebidAdservertargetingRule> requestRules = requestRules(rulesBySource);
+        final List<CompiledRule> requestRules = requestRules(rulesBySource);
 
+        final Map<String, String> result = new HashMap<>();
         if (!requestRules.isEmpty()) {
-            return lookupValues(
-                    mapper.mapper().valueToTree(bidRequest),
-                    requestRules,
-                    Function.identity(),
-                    Function.identity());
+            final JsonNode requestNode = mapper.mapper().valueToTree(bidRequest);
+            for (final CompiledRule rule : requestRules) {
+                putIfNotBlank(result, rule.getKey(), lookupValue(requestNode, rule.getPath()));
+            }
         }
 
-        return Collections.emptyMap();
+        return result;
     }
 
-    private static List<ExtRequestPrebidAdservertargetingRule> requestRules(
+    private static List<CompiledRule> requestRules(
             Map<Source, List<ExtRequestPrebidAdservertargetingRule>> rulesBySource) {
 
         return rulesBySource.getOrDefault(Source.bidrequest, Collections.emptyList()).stream()
                 .filter(rule -> !hasImpPath(rule))
+                .map(rule -> CompiledRule.of(rule, StringUtils.EMPTY))
                 .collect(Collectors.toList());
     }
 
-    private Map<String, String> resolveImpRequestKeywords(Bid bid) {
+    private void resolveImpRequestKeywords(Bid bid, Map<String, String> result) {
         if (!impRequestRules.isEmpty()) {
             final JsonNode impNode = locateImp(bid);
 
             if (impNode != null) {
-                return lookupValues(
-                        impNode,
-                        impRequestRules,
-                        value -> StringUtils.substringAfter(value, IMP_PREFIX),
-                        Function.identity());
+                for (final CompiledRule rule : impRequestRules) {
+                    putIfNotBlank(result, rule.getKey(), lookupValue(impNode, rule.getPath()));
+                }
             }
         }
-
-        return Collections.emptyMap();
     }
 
     private JsonNode locateImp(Bid bid) {
@@ -147,23 +165,29 @@ public class TargetingKeywordsResolver {
             return null;
         }
 
-        return bidRequest.getImp().stream()
-                .filter(imp -> Objects.equals(imp.getId(), impid))
-                .findFirst()
-                .<JsonNode>map(imp -> mapper.mapper().valueToTree(imp))
-                .orElse(null);
+        if (impIdToImp == null) {
+            impIdToImp = bidRequest.getImp().stream()
+                    .collect(Collectors.toMap(Imp::getId, Function.identity(), (imp1, imp2) -> imp1));
+        }
+
+        final Imp imp = impIdToImp.get(impid);
+        return imp != null
+                ? impIdToImpNode.computeIfAbsent(impid, ignored -> mapper.mapper().valueToTree(imp))
+                : null;
     }
 
-    private Map<String, String> resolveResponseKeywords(Bid bid, String bidder) {
+    private void resolveResponseKeywords(Bid bid, String bidder, Map<String, String> result) {
         if (!responseRules.isEmpty()) {
-            return lookupValues(
-                    mapper.mapper().valueToTree(bid),
-                    responseRules,
-                    value -> StringUtils.substringAfter(value, SEATBID_BID_PREFIX),
-                    key -> StringUtils.replace(key, BIDDER_MACRO, bidder));
+            final JsonNode bidNode = responseRulesNeedBidTree ? mapper.mapper().valueToTree(bid) : null;
+            final JsonNode bidExt = bid.getExt();
+
+            for (final CompiledRule rule : responseRules) {
+                final String value = rule.isExtPath()
+                        ? bidExt != null ? lookupValue(bidExt, rule.getPath().tail()) : null
+                        : lookupValue(bidNode, rule.getPath());
+                putIfNotBlank(result, rule.keyFor(bidder), value);
+            }
         }
-
-        return Collections.emptyMap();
     }
 
     private static boolean isValid(ExtRequestPrebidAdservertargetingRule rule) {
@@ -180,33 +204,45 @@ public class TargetingKeywordsResolver {
         return rule.getValue().startsWith(SEATBID_BID_PREFIX);
     }
 
-    private static Map<String, String> lookupValues(
-            JsonNode node,
-            List<ExtRequestPrebidAdservertargetingRule> rules,
-            Function<String, String> pathValueMapper,
-            Function<String, String> keyMapper) {
-
-        final Map<String, String> result = new HashMap<>();
-
-        for (final ExtRequestPrebidAdservertargetingRule rule : rules) {
-            final String lookupResult = lookupValue(node, pathValueMapper.apply(rule.getValue()));
-            if (StringUtils.isNotBlank(lookupResult)) {
-                result.put(keyMapper.apply(rule.getKey()), lookupResult);
-            }
+    private static void putIfNotBlank(Map<String, String> result, String key, String value) {
+        if (StringUtils.isNotBlank(value)) {
+            result.put(key, value);
         }
-
-        return result;
-    }
-
-    private static String lookupValue(JsonNode impNode, String value) {
-        return impNode.at(toPath(value)).asText();
     }
 
-    private static String toPath(String value) {
-        return String.format("/%s", value.replaceAll("\\.", "/"));
+    private static String lookupValue(JsonNode node, JsonPointer path) {
+        return node.at(path).asText();
     }
 
     private static <T, U> U get(T target, Function<T, U> getter) {
         return target != null ? getter.apply(target) : null;
     }
+
+    /**
+     * Ad server targeting rule with value path compiled to {@link JsonPointer}.
+     */
+    @Value(staticConstructor = "of")
+    private static class CompiledRule {
+
+        String key;
+
+        boolean keyHasBidderMacro;
+
+        JsonPointer path;
+
+        boolean extPath;
+
+        static CompiledRule of(ExtRequestPrebidAdservertargetingRule rule, String pathPrefix) {
+            final JsonPointer path = toPath(StringUtils.substringAfter(rule.getValue(), pathPrefix));
+            return of(rule.getKey(), rule.getKey().contains(BIDDER_MACRO), path, path.matchesProperty(EXT_PROPERTY));
+        }
+
+        String keyFor(String bidder) {
+            return keyHasBidderMacro ? StringUtils.replace(key, BIDDER_MACRO, bidder) : key;
+        }
+
+        private static JsonPointer toPath(String value) {
+            return JsonPointer.compile(String.format("/%s", value.replaceAll("\\.", "/")));
+        }
+    }
 }
@@ -87,6 +87,7 @@ public class AmpRequestFactory {
     private final Ortb2ImplicitParametersResolver paramsResolver;
     private final FpdResolver fpdResolver;
     private final PrivacyEnforcementService privacyEnforcementService;
+    private final TcfDefinerService tcfDefinerService;
     private final TimeoutResolver timeoutResolver;
     private final JacksonMapper mapper;
 
@@ -97,6 +98,7 @@ public class AmpRequestFactory {
                              Ortb2ImplicitParametersResolver paramsResolver,
                              FpdResolver fpdResolver,
                              PrivacyEnforcementService privacyEnforcementService,
+                             TcfDefinerService tcfDefinerService,
                              TimeoutResolver timeoutResolver,
                              JacksonMapper mapper) {
 
@@ -108,6 +110,7 @@ public class AmpRequestFactory {
         this.fpdResolver = Objects.requireNonNull(fpdResolver);
         this.timeoutResolver = Objects.requireNonNull(timeoutResolver);
         this.privacyEnforcementService = Objects.requireNonNull(privacyEnforcementService);
+        this.tcfDefinerService = Objects.requireNonNull(tcfDefinerService);
         this.mapper = Objects.requireNonNull(mapper);
     }
 
@@ -281,7 +284,7 @@ public class AmpRequestFactory {
         String gdprConsent = null;
         String ccpaConsent = null;
         if (StringUtils.isNotBlank(consentString)) {
-            gdprConsent = TcfDefinerService.isConsentStringValid(consentString) ? consentString : null;
+            gdprConsent = tcfDefinerService.isConsentStringValid(consentString) ? consentString : null;
             ccpaConsent = Ccpa.isValid(consentString) ? consentString : null;
 
             if (StringUtils.isAllBlank(gdprConsent, ccpaConsent)) {
@@ -3,7 +3,9 @@ package org.prebid.server.auction.requestfactory;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.iab.openrtb.request.BidRequest;
+import io.netty.buffer.ByteBufInputStream;
 import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.ext.web.RoutingContext;
 import org.prebid.server.auction.ImplicitParametersExtractor;
 import org.prebid.server.auction.InterstitialProcessor;
@@ -66,7 +68,7 @@ public class AuctionRequestFactory {
      */
     public Future<AuctionContext> fromRequest(RoutingContext routingContext, long startTime) {
         final List<String> errors = new ArrayList<>();
-        final String body;
+        final Buffer body;
         try {
             body = extractAndValidateBody(routingContext);
         } catch (InvalidRequestException e) {
@@ -95,8 +97,8 @@ public class AuctionRequestFactory {
                                 auctionContext.getPrivacyContext())));
     }
 
-    private String extractAndValidateBody(RoutingContext context) {
-        final String body = context.getBodyAsString();
+    private Buffer extractAndValidateBody(RoutingContext context) {
+        final Buffer body = context.getBody();
         if (body == null) {
             throw new InvalidRequestException("Incoming request has no body");
         }
@@ -109,12 +111,12 @@ public class AuctionRequestFactory {
         return body;
     }
 
-    private Future<BidRequest> parseBidRequest(String body, RoutingContext context, List<String> errors) {
+    private Future<BidRequest> parseBidRequest(Buffer body, RoutingContext context, List<String> errors) {
         try {
             final JsonNode bidRequestNode = bodyAsJsonNode(body);
 
             final String referer = paramsExtractor.refererFrom(context.request());
-            ortbTypesResolver.normalizeBidRequest(bidRequestNode, errors, referer);
+            ortbTypesResolver.normalizeBidRequest(bidRequestNode, errors, referer, body::toString);
 
             return Future.succeededFuture(jsonNodeAsBidRequest(bidRequestNode));
         } catch (Exception e) {
@@ -122,6 +124,19 @@ public class AuctionRequestFactory {
         }
     }
 
+    /**
+     * Reads request body bytes directly from {@link Buffer} without decoding them to intermediate {@link String}.
+     * <p>
+     * Invalid body is read once again from {@link String} to report the offending snippet in error message.
+     */
+    private JsonNode bodyAsJsonNode(Buffer body) {
+        try {
+            return mapper.mapper().readTree(new ByteBufInputStream(body.getByteBuf()));
+        } catch (IOException e) {
+            return bodyAsJsonNode(body.toString());
+        }
+    }
+
     private JsonNode bodyAsJsonNode(String body) {
         try {
             return mapper.mapper().readTree(body);
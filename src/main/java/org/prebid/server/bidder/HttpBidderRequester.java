@@ -180,12 +180,23 @@ public class HttpBidderRequester {
             return failResponse(new TimeoutException("Timeout has been exceeded"), httpRequest);
         }
 
-        return httpClient.request(httpRequest.getMethod(), httpRequest.getUri(), httpRequest.getHeaders(),
-                httpRequest.getBody(), remainingTimeout)
+        return sendRequest(httpRequest, remainingTimeout)
                 .compose(response -> processResponse(response, httpRequest))
                 .recover(exception -> failResponse(exception, httpRequest));
     }
 
+    /**
+     * Sends request body as is if it was already encoded to bytes by bidder, or as string otherwise.
+     */
+    private <T> Future<HttpClientResponse> sendRequest(HttpRequest<T> httpRequest, long timeout) {
+        final byte[] bodyBytes = httpRequest.getBodyBytes();
+        return bodyBytes != null
+                ? httpClient.requestBytes(httpRequest.getMethod(), httpRequest.getUri(), httpRequest.getHeaders(),
+                bodyBytes, timeout)
+                : httpClient.request(httpRequest.getMethod(), httpRequest.getUri(), httpRequest.getHeaders(),
+                httpRequest.getBody(), timeout);
+    }
+
     /**
      * Produces {@link Future} with {@link HttpCall} containing request and error description.
      */
@@ -210,7 +221,8 @@ public class HttpBidderRequester {
     private static <T> Future<HttpCall<T>> processResponse(HttpClientResponse response, HttpRequest<T> httpRequest) {
         final int statusCode = response.getStatusCode();
         return Future.succeededFuture(HttpCall.success(httpRequest,
-                HttpResponse.of(statusCode, response.getHeaders(), response.getBody()), errorOrNull(statusCode)));
+                HttpResponse.ofBuffer(statusCode, response.getHeaders(), response.getBodyBuffer()),
+                errorOrNull(statusCode)));
     }
 
     /**
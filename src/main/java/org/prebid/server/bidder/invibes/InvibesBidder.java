@@ -278,7 +278,7 @@ public class InvibesBidder implements Bidder<InvibesBidRequest> {
     public final Result<List<BidderBid>> makeBids(HttpCall<InvibesBidRequest> httpCall, BidRequest bidRequest) {
         try {
             final InvibesBidderResponse bidResponse =
-                    mapper.decodeValue(httpCall.getResponse().getBody(), InvibesBidderResponse.class);
+                    mapper.decodeValue(httpCall.getResponse().getBodyBuffer(), InvibesBidderResponse.class);
             if (bidResponse != null && StringUtils.isNotBlank(bidResponse.getError())) {
                 return Result.withError(
                         BidderError.badServerResponse(String.format("Server error: %s.", bidResponse.getError())));
@@ -2,13 +2,22 @@ package org.prebid.server.bidder.model;
 
 import io.vertx.core.MultiMap;
 import io.vertx.core.http.HttpMethod;
+import lombok.AccessLevel;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
 import lombok.Value;
+import lombok.experimental.NonFinal;
+
+import java.nio.charset.StandardCharsets;
 
 /**
  * Packages together the fields needed to make an http request.
+ * <p>
+ * Body is given either as {@link String} or as bytes already encoded to UTF-8, setting one of them in builder
+ * discards the other one.
  */
-@Builder(toBuilder = true)
 @Value
 public class HttpRequest<T> {
 
@@ -18,7 +27,69 @@ public class HttpRequest<T> {
 
     String body;
 
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    byte[] bodyBytes;
+
     MultiMap headers;
 
     T payload;
+
+    @NonFinal
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    volatile String decodedBody;
+
+    @Builder(toBuilder = true)
+    private HttpRequest(HttpMethod method, String uri, String body, byte[] bodyBytes, MultiMap headers, T payload) {
+        this.method = method;
+        this.uri = uri;
+        this.body = body;
+        this.bodyBytes = bodyBytes;
+        this.headers = headers;
+        this.payload = payload;
+    }
+
+    /**
+     * Returns request body regardless of the form it was given in, body bytes are decoded only once.
+     */
+    public String getBody() {
+        if (body != null || bodyBytes == null) {
+            return body;
+        }
+
+        String result = decodedBody;
+        if (result == null) {
+            result = new String(bodyBytes, StandardCharsets.UTF_8);
+            decodedBody = result;
+        }
+        return result;
+    }
+
+    public static class HttpRequestBuilder<T> {
+
+        private String body;
+
+        private byte[] bodyBytes;
+
+        public HttpRequestBuilder<T> body(String body) {
+            this.body = body;
+            if (body != null) {
+                bodyBytes = null;
+            }
+            return this;
+        }
+
+        /**
+         * Sets request body already encoded to UTF-8 bytes, which is sent as is.
+         */
+        public HttpRequestBuilder<T> bodyBytes(byte[] bodyBytes) {
+            this.bodyBytes = bodyBytes;
+            if (bodyBytes != null) {
+                body = null;
+            }
+            return this;
+        }
+    }
 }
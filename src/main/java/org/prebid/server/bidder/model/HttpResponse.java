@@ -1,19 +1,58 @@
 package org.prebid.server.bidder.model;
 
 import io.vertx.core.MultiMap;
-import lombok.AllArgsConstructor;
-import lombok.Value;
+import io.vertx.core.buffer.Buffer;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
 
 /**
  * Packages together information from the server's http response.
+ * <p>
+ * Body is held the same way as in {@link org.prebid.server.vertx.http.model.HttpClientResponse}.
  */
-@AllArgsConstructor(staticName = "of")
-@Value
+@EqualsAndHashCode
+@ToString
 public class HttpResponse {
 
-    int statusCode;
+    @Getter
+    private final int statusCode;
 
-    MultiMap headers;
+    @Getter
+    private final MultiMap headers;
 
-    String body;
+    private volatile String body;
+
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private volatile Buffer bodyBuffer;
+
+    private HttpResponse(int statusCode, MultiMap headers, String body, Buffer bodyBuffer) {
+        this.statusCode = statusCode;
+        this.headers = headers;
+        this.body = body;
+        this.bodyBuffer = bodyBuffer;
+    }
+
+    public static HttpResponse of(int statusCode, MultiMap headers, String body) {
+        return new HttpResponse(statusCode, headers, body, null);
+    }
+
+    public static HttpResponse ofBuffer(int statusCode, MultiMap headers, Buffer body) {
+        return new HttpResponse(statusCode, headers, null, body);
+    }
+
+    public String getBody() {
+        if (body == null && bodyBuffer != null) {
+            body = bodyBuffer.toString();
+        }
+        return body;
+    }
+
+    public Buffer getBodyBuffer() {
+        if (bodyBuffer == null && body != null) {
+            bodyBuffer = Buffer.buffer(body);
+        }
+        return bodyBuffer;
+    }
 }
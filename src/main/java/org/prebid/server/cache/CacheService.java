@@ -27,6 +27,7 @@ import org.prebid.server.cache.proto.response.CacheObject;
 import org.prebid.server.events.EventsContext;
 import org.prebid.server.events.EventsService;
 import org.prebid.server.exception.PreBidException;
+import org.prebid.server.execution.LatencyEstimator;
 import org.prebid.server.execution.Timeout;
 import org.prebid.server.json.DecodeException;
 import org.prebid.server.json.JacksonMapper;
@@ -70,6 +71,7 @@ public class CacheService {
     private final VastModifier vastModifier;
     private final EventsService eventsService;
     private final Metrics metrics;
+    private final LatencyEstimator requestTimeEstimator;
     private final Clock clock;
     private final JacksonMapper mapper;
 
@@ -80,6 +82,7 @@ public class CacheService {
                         VastModifier vastModifier,
                         EventsService eventsService,
                         Metrics metrics,
+                        LatencyEstimator requestTimeEstimator,
                         Clock clock,
                         JacksonMapper mapper) {
 
@@ -90,6 +93,7 @@ public class CacheService {
         this.vastModifier = Objects.requireNonNull(vastModifier);
         this.eventsService = Objects.requireNonNull(eventsService);
         this.metrics = Objects.requireNonNull(metrics);
+        this.requestTimeEstimator = requestTimeEstimator;
         this.clock = Objects.requireNonNull(clock);
         this.mapper = Objects.requireNonNull(mapper);
     }
@@ -467,7 +471,11 @@ public class CacheService {
             throw new PreBidException("The number of response cache objects doesn't match with bids");
         }
 
-        metrics.updateCacheRequestSuccessTime(accountId, clock.millis() - startTime);
+        final long requestTime = responseTime(startTime);
+        if (requestTimeEstimator != null) {
+            requestTimeEstimator.update(requestTime);
+        }
+        metrics.updateCacheRequestSuccessTime(accountId, requestTime);
         return bidCacheResponse;
     }
 
@@ -25,8 +25,6 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Duration;
 import java.time.ZonedDateTime;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -46,6 +44,7 @@ public class CurrencyConversionService implements Initializable {
     private final JacksonMapper mapper;
 
     private Map<String, Map<String, BigDecimal>> externalCurrencyRates;
+    private volatile CurrencyRates compiledExternalCurrencyRates;
     private ZonedDateTime lastUpdated;
 
     public CurrencyConversionService(ExternalConversionProperties externalConversionProperties) {
@@ -113,6 +112,7 @@ public class CurrencyConversionService implements Initializable {
     private Void updateCurrencyRates(CurrencyConversionRates currencyConversionRates) {
         final Map<String, Map<String, BigDecimal>> receivedCurrencyRates = currencyConversionRates.getConversions();
         if (receivedCurrencyRates != null) {
+            compiledExternalCurrencyRates = CurrencyRates.of(receivedCurrencyRates).resolveAll();
             externalCurrencyRates = receivedCurrencyRates;
             lastUpdated = now();
         }
@@ -128,6 +128,7 @@ public class CurrencyConversionService implements Initializable {
 
         if (externalRatesAreStale()) {
             externalCurrencyRates = null;
+            compiledExternalCurrencyRates = null;
         }
 
         return null;
@@ -170,7 +171,18 @@ public class CurrencyConversionService implements Initializable {
      * Throws {@link PreBidException} in case conversion is not possible.
      */
     public BigDecimal convertCurrency(BigDecimal price, BidRequest bidRequest, String fromCurrency, String toCurrency) {
-        return convertCurrency(price, currencyRates(bidRequest), fromCurrency, toCurrency, usepbsrates(bidRequest));
+        return convertCurrency(price, requestCurrencyRates(bidRequest), fromCurrency, toCurrency,
+                usepbsrates(bidRequest));
+    }
+
+    /**
+     * Does the same as {@link #convertCurrency(BigDecimal, BidRequest, String, String)} but takes rates from
+     * {@link BidRequest} already compiled by {@link #requestCurrencyRates(BidRequest)}, which allows to compile them
+     * once for all conversions made for the same request.
+     */
+    public BigDecimal convertCurrency(BigDecimal price, BidRequest bidRequest, CurrencyRates requestCurrencyRates,
+                                      String fromCurrency, String toCurrency) {
+        return convertCurrency(price, requestCurrencyRates, fromCurrency, toCurrency, usepbsrates(bidRequest));
     }
 
     /**
@@ -179,7 +191,7 @@ public class CurrencyConversionService implements Initializable {
      * is true.
      * Throws {@link PreBidException} in case conversion is not possible.
      */
-    private BigDecimal convertCurrency(BigDecimal price, Map<String, Map<String, BigDecimal>> requestCurrencyRates,
+    private BigDecimal convertCurrency(BigDecimal price, CurrencyRates requestCurrencyRates,
                                       String adServerCurrency, String bidCurrency, Boolean usepbsrates) {
         // use Default USD currency if bidder left this field empty. After, when bidder will implement multi currency
         // support it will be changed to throwing PrebidException.
@@ -189,14 +201,15 @@ public class CurrencyConversionService implements Initializable {
             return price;
         }
 
-        final Map<String, Map<String, BigDecimal>> firstPriorityRates;
-        final Map<String, Map<String, BigDecimal>> secondPriorityRates;
+        final CurrencyRates externalRates = compiledExternalCurrencyRates;
+        final CurrencyRates firstPriorityRates;
+        final CurrencyRates secondPriorityRates;
 
         if (BooleanUtils.isFalse(usepbsrates)) {
             firstPriorityRates = requestCurrencyRates;
-            secondPriorityRates = externalCurrencyRates;
+            secondPriorityRates = externalRates;
         } else {
-            firstPriorityRates = externalCurrencyRates;
+            firstPriorityRates = externalRates;
             secondPriorityRates = requestCurrencyRates;
         }
 
@@ -212,10 +225,15 @@ public class CurrencyConversionService implements Initializable {
         return price.divide(conversionRate, DEFAULT_PRICE_PRECISION, RoundingMode.HALF_EVEN);
     }
 
-    private static Map<String, Map<String, BigDecimal>> currencyRates(BidRequest bidRequest) {
+    /**
+     * Compiles currency rates defined in {@link BidRequest} or returns null if request has no rates.
+     */
+    public CurrencyRates requestCurrencyRates(BidRequest bidRequest) {
         final ExtRequestPrebid prebid = extRequestPrebid(bidRequest);
         final ExtRequestCurrency currency = prebid != null ? prebid.getCurrency() : null;
-        return currency != null ? currency.getRates() : null;
+        final Map<String, Map<String, BigDecimal>> rates = currency != null ? currency.getRates() : null;
+
+        return MapUtils.isNotEmpty(rates) ? CurrencyRates.of(rates) : null;
     }
 
     private static ExtRequestPrebid extRequestPrebid(BidRequest bidRequest) {
@@ -232,8 +250,8 @@ public class CurrencyConversionService implements Initializable {
     /**
      * Returns conversion rate from the given currency rates according to priority.
      */
-    private static BigDecimal getConversionRateByPriority(Map<String, Map<String, BigDecimal>> firstPriorityRates,
-                                                          Map<String, Map<String, BigDecimal>> secondPriorityRates,
+    private static BigDecimal getConversionRateByPriority(CurrencyRates firstPriorityRates,
+                                                          CurrencyRates secondPriorityRates,
                                                           String adServerCurrency,
                                                           String effectiveBidCurrency) {
 
@@ -242,75 +260,11 @@ public class CurrencyConversionService implements Initializable {
                 getConversionRate(secondPriorityRates, adServerCurrency, effectiveBidCurrency));
     }
 
-    /**
-     * Looking for rates for adServerCurrency - bidCurrency pair, using such approaches as straight, reverse and
-     * intermediate rates.
-     */
-    private static BigDecimal getConversionRate(Map<String, Map<String, BigDecimal>> currencyConversionRates,
-                                                String adServerCurrency, String bidCurrency) {
-        if (MapUtils.isEmpty(currencyConversionRates)) {
-            return null;
-        }
-
-        BigDecimal conversionRate;
-        final Map<String, BigDecimal> serverCurrencyRates = currencyConversionRates.get(adServerCurrency);
-
-        conversionRate = serverCurrencyRates != null ? serverCurrencyRates.get(bidCurrency) : null;
-        if (conversionRate != null) {
-            return conversionRate;
-        }
-
-        final Map<String, BigDecimal> bidCurrencyRates = currencyConversionRates.get(bidCurrency);
-        conversionRate = findReverseConversionRate(bidCurrencyRates, adServerCurrency);
-        if (conversionRate != null) {
-            return conversionRate;
-        }
-
-        return findIntermediateConversionRate(serverCurrencyRates, bidCurrencyRates);
-    }
-
-    /**
-     * Finds reverse conversion rate.
-     * If pair USD : EUR - 1.2 is present and EUR to USD conversion is needed, will return 1/1.2 conversion rate.
-     */
-    private static BigDecimal findReverseConversionRate(Map<String, BigDecimal> bidCurrencyRates,
-                                                        String adServerCurrency) {
-        final BigDecimal reverseConversionRate = bidCurrencyRates != null
-                ? bidCurrencyRates.get(adServerCurrency)
-                : null;
-
-        return reverseConversionRate != null
-                ? BigDecimal.ONE.divide(reverseConversionRate, reverseConversionRate.precision(),
-                RoundingMode.HALF_EVEN)
-                : null;
-    }
+    private static BigDecimal getConversionRate(CurrencyRates currencyRates,
+                                                String adServerCurrency,
+                                                String bidCurrency) {
 
-    /**
-     * Finds intermediate conversion rate.
-     * If pairs USD : AUD - 1.2 and EUR : AUD - 1.5 are present, and EUR to USD conversion is needed, will return
-     * (1/1.5) * 1.2 conversion rate.
-     */
-    private static BigDecimal findIntermediateConversionRate(Map<String, BigDecimal> adServerCurrencyRates,
-                                                             Map<String, BigDecimal> bidCurrencyRates) {
-        BigDecimal conversionRate = null;
-        if (MapUtils.isNotEmpty(adServerCurrencyRates) && MapUtils.isNotEmpty(bidCurrencyRates)) {
-            final List<String> sharedCurrencies = new ArrayList<>(adServerCurrencyRates.keySet());
-            sharedCurrencies.retainAll(bidCurrencyRates.keySet());
-
-            if (!sharedCurrencies.isEmpty()) {
-                // pick any found shared currency
-                final String sharedCurrency = sharedCurrencies.get(0);
-                final BigDecimal adServerCurrencyRateIntermediate = adServerCurrencyRates.get(sharedCurrency);
-                final BigDecimal bidCurrencyRateIntermediate = bidCurrencyRates.get(sharedCurrency);
-                conversionRate = adServerCurrencyRateIntermediate.divide(bidCurrencyRateIntermediate,
-                        // chose largest precision among intermediate rates
-                        bidCurrencyRateIntermediate.compareTo(adServerCurrencyRateIntermediate) > 0
-                                ? bidCurrencyRateIntermediate.precision()
-                                : adServerCurrencyRateIntermediate.precision(),
-                        RoundingMode.HALF_EVEN);
-            }
-        }
-        return conversionRate;
+        return currencyRates != null ? currencyRates.rate(adServerCurrency, bidCurrency) : null;
     }
 
     private boolean isRatesStale() {
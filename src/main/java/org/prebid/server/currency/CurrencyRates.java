@@ -0,0 +1,179 @@
+package org.prebid.server.currency;
+
+import org.apache.commons.collections4.MapUtils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Currency conversion rates compiled into the matrix indexed by currency ordinals.
+ * <p>
+ * Conversion rate for each pair of currencies is resolved by straight, reverse or intermediate rate only once,
+ * so subsequent conversions between the same currencies take the rate from the matrix.
+ * <p>
+ * Instances are created by {@link CurrencyConversionService} only and are opaque to other packages.
+ */
+public class CurrencyRates {
+
+    /**
+     * Marks matrix cells of currency pairs which can't be converted.
+     */
+    private static final BigDecimal NO_RATE = new BigDecimal(-1);
+
+    private final Map<String, Map<String, BigDecimal>> rates;
+    private final Map<String, Integer> currencyToOrdinal;
+    private final String[] currencies;
+    private final BigDecimal[][] matrix;
+
+    private CurrencyRates(Map<String, Map<String, BigDecimal>> rates, Map<String, Integer> currencyToOrdinal) {
+        this.rates = rates;
+        this.currencyToOrdinal = currencyToOrdinal;
+
+        final int size = currencyToOrdinal.size();
+        this.currencies = new String[size];
+        currencyToOrdinal.forEach((currency, ordinal) -> currencies[ordinal] = currency);
+        this.matrix = new BigDecimal[size][size];
+    }
+
+    /**
+     * Creates {@link CurrencyRates} from the given rates, which are expected to be in format
+     * {@code {"USD": {"EUR": 0.8}}} meaning 1 USD costs 0.8 EUR.
+     * <p>
+     * Rates are resolved lazily, use {@link #resolveAll()} to resolve them at once.
+     */
+    static CurrencyRates of(Map<String, Map<String, BigDecimal>> rates) {
+        final Map<String, Map<String, BigDecimal>> validRates = new LinkedHashMap<>();
+        final Map<String, Integer> currencyToOrdinal = new HashMap<>();
+
+        if (rates != null) {
+            for (Map.Entry<String, Map<String, BigDecimal>> currencyToRates : rates.entrySet()) {
+                final String currency = currencyToRates.getKey();
+                final Map<String, BigDecimal> currencyRates = currencyToRates.getValue();
+                if (currency == null || currencyRates == null) {
+                    continue;
+                }
+
+                final Map<String, BigDecimal> validCurrencyRates = new LinkedHashMap<>();
+                currencyRates.forEach((otherCurrency, rate) -> {
+                    if (otherCurrency != null && rate != null) {
+                        validCurrencyRates.put(otherCurrency, rate);
+                        currencyToOrdinal.putIfAbsent(otherCurrency, currencyToOrdinal.size());
+                    }
+                });
+                validRates.put(currency, validCurrencyRates);
+                currencyToOrdinal.putIfAbsent(currency, currencyToOrdinal.size());
+            }
+        }
+
+        return new CurrencyRates(validRates, currencyToOrdinal);
+    }
+
+    /**
+     * Resolves conversion rates for all pairs of currencies.
+     */
+    CurrencyRates resolveAll() {
+        for (int adServerOrdinal = 0; adServerOrdinal < matrix.length; adServerOrdinal++) {
+            for (int bidOrdinal = 0; bidOrdinal < matrix.length; bidOrdinal++) {
+                rate(adServerOrdinal, bidOrdinal);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Returns conversion rate for adServerCurrency - bidCurrency pair or null if currencies can't be converted.
+     */
+    BigDecimal rate(String adServerCurrency, String bidCurrency) {
+        final Integer adServerOrdinal = adServerCurrency != null ? currencyToOrdinal.get(adServerCurrency) : null;
+        final Integer bidOrdinal = bidCurrency != null ? currencyToOrdinal.get(bidCurrency) : null;
+
+        return adServerOrdinal != null && bidOrdinal != null ? rate(adServerOrdinal, bidOrdinal) : null;
+    }
+
+    /**
+     * Takes conversion rate from the matrix or resolves it if it wasn't resolved yet.
+     * <p>
+     * Concurrent resolving of the same rate yields the same value, so matrix cells are not guarded.
+     */
+    private BigDecimal rate(int adServerOrdinal, int bidOrdinal) {
+        BigDecimal rate = matrix[adServerOrdinal][bidOrdinal];
+        if (rate == null) {
+            rate = resolveRate(currencies[adServerOrdinal], currencies[bidOrdinal]);
+            // zero rates can't be used for conversion
+            if (rate == null || rate.signum() == 0) {
+                rate = NO_RATE;
+            }
+            matrix[adServerOrdinal][bidOrdinal] = rate;
+        }
+        return rate != NO_RATE ? rate : null;
+    }
+
+    /**
+     * Looking for rates for adServerCurrency - bidCurrency pair, using such approaches as straight, reverse and
+     * intermediate rates.
+     */
+    private BigDecimal resolveRate(String adServerCurrency, String bidCurrency) {
+        final Map<String, BigDecimal> serverCurrencyRates = rates.getOrDefault(adServerCurrency,
+                Collections.emptyMap());
+        final BigDecimal conversionRate = serverCurrencyRates.get(bidCurrency);
+        if (conversionRate != null) {
+            return conversionRate;
+        }
+
+        final Map<String, BigDecimal> bidCurrencyRates = rates.getOrDefault(bidCurrency, Collections.emptyMap());
+        try {
+            final BigDecimal reverseConversionRate = findReverseConversionRate(bidCurrencyRates, adServerCurrency);
+            return reverseConversionRate != null
+                    ? reverseConversionRate
+                    : findIntermediateConversionRate(serverCurrencyRates, bidCurrencyRates);
+        } catch (ArithmeticException e) {
+            // zero rates can't be used for conversion
+            return null;
+        }
+    }
+
+    /**
+     * Finds reverse conversion rate.
+     * If pair USD : EUR - 1.2 is present and EUR to USD conversion is needed, will return 1/1.2 conversion rate.
+     */
+    private static BigDecimal findReverseConversionRate(Map<String, BigDecimal> bidCurrencyRates,
+                                                        String adServerCurrency) {
+        final BigDecimal reverseConversionRate = bidCurrencyRates.get(adServerCurrency);
+
+        return reverseConversionRate != null
+                ? BigDecimal.ONE.divide(reverseConversionRate, reverseConversionRate.precision(),
+                RoundingMode.HALF_EVEN)
+                : null;
+    }
+
+    /**
+     * Finds intermediate conversion rate.
+     * If pairs USD : AUD - 1.2 and EUR : AUD - 1.5 are present, and EUR to USD conversion is needed, will return
+     * (1/1.5) * 1.2 conversion rate.
+     */
+    private static BigDecimal findIntermediateConversionRate(Map<String, BigDecimal> adServerCurrencyRates,
+                                                             Map<String, BigDecimal> bidCurrencyRates) {
+        if (MapUtils.isEmpty(adServerCurrencyRates) || MapUtils.isEmpty(bidCurrencyRates)) {
+            return null;
+        }
+
+        // pick the first found shared currency
+        for (Map.Entry<String, BigDecimal> sharedCurrencyRate : adServerCurrencyRates.entrySet()) {
+            final BigDecimal bidCurrencyRateIntermediate = bidCurrencyRates.get(sharedCurrencyRate.getKey());
+            if (bidCurrencyRateIntermediate != null) {
+                final BigDecimal adServerCurrencyRateIntermediate = sharedCurrencyRate.getValue();
+                return adServerCurrencyRateIntermediate.divide(bidCurrencyRateIntermediate,
+                        // chose largest precision among intermediate rates
+                        bidCurrencyRateIntermediate.compareTo(adServerCurrencyRateIntermediate) > 0
+                                ? bidCurrencyRateIntermediate.precision()
+                                : adServerCurrencyRateIntermediate.precision(),
+                        RoundingMode.HALF_EVEN);
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,151 @@
+package org.prebid.server.execution;
+
+import java.time.Clock;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Estimates given percentile of latencies reported within sliding time window.
+ * <p>
+ * Window is split into fixed number of slots, each slot counts latencies in buckets having 1ms precision up to 100ms,
+ * 10ms up to 1s and 100ms up to 10s, so memory footprint doesn't depend on traffic. Estimation is recalculated
+ * at most once per slot and reports upper bound of the bucket the percentile falls into.
+ * <p>
+ * Latencies are counted without locking, lock is taken only to reset the slot when window moves on. Latency reported
+ * concurrently with the reset may be lost or counted in the next slot, which doesn't affect estimation noticeably.
+ */
+public class LatencyEstimator {
+
+    private static final int SLOTS = 10;
+    private static final int BUCKETS = 281;
+
+    private final long slotDurationMs;
+    private final double percentile;
+    private final int minSamples;
+    private final Clock clock;
+
+    private final AtomicLongArray[] slotCounts;
+    private final AtomicLongArray slotSamples;
+    private final AtomicLongArray slotNumbers;
+
+    private volatile Long estimation;
+    private volatile long estimatedAt;
+
+    public LatencyEstimator(long windowMs, double percentile, int minSamples, Clock clock) {
+        if (windowMs < SLOTS) {
+            throw new IllegalArgumentException(String.format("Window should be at least %d ms", SLOTS));
+        }
+        if (percentile <= 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile should be in range (0, 100]");
+        }
+        this.slotDurationMs = windowMs / SLOTS;
+        this.percentile = percentile;
+        this.minSamples = Math.max(minSamples, 1);
+        this.clock = Objects.requireNonNull(clock);
+
+        slotCounts = new AtomicLongArray[SLOTS];
+        for (int slot = 0; slot < SLOTS; slot++) {
+            slotCounts[slot] = new AtomicLongArray(BUCKETS);
+        }
+        slotSamples = new AtomicLongArray(SLOTS);
+        slotNumbers = new AtomicLongArray(SLOTS);
+        for (int slot = 0; slot < SLOTS; slot++) {
+            slotNumbers.set(slot, -1);
+        }
+        estimatedAt = -slotDurationMs;
+    }
+
+    /**
+     * Registers latency of single call.
+     */
+    public void update(long latencyMs) {
+        final long slotNumber = clock.millis() / slotDurationMs;
+        final int slot = (int) (slotNumber % SLOTS);
+
+        if (slotNumbers.get(slot) < slotNumber) {
+            rollover(slot, slotNumber);
+        }
+        slotCounts[slot].incrementAndGet(bucket(latencyMs));
+        slotSamples.incrementAndGet(slot);
+    }
+
+    /**
+     * Resets counters of the slot reused for the new slot number. Slot number is changed only after counters are
+     * reset, so concurrent updates for the new slot number wait for the reset to complete.
+     */
+    private synchronized void rollover(int slot, long slotNumber) {
+        if (slotNumbers.get(slot) >= slotNumber) {
+            return;
+        }
+        final AtomicLongArray counts = slotCounts[slot];
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            counts.set(bucket, 0);
+        }
+        slotSamples.set(slot, 0);
+        slotNumbers.set(slot, slotNumber);
+    }
+
+    /**
+     * Returns estimated latency in milliseconds or null if there were not enough samples within window.
+     */
+    public Long estimate() {
+        final long now = clock.millis();
+        if (now - estimatedAt >= slotDurationMs) {
+            estimation = calculate(now / slotDurationMs);
+            estimatedAt = now;
+        }
+        return estimation;
+    }
+
+    private Long calculate(long currentSlotNumber) {
+        long samples = 0;
+        for (int slot = 0; slot < SLOTS; slot++) {
+            if (isWithinWindow(slot, currentSlotNumber)) {
+                samples += slotSamples.get(slot);
+            }
+        }
+        if (samples < minSamples) {
+            return null;
+        }
+
+        final long threshold = (long) Math.ceil(samples * percentile / 100);
+        long accumulated = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                if (isWithinWindow(slot, currentSlotNumber)) {
+                    accumulated += slotCounts[slot].get(bucket);
+                }
+            }
+            if (accumulated >= threshold) {
+                return bucketUpperBound(bucket);
+            }
+        }
+        return bucketUpperBound(BUCKETS - 1);
+    }
+
+    private boolean isWithinWindow(int slot, long currentSlotNumber) {
+        return slotNumbers.get(slot) > currentSlotNumber - SLOTS;
+    }
+
+    private static int bucket(long latencyMs) {
+        if (latencyMs < 100) {
+            return (int) Math.max(latencyMs, 0);
+        } else if (latencyMs < 1000) {
+            return 100 + (int) ((latencyMs - 100) / 10);
+        } else if (latencyMs < 10000) {
+            return 190 + (int) ((latencyMs - 1000) / 100);
+        }
+        return BUCKETS - 1;
+    }
+
+    private static long bucketUpperBound(int bucket) {
+        if (bucket < 100) {
+            return bucket;
+        } else if (bucket < 190) {
+            return 100 + (bucket - 100 + 1) * 10L;
+        } else if (bucket < BUCKETS - 1) {
+            return 1000 + (bucket - 190 + 1) * 100L;
+        }
+        return 10000;
+    }
+}
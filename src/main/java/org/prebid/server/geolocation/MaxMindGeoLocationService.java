@@ -1,23 +1,39 @@
 package org.prebid.server.geolocation;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.maxmind.db.Reader;
 import com.maxmind.geoip2.DatabaseReader;
+import com.maxmind.geoip2.exception.AddressNotFoundException;
 import com.maxmind.geoip2.exception.GeoIp2Exception;
 import com.maxmind.geoip2.model.CityResponse;
+import com.maxmind.geoip2.record.City;
+import com.maxmind.geoip2.record.Continent;
+import com.maxmind.geoip2.record.Country;
 import com.maxmind.geoip2.record.Location;
 import com.maxmind.geoip2.record.Subdivision;
+import io.netty.util.NetUtil;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
 import org.prebid.server.execution.RemoteFileProcessor;
 import org.prebid.server.execution.Timeout;
 import org.prebid.server.geolocation.model.GeoInfo;
+import org.prebid.server.metric.Metrics;
 
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.net.InetAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import java.util.zip.GZIPInputStream;
 
 /**
@@ -30,9 +46,44 @@ public class MaxMindGeoLocationService implements GeoLocationService, RemoteFile
 
     private static final String DATABASE_FILE_NAME = "GeoLite2-City.mmdb";
 
-    private DatabaseReader databaseReader;
+    private final Vertx vertx;
+    private final Metrics metrics;
+    private final Cache<String, Future<GeoInfo>> cache;
 
+    private volatile DatabaseReader databaseReader;
+
+    /**
+     * Creates service caching lookup results by IP address, including addresses not found in database,
+     * cache is disabled if its size is not positive.
+     */
+    public MaxMindGeoLocationService(Vertx vertx, Metrics metrics, int cacheSize, int cacheTtlSeconds) {
+        this.vertx = Objects.requireNonNull(vertx);
+        this.metrics = Objects.requireNonNull(metrics);
+        this.cache = cacheSize > 0
+                ? Caffeine.newBuilder()
+                .expireAfterWrite(cacheTtlSeconds, TimeUnit.SECONDS)
+                .maximumSize(cacheSize)
+                .<String, Future<GeoInfo>>build()
+                : null;
+    }
+
+    /**
+     * Extracts database from given archive to the same directory and opens it in memory-mapped mode on worker thread,
+     * so neither database is copied to heap nor event loop is blocked. Opened database replaces current one
+     * atomically, in-flight lookups finish against the previous one.
+     */
+    @Override
     public Future<?> setDataPath(String dataFilePath) {
+        final Promise<DatabaseReader> promise = Promise.promise();
+        vertx.executeBlocking(blockingPromise -> openDatabase(dataFilePath, blockingPromise), false, promise);
+
+        return promise.future().map(this::swapDatabaseReader);
+    }
+
+    private static void openDatabase(String dataFilePath, Promise<DatabaseReader> promise) {
+        final Path databasePath = Paths.get(dataFilePath).toAbsolutePath().resolveSibling(DATABASE_FILE_NAME);
+        Path tmpDatabasePath = null;
+
         try (TarArchiveInputStream tarInput = new TarArchiveInputStream(new GZIPInputStream(
                 new FileInputStream(dataFilePath)))) {
 
@@ -45,51 +96,127 @@ public class MaxMindGeoLocationService implements GeoLocationService, RemoteFile
                 }
             }
             if (!hasDatabaseFile) {
-                return Future.failedFuture(String.format("Database file %s not found in %s archive", DATABASE_FILE_NAME,
+                promise.fail(String.format("Database file %s not found in %s archive", DATABASE_FILE_NAME,
                         dataFilePath));
+                return;
             }
 
-            databaseReader = new DatabaseReader.Builder(tarInput).fileMode(Reader.FileMode.MEMORY).build();
-            return Future.succeededFuture();
+            // file currently mapped by reader is never overwritten: new one is moved over it, so old mapping
+            // keeps pointing to unlinked previous file until it is garbage collected
+            tmpDatabasePath = Files.createTempFile(databasePath.getParent(), DATABASE_FILE_NAME, ".tmp");
+            Files.copy(tarInput, tmpDatabasePath, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(tmpDatabasePath, databasePath, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+
+            promise.complete(new DatabaseReader.Builder(databasePath.toFile())
+                    .fileMode(Reader.FileMode.MEMORY_MAPPED)
+                    .build());
         } catch (IOException e) {
-            return Future.failedFuture(
+            deleteQuietly(tmpDatabasePath);
+            promise.fail(
                     String.format("IO Exception occurred while trying to read an archive/db file: %s", e.getMessage()));
         }
     }
 
+    private static void deleteQuietly(Path path) {
+        if (path != null) {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                // nothing to do, temporary file will be replaced by the next update
+            }
+        }
+    }
+
+    /**
+     * Previous reader is not closed since lookups in progress may still use it, its mapping is released by GC.
+     */
+    private Void swapDatabaseReader(DatabaseReader newDatabaseReader) {
+        databaseReader = newDatabaseReader;
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+        return null;
+    }
+
     @Override
     public Future<GeoInfo> lookup(String ip, Timeout timeout) {
+        final DatabaseReader databaseReader = this.databaseReader;
         if (databaseReader == null) {
             return Future.failedFuture("Geo location database file hasn't been downloaded yet, try again later");
         }
 
+        if (cache == null) {
+            return lookup(databaseReader, ip);
+        }
+
+        final Future<GeoInfo> cachedResult = cache.getIfPresent(ip);
+        metrics.updateGeoLocationCacheMetric(cachedResult != null);
+        if (cachedResult != null) {
+            return cachedResult;
+        }
+
+        final Future<GeoInfo> result = lookup(databaseReader, ip);
+        // result of lookup against replaced database must not outlive cache invalidation made on replacement,
+        // so it's not cached if database was replaced during lookup or while it was being cached
+        if (isCacheable(result) && this.databaseReader == databaseReader) {
+            cache.put(ip, result);
+            if (this.databaseReader != databaseReader) {
+                cache.invalidate(ip);
+            }
+        }
+        return result;
+    }
+
+    private static Future<GeoInfo> lookup(DatabaseReader databaseReader, String ip) {
+        // IP is expected to be a literal, so avoid name resolution made by InetAddress.getByName
+        final byte[] address = NetUtil.createByteArrayFromIpAddressString(ip);
+        if (address == null) {
+            return Future.failedFuture(String.format("Invalid IP address: %s", ip));
+        }
+
         try {
-            final InetAddress inetAddress = InetAddress.getByName(ip);
-            return Future.succeededFuture(GeoInfo.builder()
-                    .vendor(VENDOR)
-                    .continent(getCity(inetAddress).getContinent().getCode().toLowerCase())
-                    .country(getCity(inetAddress).getCountry().getIsoCode().toLowerCase())
-                    .region(getRegionCode(inetAddress))
-                    //metro code is skipped as Max Mind uses Google's version (Nielsen DMAs required)
-                    .city(getCity(inetAddress).getCity().getName())
-                    .lat(getLocation(inetAddress).getLatitude().floatValue())
-                    .lon(getLocation(inetAddress).getLongitude().floatValue())
-                    .build());
+            return Future.succeededFuture(toGeoInfo(databaseReader.city(InetAddress.getByAddress(address))));
         } catch (IOException | GeoIp2Exception e) {
             return Future.failedFuture(e);
         }
     }
 
-    private CityResponse getCity(InetAddress inetAddress) throws IOException, GeoIp2Exception {
-        return databaseReader.city(inetAddress);
+    /**
+     * Only results of lookups made against database are cached: invalid IP addresses are rejected cheaply anyway,
+     * and other errors may be transient.
+     */
+    private static boolean isCacheable(Future<GeoInfo> result) {
+        return result.succeeded() || result.cause() instanceof AddressNotFoundException;
+    }
+
+    private static GeoInfo toGeoInfo(CityResponse cityResponse) {
+        final Continent continent = cityResponse.getContinent();
+        final Country country = cityResponse.getCountry();
+        final City city = cityResponse.getCity();
+        final Location location = cityResponse.getLocation();
+
+        return GeoInfo.builder()
+                .vendor(VENDOR)
+                .continent(continent != null ? toLowerCase(continent.getCode()) : null)
+                .country(country != null ? toLowerCase(country.getIsoCode()) : null)
+                .region(getRegionCode(cityResponse.getSubdivisions()))
+                //metro code is skipped as Max Mind uses Google's version (Nielsen DMAs required)
+                .city(city != null ? city.getName() : null)
+                .lat(location != null ? toFloat(location.getLatitude()) : null)
+                .lon(location != null ? toFloat(location.getLongitude()) : null)
+                .build();
     }
 
-    private String getRegionCode(InetAddress inetAddress) throws IOException, GeoIp2Exception {
-        final List<Subdivision> subdivisions = getCity(inetAddress).getSubdivisions();
+    private static String getRegionCode(List<Subdivision> subdivisions) {
         return CollectionUtils.isEmpty(subdivisions) ? null : subdivisions.get(0).getIsoCode();
     }
 
-    private Location getLocation(InetAddress inetAddress) throws IOException, GeoIp2Exception {
-        return getCity(inetAddress).getLocation();
+    private static String toLowerCase(String value) {
+        return value != null ? value.toLowerCase() : null;
+    }
+
+    private static Float toFloat(Double value) {
+        return value != null ? value.floatValue() : null;
     }
 }
@@ -0,0 +1,33 @@
+package org.prebid.server.identity;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Returns ID as random (version 4) {@link UUID} string built from per-thread random generator.
+ * <p>
+ * Unlike {@link UUID#randomUUID()}, doesn't go through shared {@link java.security.SecureRandom}, so threads don't
+ * contend on ID generation. Generated IDs are unique but not cryptographically strong, so they shouldn't be used
+ * as secrets.
+ */
+public class ThreadLocalUUIDIdGenerator implements IdGenerator {
+
+    private static final long VERSION_CLEAR_MASK = 0xffffffffffff0fffL;
+    private static final long VERSION_4 = 0x0000000000004000L;
+    private static final long VARIANT_CLEAR_MASK = 0x3fffffffffffffffL;
+    private static final long VARIANT_IETF = 0x8000000000000000L;
+
+    @Override
+    public String generateId() {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final long mostSigBits = random.nextLong() & VERSION_CLEAR_MASK | VERSION_4;
+        final long leastSigBits = random.nextLong() & VARIANT_CLEAR_MASK | VARIANT_IETF;
+
+        return new UUID(mostSigBits, leastSigBits).toString();
+    }
+
+    @Override
+    public IdGeneratorType getType() {
+        return IdGeneratorType.threadLocalUuid;
+    }
+}
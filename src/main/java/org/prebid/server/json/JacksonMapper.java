@@ -3,12 +3,16 @@ package org.prebid.server.json;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.Unpooled;
 import io.vertx.core.buffer.Buffer;
 import org.prebid.server.proto.openrtb.ext.FlexibleExtension;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Objects;
 
 public class JacksonMapper {
@@ -32,6 +36,28 @@ public class JacksonMapper {
         }
     }
 
+    public <T> byte[] encodeToBytes(T obj) throws EncodeException {
+        try {
+            return mapper.writeValueAsBytes(obj);
+        } catch (JsonProcessingException e) {
+            throw new EncodeException("Failed to encode as JSON: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Encodes given object as UTF-8 JSON bytes directly into {@link Buffer}
+     * avoiding intermediate {@link String} representation.
+     */
+    public <T> Buffer encodeToBuffer(T obj) throws EncodeException {
+        final ByteBuf byteBuf = Unpooled.buffer();
+        try {
+            mapper.writeValue((OutputStream) new ByteBufOutputStream(byteBuf), obj);
+        } catch (IOException e) {
+            throw new EncodeException("Failed to encode as JSON: " + e.getMessage());
+        }
+        return Buffer.buffer(byteBuf);
+    }
+
     public <T> T decodeValue(String str, Class<T> clazz) throws DecodeException {
         try {
             return mapper.readValue(str, clazz);
@@ -48,17 +74,30 @@ public class JacksonMapper {
         }
     }
 
+    /**
+     * Decodes value straight from {@link Buffer} bytes.
+     * <p>
+     * Jackson can't quote content of stream source in error message, so invalid content is decoded once again
+     * from {@link String} to report the offending snippet.
+     */
     public <T> T decodeValue(Buffer buf, Class<T> clazz) throws DecodeException {
         try {
             return mapper.readValue((InputStream) new ByteBufInputStream(buf.getByteBuf()), clazz);
+        } catch (JsonProcessingException e) {
+            return decodeValue(buf.toString(), clazz);
         } catch (IOException e) {
             throw new DecodeException(String.format(FAILED_TO_DECODE, e.getMessage()), e);
         }
     }
 
+    /**
+     * Does the same as {@link #decodeValue(Buffer, Class)} but for the given {@link TypeReference}.
+     */
     public <T> T decodeValue(Buffer buf, TypeReference<T> type) throws DecodeException {
         try {
             return mapper.readValue(new ByteBufInputStream(buf.getByteBuf()), type);
+        } catch (JsonProcessingException e) {
+            return decodeValue(buf.toString(), type);
         } catch (IOException e) {
             throw new DecodeException(String.format(FAILED_TO_DECODE, e.getMessage()), e);
         }
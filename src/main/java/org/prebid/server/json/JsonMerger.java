@@ -2,6 +2,8 @@ package org.prebid.server.json;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.fge.jsonpatch.JsonPatchException;
 import com.github.fge.jsonpatch.mergepatch.JsonMergePatch;
 import org.apache.commons.lang3.ObjectUtils;
@@ -14,21 +16,42 @@ public class JsonMerger {
 
     private final JacksonMapper mapper;
 
+    /**
+     * Parsed stored data keyed by identity of its raw json string, so the tree lives as long as settings
+     * cache keeps the string and is reused by all requests merging it. Hits are possible only if the same
+     * string instance is passed on each merge, as cached settings do, so the cache is optional.
+     */
+    private final Cache<String, JsonNode> storedDataNodeCache;
+
     public JsonMerger(JacksonMapper mapper) {
+        this(mapper, 0);
+    }
+
+    public JsonMerger(JacksonMapper mapper, int storedDataNodeCacheSize) {
+        if (storedDataNodeCacheSize < 0) {
+            throw new IllegalArgumentException("stored data node cache size must not be negative");
+        }
+
         this.mapper = Objects.requireNonNull(mapper);
+        this.storedDataNodeCache = storedDataNodeCacheSize > 0
+                ? Caffeine.newBuilder()
+                .weakKeys()
+                .maximumSize(storedDataNodeCacheSize)
+                .build()
+                : null;
     }
 
     /**
      * Merges passed object with json retrieved from stored data map by id
      * and cast it to appropriate class. In case of any exception during merging, throws {@link InvalidRequestException}
      * with reason message.
+     * <p>
+     * If stored data node cache is enabled, parsed stored data is reused only for the same string instance.
      */
     public <T> T merge(T originalObject, String storedData, String id, Class<T> classToCast) {
         final JsonNode originJsonNode = mapper.mapper().valueToTree(originalObject);
-        final JsonNode storedRequestJsonNode;
-        try {
-            storedRequestJsonNode = mapper.mapper().readTree(storedData);
-        } catch (IOException e) {
+        final JsonNode storedRequestJsonNode = storedData != null ? storedDataNode(storedData) : null;
+        if (storedRequestJsonNode == null) {
             throw new InvalidRequestException(
                     String.format("Can't parse Json for stored request with id %s", id));
         }
@@ -75,4 +98,22 @@ public class JsonMerger {
             throw new InvalidRequestException("Couldn't create merge patch for json nodes");
         }
     }
+
+    private JsonNode storedDataNode(String storedData) {
+        return storedDataNodeCache != null
+                ? storedDataNodeCache.get(storedData, this::readTreeOrNull)
+                : readTreeOrNull(storedData);
+    }
+
+    /**
+     * Returns parsed tree for given json or null if it can't be parsed. Resulting node may be shared between
+     * requests and must not be modified, merge patch makes a copy of it.
+     */
+    private JsonNode readTreeOrNull(String json) {
+        try {
+            return mapper.mapper().readTree(json);
+        } catch (IOException e) {
+            return null;
+        }
+    }
 }
@@ -2,9 +2,9 @@ package org.prebid.server.metric;
 
 import com.codahale.metrics.MetricRegistry;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /**
@@ -27,9 +27,9 @@ class AdapterTypeMetrics extends UpdatableMetrics {
                 new BidTypeMetrics(metricRegistry, counterType, createAdapterPrefix(adapterType), bidType);
         requestTypeMetricsCreator = requestType ->
                 new RequestTypeMetrics(metricRegistry, counterType, createAdapterPrefix(adapterType), requestType);
-        requestTypeMetrics = new HashMap<>();
+        requestTypeMetrics = new ConcurrentHashMap<>();
         requestMetrics = new RequestMetrics(metricRegistry, counterType, createAdapterPrefix(adapterType));
-        bidTypeMetrics = new HashMap<>();
+        bidTypeMetrics = new ConcurrentHashMap<>();
         responseMetrics = new ResponseMetrics(metricRegistry, counterType, createAdapterPrefix(adapterType));
     }
 
@@ -65,7 +65,7 @@ class AdapterTypeMetrics extends UpdatableMetrics {
     }
 
     RequestTypeMetrics requestType(MetricName requestType) {
-        return requestTypeMetrics.computeIfAbsent(requestType, requestTypeMetricsCreator);
+        return computeIfAbsent(requestTypeMetrics, requestType, requestTypeMetricsCreator);
     }
 
     RequestMetrics request() {
@@ -73,7 +73,7 @@ class AdapterTypeMetrics extends UpdatableMetrics {
     }
 
     BidTypeMetrics forBidType(String bidType) {
-        return bidTypeMetrics.computeIfAbsent(bidType, bidTypeMetricsCreator);
+        return computeIfAbsent(bidTypeMetrics, bidType, bidTypeMetricsCreator);
     }
 
     ResponseMetrics response() {
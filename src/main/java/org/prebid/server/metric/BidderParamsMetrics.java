@@ -0,0 +1,51 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Bidder params metrics support.
+ */
+class BidderParamsMetrics extends UpdatableMetrics {
+
+    private final ValidationCacheMetrics validationCacheMetrics;
+
+    BidderParamsMetrics(MetricRegistry metricRegistry, CounterType counterType) {
+        super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                nameCreator(createPrefix()));
+
+        validationCacheMetrics = new ValidationCacheMetrics(metricRegistry, counterType, createPrefix());
+    }
+
+    private static String createPrefix() {
+        return "bidder-params";
+    }
+
+    private static Function<MetricName, String> nameCreator(String prefix) {
+        return metricName -> String.format("%s.%s", prefix, metricName.toString());
+    }
+
+    ValidationCacheMetrics validationCache() {
+        return validationCacheMetrics;
+    }
+
+    static class ValidationCacheMetrics extends UpdatableMetrics {
+
+        ValidationCacheMetrics(MetricRegistry metricRegistry, CounterType counterType, String prefix) {
+            super(
+                    metricRegistry,
+                    counterType,
+                    nameCreator(createValidationCachePrefix(prefix)));
+        }
+
+        private static String createValidationCachePrefix(String prefix) {
+            return String.format("%s.validation-cache", prefix);
+        }
+
+        private static Function<MetricName, String> nameCreator(String prefix) {
+            return metricName -> String.format("%s.%s", prefix, metricName.toString());
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+
+import java.time.Clock;
+import java.util.Objects;
+
+/**
+ * {@link MetricRegistry} which creates timers and histograms backed by {@link HdrHistogramReservoir} instead of
+ * default exponentially decaying reservoir, which takes a lock on update and loses tail latencies.
+ */
+public class HdrHistogramMetricRegistry extends MetricRegistry {
+
+    private final long windowMs;
+    private final Clock clock;
+
+    public HdrHistogramMetricRegistry(long windowMs, Clock clock) {
+        this.windowMs = windowMs;
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    @Override
+    public Timer timer(String name) {
+        return timer(name, () -> new Timer(new HdrHistogramReservoir(windowMs, clock)));
+    }
+
+    @Override
+    public Histogram histogram(String name) {
+        return histogram(name, () -> new Histogram(new HdrHistogramReservoir(windowMs, clock)));
+    }
+}
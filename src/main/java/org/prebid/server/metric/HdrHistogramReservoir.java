@@ -0,0 +1,165 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.Reservoir;
+import com.codahale.metrics.Snapshot;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramIterationValue;
+import org.HdrHistogram.Recorder;
+
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.Objects;
+import java.util.stream.StreamSupport;
+
+/**
+ * {@link Reservoir} backed by HdrHistogram {@link Recorder}.
+ * <p>
+ * Values are recorded wait-free, and each snapshot covers values recorded during the previous and the current
+ * window of the given length. Snapshots don't drain recorded values, so every reporter reading the same reservoir
+ * gets all of them regardless of how many reporters there are and how often they report.
+ */
+class HdrHistogramReservoir implements Reservoir {
+
+    // keeps values with 1% precision, which is enough to tell p99 from p999 latency
+    private static final int NUMBER_OF_SIGNIFICANT_VALUE_DIGITS = 2;
+
+    private final long windowMs;
+    private final Clock clock;
+    private final Recorder recorder;
+
+    // guarded by this
+    private Histogram intervalHistogram;
+    private Histogram previousWindow;
+    private Histogram currentWindow;
+    private long currentWindowStart;
+    private HdrHistogramSnapshot snapshot;
+
+    HdrHistogramReservoir(long windowMs, Clock clock) {
+        if (windowMs <= 0) {
+            throw new IllegalArgumentException("Window length should be positive");
+        }
+
+        this.windowMs = windowMs;
+        this.clock = Objects.requireNonNull(clock);
+        recorder = new Recorder(NUMBER_OF_SIGNIFICANT_VALUE_DIGITS);
+
+        previousWindow = new Histogram(NUMBER_OF_SIGNIFICANT_VALUE_DIGITS);
+        currentWindow = new Histogram(NUMBER_OF_SIGNIFICANT_VALUE_DIGITS);
+        currentWindowStart = clock.millis();
+        snapshot = new HdrHistogramSnapshot(new Histogram(NUMBER_OF_SIGNIFICANT_VALUE_DIGITS));
+    }
+
+    @Override
+    public int size() {
+        return getSnapshot().size();
+    }
+
+    @Override
+    public void update(long value) {
+        // histogram can't hold negative values
+        if (value >= 0) {
+            recorder.recordValue(value);
+        }
+    }
+
+    /**
+     * Rolls windows if the current one is over, moves values recorded since the previous snapshot to the current
+     * window and returns snapshot of both windows. The same snapshot is returned while nothing has changed.
+     */
+    @Override
+    public synchronized Snapshot getSnapshot() {
+        boolean changed = false;
+
+        final long currentTime = clock.millis();
+        if (currentTime - currentWindowStart >= windowMs) {
+            final Histogram expiredWindow = previousWindow;
+            expiredWindow.reset();
+            previousWindow = currentWindow;
+            currentWindow = expiredWindow;
+            // previous window is over as well if no snapshot was taken during the whole window
+            if (currentTime - currentWindowStart >= 2 * windowMs) {
+                previousWindow.reset();
+            }
+            currentWindowStart = currentTime;
+            changed = true;
+        }
+
+        // interval histogram is recycled, so only recorder swaps its buffers on every snapshot
+        intervalHistogram = recorder.getIntervalHistogram(intervalHistogram);
+        if (intervalHistogram.getTotalCount() > 0) {
+            currentWindow.add(intervalHistogram);
+            changed = true;
+        }
+
+        if (changed) {
+            final Histogram histogram = previousWindow.copy();
+            histogram.add(currentWindow);
+            snapshot = new HdrHistogramSnapshot(histogram);
+        }
+        return snapshot;
+    }
+
+    private static class HdrHistogramSnapshot extends Snapshot {
+
+        private final Histogram histogram;
+
+        HdrHistogramSnapshot(Histogram histogram) {
+            this.histogram = histogram;
+        }
+
+        @Override
+        public double getValue(double quantile) {
+            if (quantile < 0.0 || quantile > 1.0 || Double.isNaN(quantile)) {
+                throw new IllegalArgumentException(quantile + " is not in [0..1]");
+            }
+            return histogram.getValueAtPercentile(quantile * 100);
+        }
+
+        /**
+         * Returns single value per each recorded histogram bucket since values themselves are not kept.
+         */
+        @Override
+        public long[] getValues() {
+            return StreamSupport.stream(histogram.recordedValues().spliterator(), false)
+                    .mapToLong(HistogramIterationValue::getValueIteratedTo)
+                    .toArray();
+        }
+
+        @Override
+        public int size() {
+            return (int) Math.min(histogram.getTotalCount(), Integer.MAX_VALUE);
+        }
+
+        @Override
+        public long getMax() {
+            return histogram.getMaxValue();
+        }
+
+        @Override
+        public double getMean() {
+            return histogram.getMean();
+        }
+
+        @Override
+        public long getMin() {
+            return histogram.getMinValue();
+        }
+
+        @Override
+        public double getStdDev() {
+            return histogram.getStdDeviation();
+        }
+
+        @Override
+        public void dump(OutputStream output) {
+            try (PrintWriter writer = new PrintWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8))) {
+                for (long value : getValues()) {
+                    writer.printf("%d%n", value);
+                }
+            }
+        }
+    }
+}
@@ -19,12 +19,15 @@ public enum MetricName {
     geolocation_requests,
     geolocation_successful,
     geolocation_fail,
+    geolocation_cache_hit,
+    geolocation_cache_miss,
 
     // auction
     requests,
     app_requests,
     no_cookie_requests,
     request_time,
+    timeout_cap,
     prices,
     imps_requested,
     imps_banner,
@@ -99,6 +102,7 @@ public enum MetricName {
 
     // cache
     creative_size,
+    expected_request_time,
 
     //account.*.requests.
     rejected,
@@ -109,11 +113,14 @@ public enum MetricName {
     // settings cache
     stored_request("stored-request"),
     amp_stored_request("amp-stored-request"),
+    video_stored_request("video-stored-request"),
+    stored_response("stored-response"),
     account,
     initialize,
     update,
     hit,
-    miss;
+    miss,
+    coalesced;
 
     private final String name;
 
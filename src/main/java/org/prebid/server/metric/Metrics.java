@@ -6,11 +6,10 @@ import org.prebid.server.metric.model.AccountMetricsVerbosityLevel;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.EnumMap;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import java.util.function.LongSupplier;
@@ -31,9 +30,6 @@ public class Metrics extends UpdatableMetrics {
     private final Function<Integer, BidderCardinalityMetrics> bidderCardinalityMetricsCreator;
     private final Function<MetricName, CircuitBreakerMetrics> circuitBreakerMetricsCreator;
     private final Function<MetricName, SettingsCacheMetrics> settingsCacheMetricsCreator;
-    // not thread-safe maps are intentionally used here because it's harmless in this particular case - eventually
-    // this all boils down to metrics lookup by underlying metric registry and that operation is guaranteed to be
-    // thread-safe
     private final Map<MetricName, RequestStatusMetrics> requestMetrics;
     private final Map<String, AccountMetrics> accountMetrics;
     private final Map<String, AdapterTypeMetrics> adapterMetrics;
@@ -41,6 +37,7 @@ public class Metrics extends UpdatableMetrics {
     private final UserSyncMetrics userSyncMetrics;
     private final CookieSyncMetrics cookieSyncMetrics;
     private final PrivacyMetrics privacyMetrics;
+    private final BidderParamsMetrics bidderParamsMetrics;
     private final Map<MetricName, CircuitBreakerMetrics> circuitBreakerMetrics;
     private final CacheMetrics cacheMetrics;
     private final TimeoutNotificationMetrics timeoutNotificationMetrics;
@@ -60,34 +57,35 @@ public class Metrics extends UpdatableMetrics {
                 metricRegistry, counterType, cardinality);
         circuitBreakerMetricsCreator = type -> new CircuitBreakerMetrics(metricRegistry, counterType, type);
         settingsCacheMetricsCreator = type -> new SettingsCacheMetrics(metricRegistry, counterType, type);
-        requestMetrics = new EnumMap<>(MetricName.class);
-        accountMetrics = new HashMap<>();
-        adapterMetrics = new HashMap<>();
-        bidderCardinailtyMetrics = new HashMap<>();
+        requestMetrics = new ConcurrentHashMap<>();
+        accountMetrics = new ConcurrentHashMap<>();
+        adapterMetrics = new ConcurrentHashMap<>();
+        bidderCardinailtyMetrics = new ConcurrentHashMap<>();
         userSyncMetrics = new UserSyncMetrics(metricRegistry, counterType);
         cookieSyncMetrics = new CookieSyncMetrics(metricRegistry, counterType);
         privacyMetrics = new PrivacyMetrics(metricRegistry, counterType);
-        circuitBreakerMetrics = new HashMap<>();
+        bidderParamsMetrics = new BidderParamsMetrics(metricRegistry, counterType);
+        circuitBreakerMetrics = new ConcurrentHashMap<>();
         cacheMetrics = new CacheMetrics(metricRegistry, counterType);
         timeoutNotificationMetrics = new TimeoutNotificationMetrics(metricRegistry, counterType);
         currencyRatesMetrics = new CurrencyRatesMetrics(metricRegistry, counterType);
-        settingsCacheMetrics = new HashMap<>();
+        settingsCacheMetrics = new ConcurrentHashMap<>();
     }
 
     RequestStatusMetrics forRequestType(MetricName requestType) {
-        return requestMetrics.computeIfAbsent(requestType, requestMetricsCreator);
+        return computeIfAbsent(requestMetrics, requestType, requestMetricsCreator);
     }
 
     BidderCardinalityMetrics forBidderCardinality(int cardinality) {
-        return bidderCardinailtyMetrics.computeIfAbsent(cardinality, bidderCardinalityMetricsCreator);
+        return computeIfAbsent(bidderCardinailtyMetrics, cardinality, bidderCardinalityMetricsCreator);
     }
 
     AccountMetrics forAccount(String account) {
-        return accountMetrics.computeIfAbsent(account, accountMetricsCreator);
+        return computeIfAbsent(accountMetrics, account, accountMetricsCreator);
     }
 
     AdapterTypeMetrics forAdapter(String adapterType) {
-        return adapterMetrics.computeIfAbsent(adapterType, adapterMetricsCreator);
+        return computeIfAbsent(adapterMetrics, adapterType, adapterMetricsCreator);
     }
 
     UserSyncMetrics userSync() {
@@ -102,8 +100,12 @@ public class Metrics extends UpdatableMetrics {
         return privacyMetrics;
     }
 
+    BidderParamsMetrics bidderParams() {
+        return bidderParamsMetrics;
+    }
+
     CircuitBreakerMetrics forCircuitBreakerType(MetricName type) {
-        return circuitBreakerMetrics.computeIfAbsent(type, circuitBreakerMetricsCreator);
+        return computeIfAbsent(circuitBreakerMetrics, type, circuitBreakerMetricsCreator);
     }
 
     CacheMetrics cache() {
@@ -115,7 +117,7 @@ public class Metrics extends UpdatableMetrics {
     }
 
     SettingsCacheMetrics forSettingsCacheType(MetricName type) {
-        return settingsCacheMetrics.computeIfAbsent(type, settingsCacheMetricsCreator);
+        return computeIfAbsent(settingsCacheMetrics, type, settingsCacheMetricsCreator);
     }
 
     public void updateAppAndNoCookieAndImpsRequestedMetrics(boolean isApp, boolean liveUidsPresent, int numImps) {
@@ -228,6 +230,10 @@ public class Metrics extends UpdatableMetrics {
         }
     }
 
+    public void createAdapterTimeoutCapGauge(String bidder, LongSupplier timeoutCapSupplier) {
+        forAdapter(bidder).createGauge(MetricName.timeout_cap, timeoutCapSupplier);
+    }
+
     public void updateAdapterRequestNobidMetrics(String bidder, String accountId) {
         forAdapter(bidder).request().incCounter(MetricName.nobid);
         if (accountMetricsVerbosity.forAccount(accountId).isAtLeast(AccountMetricsVerbosityLevel.detailed)) {
@@ -271,6 +277,10 @@ public class Metrics extends UpdatableMetrics {
         forAccount(accountId).response().validation().secure().incCounter(type);
     }
 
+    public void updateBidderParamsValidationCacheMetric(boolean hit) {
+        bidderParams().validationCache().incCounter(hit ? MetricName.hit : MetricName.miss);
+    }
+
     public void updateUserSyncOptoutMetric() {
         userSync().incCounter(MetricName.opt_outs);
     }
@@ -364,6 +374,10 @@ public class Metrics extends UpdatableMetrics {
         versionMetrics.incCounter(MetricName.requests);
     }
 
+    public void updatePrivacyTcfConsentCacheMetric(boolean hit) {
+        privacy().tcf().consentCache().incCounter(hit ? MetricName.hit : MetricName.miss);
+    }
+
     public void updatePrivacyTcfGeoMetric(int version, Boolean inEea) {
         final UpdatableMetrics versionMetrics = version == 2 ? privacy().tcf().v2() : privacy().tcf().v1();
 
@@ -432,6 +446,10 @@ public class Metrics extends UpdatableMetrics {
         }
     }
 
+    public void updateGeoLocationCacheMetric(boolean hit) {
+        incCounter(hit ? MetricName.geolocation_cache_hit : MetricName.geolocation_cache_miss);
+    }
+
     public void createGeoLocationCircuitBreakerGauge(BooleanSupplier stateSupplier) {
         forCircuitBreakerType(MetricName.geo)
                 .createGauge(MetricName.opened, () -> stateSupplier.getAsBoolean() ? 1 : 0);
@@ -463,6 +481,10 @@ public class Metrics extends UpdatableMetrics {
         forAccount(accountId).cache().requests().updateTimer(MetricName.err, timeElapsed);
     }
 
+    public void createCacheExpectedRequestTimeGauge(LongSupplier expectedTimeSupplier) {
+        cache().createGauge(MetricName.expected_request_time, expectedTimeSupplier);
+    }
+
     public void updateCacheCreativeSize(String accountId, int creativeSize) {
         cache().updateHistogram(MetricName.creative_size, creativeSize);
         forAccount(accountId).cache().updateHistogram(MetricName.creative_size, creativeSize);
@@ -12,6 +12,7 @@ class TcfMetrics extends UpdatableMetrics {
 
     private final TcfVersionMetrics tcfVersion1Metrics;
     private final TcfVersionMetrics tcfVersion2Metrics;
+    private final ConsentCacheMetrics consentCacheMetrics;
 
     TcfMetrics(MetricRegistry metricRegistry, CounterType counterType, String prefix) {
         super(
@@ -21,6 +22,7 @@ class TcfMetrics extends UpdatableMetrics {
 
         tcfVersion1Metrics = new TcfVersionMetrics(metricRegistry, counterType, createTcfPrefix(prefix), "v1");
         tcfVersion2Metrics = new TcfVersionMetrics(metricRegistry, counterType, createTcfPrefix(prefix), "v2");
+        consentCacheMetrics = new ConsentCacheMetrics(metricRegistry, counterType, createTcfPrefix(prefix));
     }
 
     TcfVersionMetrics v1() {
@@ -31,6 +33,10 @@ class TcfMetrics extends UpdatableMetrics {
         return tcfVersion2Metrics;
     }
 
+    ConsentCacheMetrics consentCache() {
+        return consentCacheMetrics;
+    }
+
     private static String createTcfPrefix(String prefix) {
         return String.format("%s.tcf", prefix);
     }
@@ -83,4 +89,22 @@ class TcfMetrics extends UpdatableMetrics {
             return metricName -> String.format("%s.%s", prefix, metricName.toString());
         }
     }
+
+    static class ConsentCacheMetrics extends UpdatableMetrics {
+
+        ConsentCacheMetrics(MetricRegistry metricRegistry, CounterType counterType, String prefix) {
+            super(
+                    metricRegistry,
+                    counterType,
+                    nameCreator(createConsentCachePrefix(prefix)));
+        }
+
+        private static String createConsentCachePrefix(String prefix) {
+            return String.format("%s.consent-cache", prefix);
+        }
+
+        private static Function<MetricName, String> nameCreator(String prefix) {
+            return metricName -> String.format("%s.%s", prefix, metricName.toString());
+        }
+    }
 }
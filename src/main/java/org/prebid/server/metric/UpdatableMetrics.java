@@ -1,38 +1,53 @@
 package org.prebid.server.metric;
 
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Meter;
 import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 
-import java.util.EnumMap;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Function;
+import java.util.function.LongConsumer;
 import java.util.function.LongSupplier;
 
 class UpdatableMetrics {
 
+    private static final int METRIC_NAMES_COUNT = MetricName.values().length;
+
     private final MetricRegistry metricRegistry;
     private final Function<MetricName, String> nameCreator;
-    private final MetricIncrementer incrementer;
-    // not thread-safe maps are intentionally used here because it's harmless in this particular case - eventually
-    // this all boils down to metrics lookup by underlying metric registry and that operation is guaranteed to be
-    // thread-safe
-    private final Map<MetricName, String> metricNames;
+    private final Function<String, LongConsumer> incrementerCreator;
+    // handles are indexed by metric name ordinal, so looking up already resolved metric takes no locks and no
+    // registry lookups
+    private final AtomicReferenceArray<MetricHandle> metricHandles;
 
     UpdatableMetrics(MetricRegistry metricRegistry, CounterType counterType, Function<MetricName, String> nameCreator) {
         this.metricRegistry = metricRegistry;
         this.nameCreator = nameCreator;
-        metricNames = new EnumMap<>(MetricName.class);
+        metricHandles = new AtomicReferenceArray<>(METRIC_NAMES_COUNT);
 
+        // underlying counters and meters are backed by striped LongAdder, so increments don't contend between threads
         switch (counterType) {
             case flushingCounter:
-                incrementer = (registry, metricName, value) ->
-                        registry.counter(metricName, ResettingCounter::new).inc(value);
+                incrementerCreator = metricName -> {
+                    final Counter counter = metricRegistry.counter(metricName, ResettingCounter::new);
+                    return counter::inc;
+                };
                 break;
             case counter:
-                incrementer = (registry, metricName, value) -> registry.counter(metricName).inc(value);
+                incrementerCreator = metricName -> {
+                    final Counter counter = metricRegistry.counter(metricName);
+                    return counter::inc;
+                };
                 break;
             case meter:
-                incrementer = (registry, metricName, value) -> registry.meter(metricName).mark(value);
+                incrementerCreator = metricName -> {
+                    final Meter meter = metricRegistry.meter(metricName);
+                    return meter::mark;
+                };
                 break;
             default:
                 // to satisfy compiler
@@ -40,6 +55,16 @@ class UpdatableMetrics {
         }
     }
 
+    /**
+     * Returns value from the given thread-safe map or creates it if absent.
+     * <p>
+     * Present values are taken without locking, which {@link Map#computeIfAbsent} does not guarantee.
+     */
+    static <K, V> V computeIfAbsent(Map<K, V> map, K key, Function<K, V> creator) {
+        final V value = map.get(key);
+        return value != null ? value : map.computeIfAbsent(key, creator);
+    }
+
     /**
      * Increments metric's counter.
      */
@@ -51,38 +76,88 @@ class UpdatableMetrics {
      * Increments metric's counter on a given value.
      */
     void incCounter(MetricName metricName, long value) {
-        incrementer.accept(metricRegistry, name(metricName), value);
+        handle(metricName).incrementer().accept(value);
     }
 
     /**
      * Updates metric's timer with a given value.
      */
     void updateTimer(MetricName metricName, long millis) {
-        metricRegistry.timer(name(metricName)).update(millis, TimeUnit.MILLISECONDS);
+        handle(metricName).timer().update(millis, TimeUnit.MILLISECONDS);
     }
 
     /**
      * Updates metric's histogram with a given value.
      */
     void updateHistogram(MetricName metricName, long value) {
-        // by default histograms with exponentially decaying reservoir (size=1028, alpha=0.015) are created
-        metricRegistry.histogram(name(metricName)).update(value);
+        handle(metricName).histogram().update(value);
     }
 
     void createGauge(MetricName metricName, LongSupplier supplier) {
-        metricRegistry.gauge(name(metricName), () -> supplier::getAsLong);
+        metricRegistry.gauge(handle(metricName).name, () -> supplier::getAsLong);
     }
 
     void removeMetric(MetricName metricName) {
-        metricRegistry.remove(name(metricName));
+        final MetricHandle handle = handle(metricName);
+        metricRegistry.remove(handle.name);
+        // drop resolved metric which is not in the registry anymore
+        metricHandles.compareAndSet(metricName.ordinal(), handle, new MetricHandle(handle.name));
     }
 
-    private String name(MetricName metricName) {
-        return metricNames.computeIfAbsent(metricName, key -> nameCreator.apply(metricName));
+    private MetricHandle handle(MetricName metricName) {
+        final int index = metricName.ordinal();
+        final MetricHandle handle = metricHandles.get(index);
+        if (handle != null) {
+            return handle;
+        }
+
+        final MetricHandle newHandle = new MetricHandle(nameCreator.apply(metricName));
+        return metricHandles.compareAndSet(index, null, newHandle) ? newHandle : metricHandles.get(index);
     }
 
-    @FunctionalInterface
-    private interface MetricIncrementer {
-        void accept(MetricRegistry metricRegistry, String metricName, long value);
+    /**
+     * Holds metric name and the metrics resolved from the registry by this name.
+     * <p>
+     * Metrics are resolved lazily and may be resolved by several threads at once, which is harmless since registry
+     * returns the same metric for the same name and metrics are safely published through their final fields.
+     */
+    private class MetricHandle {
+
+        private final String name;
+        private LongConsumer incrementer;
+        private Timer timer;
+        private Histogram histogram;
+
+        MetricHandle(String name) {
+            this.name = name;
+        }
+
+        LongConsumer incrementer() {
+            LongConsumer result = incrementer;
+            if (result == null) {
+                result = incrementerCreator.apply(name);
+                incrementer = result;
+            }
+            return result;
+        }
+
+        Timer timer() {
+            Timer result = timer;
+            if (result == null) {
+                result = metricRegistry.timer(name);
+                timer = result;
+            }
+            return result;
+        }
+
+        Histogram histogram() {
+            Histogram result = histogram;
+            if (result == null) {
+                // by default histograms with exponentially decaying reservoir (size=1028, alpha=0.015) are created
+                result = metricRegistry.histogram(name);
+                histogram = result;
+            }
+            return result;
+        }
     }
 }
@@ -1,5 +1,7 @@
 package org.prebid.server.privacy.gdpr;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.iabtcf.decoder.TCString;
 import io.vertx.core.Future;
 import io.vertx.core.logging.Logger;
@@ -18,6 +20,7 @@ import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.privacy.gdpr.model.PrivacyEnforcementAction;
 import org.prebid.server.privacy.gdpr.model.RequestLogInfo;
+import org.prebid.server.privacy.gdpr.model.TCStringDecoded;
 import org.prebid.server.privacy.gdpr.model.TCStringEmpty;
 import org.prebid.server.privacy.gdpr.model.TcfContext;
 import org.prebid.server.privacy.gdpr.model.TcfResponse;
@@ -62,8 +65,15 @@ public class TcfDefinerService {
     private final IpAddressHelper ipAddressHelper;
     private final Metrics metrics;
 
+    /**
+     * Consent strings are highly repetitive across users of the same CMP configuration, so decoded ones are shared
+     * between all requests, including consent validation.
+     */
+    private final Cache<String, TCString> decodedConsentCache;
+
     public TcfDefinerService(GdprConfig gdprConfig,
                              Set<String> eeaCountries,
+                             int consentCacheSize,
                              GdprService gdprService,
                              Tcf2Service tcf2Service,
                              GeoLocationService geoLocationService,
@@ -82,6 +92,10 @@ public class TcfDefinerService {
         this.bidderCatalog = Objects.requireNonNull(bidderCatalog);
         this.ipAddressHelper = Objects.requireNonNull(ipAddressHelper);
         this.metrics = Objects.requireNonNull(metrics);
+
+        decodedConsentCache = Caffeine.newBuilder()
+                .maximumSize(consentCacheSize)
+                .build();
     }
 
     /**
@@ -425,8 +439,14 @@ public class TcfDefinerService {
     }
 
     private TCString decodeTcString(String consentString, RequestLogInfo requestLogInfo) {
+        final TCString cachedTcString = decodedConsentCache.getIfPresent(consentString);
+        metrics.updatePrivacyTcfConsentCacheMetric(cachedTcString != null);
+        if (cachedTcString != null) {
+            return cachedTcString;
+        }
+
         try {
-            return TCString.decode(consentString);
+            return decodeAndCache(consentString);
         } catch (Throwable e) {
             logWarn(consentString, e.getMessage(), requestLogInfo);
             return null;
@@ -473,15 +493,25 @@ public class TcfDefinerService {
         return consent != null && !(consent instanceof TCStringEmpty);
     }
 
-    public static boolean isConsentStringValid(String consentString) {
+    public boolean isConsentStringValid(String consentString) {
+        if (consentString != null && decodedConsentCache.getIfPresent(consentString) != null) {
+            return true;
+        }
+
         try {
-            TCString.decode(consentString);
+            decodeAndCache(consentString);
             return true;
         } catch (RuntimeException e) {
             return false;
         }
     }
 
+    private TCString decodeAndCache(String consentString) {
+        final TCString tcString = TCStringDecoded.of(TCString.decode(consentString));
+        decodedConsentCache.put(consentString, tcString);
+        return tcString;
+    }
+
     private static PrivacyEnforcementAction restrictAllButAnalyticsAndAuction() {
         return PrivacyEnforcementAction.builder()
                 .removeUserIds(true)
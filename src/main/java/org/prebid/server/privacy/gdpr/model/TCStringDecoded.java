@@ -0,0 +1,258 @@
+package org.prebid.server.privacy.gdpr.model;
+
+import com.iabtcf.decoder.TCString;
+import com.iabtcf.utils.BitSetIntIterable;
+import com.iabtcf.utils.IntIterable;
+import com.iabtcf.v2.PublisherRestriction;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Fully decoded {@link TCString} which can be shared between threads.
+ * <p>
+ * Decoder reads {@link TCString} fields lazily from the underlying bit reader, which is neither thread-safe nor cheap,
+ * so all fields, including vendor and purpose bitsets, are read once on creation. Field which failed to be read
+ * throws the same exception as the decoded {@link TCString} did.
+ */
+public class TCStringDecoded implements TCString {
+
+    private final Field<Integer> version;
+    private final Field<Instant> created;
+    private final Field<Instant> lastUpdated;
+    private final Field<Integer> cmpId;
+    private final Field<Integer> cmpVersion;
+    private final Field<Integer> consentScreen;
+    private final Field<String> consentLanguage;
+    private final Field<Integer> vendorListVersion;
+    private final Field<IntIterable> purposesConsent;
+    private final Field<IntIterable> vendorConsent;
+    private final Field<Boolean> defaultVendorConsent;
+    private final Field<Integer> tcfPolicyVersion;
+    private final Field<Boolean> serviceSpecific;
+    private final Field<Boolean> useNonStandardStacks;
+    private final Field<IntIterable> specialFeatureOptIns;
+    private final Field<IntIterable> purposesLITransparency;
+    private final Field<Boolean> purposeOneTreatment;
+    private final Field<String> publisherCC;
+    private final Field<IntIterable> vendorLegitimateInterest;
+    private final Field<List<PublisherRestriction>> publisherRestrictions;
+    private final Field<IntIterable> allowedVendors;
+    private final Field<IntIterable> disclosedVendors;
+    private final Field<IntIterable> pubPurposesConsent;
+    private final Field<IntIterable> pubPurposesLITransparency;
+    private final Field<IntIterable> customPurposesConsent;
+    private final Field<IntIterable> customPurposesLITransparency;
+
+    private TCStringDecoded(TCString tcString) {
+        version = Field.read(tcString::getVersion);
+        created = Field.read(tcString::getCreated);
+        lastUpdated = Field.read(tcString::getLastUpdated);
+        cmpId = Field.read(tcString::getCmpId);
+        cmpVersion = Field.read(tcString::getCmpVersion);
+        consentScreen = Field.read(tcString::getConsentScreen);
+        consentLanguage = Field.read(tcString::getConsentLanguage);
+        vendorListVersion = Field.read(tcString::getVendorListVersion);
+        purposesConsent = readIntIterable(tcString::getPurposesConsent);
+        vendorConsent = readIntIterable(tcString::getVendorConsent);
+        defaultVendorConsent = Field.read(tcString::getDefaultVendorConsent);
+        tcfPolicyVersion = Field.read(tcString::getTcfPolicyVersion);
+        serviceSpecific = Field.read(tcString::isServiceSpecific);
+        useNonStandardStacks = Field.read(tcString::getUseNonStandardStacks);
+        specialFeatureOptIns = readIntIterable(tcString::getSpecialFeatureOptIns);
+        purposesLITransparency = readIntIterable(tcString::getPurposesLITransparency);
+        purposeOneTreatment = Field.read(tcString::getPurposeOneTreatment);
+        publisherCC = Field.read(tcString::getPublisherCC);
+        vendorLegitimateInterest = readIntIterable(tcString::getVendorLegitimateInterest);
+        publisherRestrictions = Field.read(() -> copyOf(tcString.getPublisherRestrictions()));
+        allowedVendors = readIntIterable(tcString::getAllowedVendors);
+        disclosedVendors = readIntIterable(tcString::getDisclosedVendors);
+        pubPurposesConsent = readIntIterable(tcString::getPubPurposesConsent);
+        pubPurposesLITransparency = readIntIterable(tcString::getPubPurposesLITransparency);
+        customPurposesConsent = readIntIterable(tcString::getCustomPurposesConsent);
+        customPurposesLITransparency = readIntIterable(tcString::getCustomPurposesLITransparency);
+    }
+
+    public static TCString of(TCString tcString) {
+        return new TCStringDecoded(tcString);
+    }
+
+    private static Field<IntIterable> readIntIterable(Supplier<IntIterable> getter) {
+        return Field.read(() -> copyOf(getter.get()));
+    }
+
+    private static IntIterable copyOf(IntIterable intIterable) {
+        return intIterable != null ? BitSetIntIterable.from(intIterable) : null;
+    }
+
+    private static List<PublisherRestriction> copyOf(List<PublisherRestriction> publisherRestrictions) {
+        return publisherRestrictions != null
+                ? Collections.unmodifiableList(publisherRestrictions.stream()
+                .map(restriction -> new PublisherRestriction(restriction.getPurposeId(),
+                        restriction.getRestrictionType(), copyOf(restriction.getVendorIds())))
+                .collect(Collectors.toList()))
+                : null;
+    }
+
+    @Override
+    public int getVersion() {
+        return version.get();
+    }
+
+    @Override
+    public Instant getCreated() {
+        return created.get();
+    }
+
+    @Override
+    public Instant getLastUpdated() {
+        return lastUpdated.get();
+    }
+
+    @Override
+    public int getCmpId() {
+        return cmpId.get();
+    }
+
+    @Override
+    public int getCmpVersion() {
+        return cmpVersion.get();
+    }
+
+    @Override
+    public int getConsentScreen() {
+        return consentScreen.get();
+    }
+
+    @Override
+    public String getConsentLanguage() {
+        return consentLanguage.get();
+    }
+
+    @Override
+    public int getVendorListVersion() {
+        return vendorListVersion.get();
+    }
+
+    @Override
+    public IntIterable getPurposesConsent() {
+        return purposesConsent.get();
+    }
+
+    @Override
+    public IntIterable getVendorConsent() {
+        return vendorConsent.get();
+    }
+
+    @Override
+    public boolean getDefaultVendorConsent() {
+        return defaultVendorConsent.get();
+    }
+
+    @Override
+    public int getTcfPolicyVersion() {
+        return tcfPolicyVersion.get();
+    }
+
+    @Override
+    public boolean isServiceSpecific() {
+        return serviceSpecific.get();
+    }
+
+    @Override
+    public boolean getUseNonStandardStacks() {
+        return useNonStandardStacks.get();
+    }
+
+    @Override
+    public IntIterable getSpecialFeatureOptIns() {
+        return specialFeatureOptIns.get();
+    }
+
+    @Override
+    public IntIterable getPurposesLITransparency() {
+        return purposesLITransparency.get();
+    }
+
+    @Override
+    public boolean getPurposeOneTreatment() {
+        return purposeOneTreatment.get();
+    }
+
+    @Override
+    public String getPublisherCC() {
+        return publisherCC.get();
+    }
+
+    @Override
+    public IntIterable getVendorLegitimateInterest() {
+        return vendorLegitimateInterest.get();
+    }
+
+    @Override
+    public List<PublisherRestriction> getPublisherRestrictions() {
+        return publisherRestrictions.get();
+    }
+
+    @Override
+    public IntIterable getAllowedVendors() {
+        return allowedVendors.get();
+    }
+
+    @Override
+    public IntIterable getDisclosedVendors() {
+        return disclosedVendors.get();
+    }
+
+    @Override
+    public IntIterable getPubPurposesConsent() {
+        return pubPurposesConsent.get();
+    }
+
+    @Override
+    public IntIterable getPubPurposesLITransparency() {
+        return pubPurposesLITransparency.get();
+    }
+
+    @Override
+    public IntIterable getCustomPurposesConsent() {
+        return customPurposesConsent.get();
+    }
+
+    @Override
+    public IntIterable getCustomPurposesLITransparency() {
+        return customPurposesLITransparency.get();
+    }
+
+    /**
+     * Holds value of {@link TCString} field or exception thrown while reading it.
+     */
+    private static class Field<T> {
+
+        private final T value;
+        private final RuntimeException exception;
+
+        private Field(T value, RuntimeException exception) {
+            this.value = value;
+            this.exception = exception;
+        }
+
+        static <T> Field<T> read(Supplier<T> getter) {
+            try {
+                return new Field<>(getter.get(), null);
+            } catch (RuntimeException e) {
+                return new Field<>(null, e);
+            }
+        }
+
+        T get() {
+            if (exception != null) {
+                throw exception;
+            }
+            return value;
+        }
+    }
+}
@@ -8,4 +8,16 @@ public interface CacheNotificationListener {
     void save(Map<String, String> requests, Map<String, String> imps);
 
     void invalidate(List<String> requests, List<String> imps);
+
+    /**
+     * Saves given stored responses, ignored by listeners which don't hold them.
+     */
+    default void saveResponses(Map<String, String> responses) {
+    }
+
+    /**
+     * Invalidates given stored responses, ignored by listeners which don't hold them.
+     */
+    default void invalidateResponses(List<String> responses) {
+    }
 }
@@ -1,11 +1,19 @@
 package org.prebid.server.settings;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.execution.Timeout;
+import org.prebid.server.execution.TimeoutFactory;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.settings.helper.StoredDataFetcher;
@@ -15,17 +23,32 @@ import org.prebid.server.settings.model.StoredDataResult;
 import org.prebid.server.settings.model.StoredItem;
 import org.prebid.server.settings.model.StoredResponseDataResult;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * Adds caching functionality for {@link ApplicationSettings} implementation.
+ * <p>
+ * If refresh period is configured, cached accounts and stored data older than it are still returned to caller
+ * while being reloaded from original source in background (stale-while-revalidate) with refresh timeout
+ * independent of requests which noticed them.
+ * <p>
+ * Calls to original source shared between concurrent callers run with their own fetch timeout,
+ * each caller still waits for the result no longer than its own timeout allows.
  */
 public class CachingApplicationSettings implements ApplicationSettings {
 
@@ -33,31 +56,81 @@ public class CachingApplicationSettings implements ApplicationSettings {
 
     private final ApplicationSettings delegate;
 
-    private final Map<String, Account> accountCache;
+    private final Cache<String, Account> accountCache;
     private final Map<String, String> accountToErrorCache;
     private final SettingsCache cache;
     private final SettingsCache ampCache;
     private final SettingsCache videoCache;
     private final Metrics metrics;
+    private final Vertx vertx;
+    private final TimeoutFactory timeoutFactory;
+    private final int refreshAfter;
+    private final long fetchTimeoutMs;
+    private final long refreshTimeoutMs;
+
+    private final Map<String, List<Handler<AsyncResult<Account>>>> accountFetchesInFlight;
+    private final Map<String, List<Handler<AsyncResult<StoredDataResult>>>> storedDataFetchesInFlight;
+    private final Map<String, List<Handler<AsyncResult<StoredResponseDataResult>>>> storedResponseFetchesInFlight;
 
     public CachingApplicationSettings(ApplicationSettings delegate,
                                       SettingsCache cache,
                                       SettingsCache ampCache,
                                       SettingsCache videoCache,
                                       Metrics metrics,
+                                      Vertx vertx,
+                                      TimeoutFactory timeoutFactory,
                                       int ttl,
-                                      int size) {
+                                      int size,
+                                      int refreshAfter,
+                                      long fetchTimeoutMs,
+                                      long refreshTimeoutMs) {
+
+        this(delegate, cache, ampCache, videoCache, metrics, vertx, timeoutFactory, ttl, size, refreshAfter,
+                fetchTimeoutMs, refreshTimeoutMs, Ticker.systemTicker());
+    }
+
+    CachingApplicationSettings(ApplicationSettings delegate,
+                               SettingsCache cache,
+                               SettingsCache ampCache,
+                               SettingsCache videoCache,
+                               Metrics metrics,
+                               Vertx vertx,
+                               TimeoutFactory timeoutFactory,
+                               int ttl,
+                               int size,
+                               int refreshAfter,
+                               long fetchTimeoutMs,
+                               long refreshTimeoutMs,
+                               Ticker ticker) {
 
         if (ttl <= 0 || size <= 0) {
             throw new IllegalArgumentException("ttl and size must be positive");
         }
+        if (refreshAfter < 0) {
+            throw new IllegalArgumentException("refresh period must not be negative");
+        }
+        if (refreshAfter > 0 && refreshAfter >= ttl) {
+            throw new IllegalArgumentException("refresh period must be less than ttl");
+        }
+        if (fetchTimeoutMs <= 0 || refreshTimeoutMs <= 0) {
+            throw new IllegalArgumentException("fetch and refresh timeouts must be positive");
+        }
         this.delegate = Objects.requireNonNull(delegate);
-        this.accountCache = SettingsCache.createCache(ttl, size);
+        this.accountCache = SettingsCache.buildCache(ttl, size, Objects.requireNonNull(ticker));
         this.accountToErrorCache = SettingsCache.createCache(ttl, size);
         this.cache = Objects.requireNonNull(cache);
         this.ampCache = Objects.requireNonNull(ampCache);
         this.videoCache = Objects.requireNonNull(videoCache);
         this.metrics = Objects.requireNonNull(metrics);
+        this.vertx = Objects.requireNonNull(vertx);
+        this.timeoutFactory = Objects.requireNonNull(timeoutFactory);
+        this.refreshAfter = refreshAfter;
+        this.fetchTimeoutMs = fetchTimeoutMs;
+        this.refreshTimeoutMs = refreshTimeoutMs;
+
+        this.accountFetchesInFlight = new ConcurrentHashMap<>();
+        this.storedDataFetchesInFlight = new ConcurrentHashMap<>();
+        this.storedResponseFetchesInFlight = new ConcurrentHashMap<>();
     }
 
     /**
@@ -68,6 +141,8 @@ public class CachingApplicationSettings implements ApplicationSettings {
         return getFromCacheOrDelegate(
                 accountCache,
                 accountToErrorCache,
+                accountFetchesInFlight,
+                refreshAfter,
                 accountId,
                 timeout,
                 delegate::getAccountById,
@@ -83,7 +158,8 @@ public class CachingApplicationSettings implements ApplicationSettings {
                                                   Set<String> impIds,
                                                   Timeout timeout) {
 
-        return getFromCacheOrDelegate(cache, accountId, requestIds, impIds, timeout, delegate::getStoredData);
+        return getFromCacheOrDelegate(cache, MetricName.stored_request, accountId, requestIds, impIds, timeout,
+                delegate::getStoredData);
     }
 
     /**
@@ -95,7 +171,8 @@ public class CachingApplicationSettings implements ApplicationSettings {
                                                      Set<String> impIds,
                                                      Timeout timeout) {
 
-        return getFromCacheOrDelegate(ampCache, accountId, requestIds, impIds, timeout, delegate::getAmpStoredData);
+        return getFromCacheOrDelegate(ampCache, MetricName.amp_stored_request, accountId, requestIds, impIds, timeout,
+                delegate::getAmpStoredData);
     }
 
     @Override
@@ -104,28 +181,81 @@ public class CachingApplicationSettings implements ApplicationSettings {
                                                        Set<String> impIds,
                                                        Timeout timeout) {
 
-        return getFromCacheOrDelegate(videoCache, accountId, requestIds, impIds, timeout, delegate::getVideoStoredData);
+        return getFromCacheOrDelegate(videoCache, MetricName.video_stored_request, accountId, requestIds, impIds,
+                timeout, delegate::getVideoStoredData);
     }
 
     /**
-     * Delegates stored response retrieve to original fetcher, as caching is not supported fot stored response.
+     * Retrieves stored responses from cache and delegates look up of absent ones to original fetcher.
+     * Found responses are saved to cache, errors from original fetcher are propagated to caller.
      */
     @Override
     public Future<StoredResponseDataResult> getStoredResponses(Set<String> responseIds, Timeout timeout) {
-        return delegate.getStoredResponses(responseIds, timeout);
+        final Map<String, String> responseCache = cache.getResponseCache();
+
+        final Map<String, String> idToStoredResponse = new HashMap<>(responseIds.size());
+        final Set<String> missedResponseIds = new HashSet<>();
+        for (String id : responseIds) {
+            final String storedResponse = responseCache.get(id);
+            if (storedResponse != null) {
+                idToStoredResponse.put(id, storedResponse);
+            } else {
+                missedResponseIds.add(id);
+            }
+        }
+
+        if (!idToStoredResponse.isEmpty()) {
+            metrics.updateSettingsCacheEventMetric(MetricName.stored_response, MetricName.hit);
+        }
+        if (missedResponseIds.isEmpty()) {
+            return Future.succeededFuture(StoredResponseDataResult.of(idToStoredResponse, Collections.emptyList()));
+        }
+
+        metrics.updateSettingsCacheEventMetric(MetricName.stored_response, MetricName.miss);
+
+        return fetchOrJoinInFlight(
+                storedResponseFetchesInFlight,
+                new TreeSet<>(missedResponseIds).toString(),
+                timeout,
+                () -> delegate.getStoredResponses(missedResponseIds, timeoutFactory.create(fetchTimeoutMs))
+                        .map(result -> {
+                            result.getIdToStoredResponses().forEach(cache::saveResponseCache);
+                            return result;
+                        }),
+                () -> metrics.updateSettingsCacheEventMetric(MetricName.stored_response, MetricName.coalesced))
+                .map(result -> {
+                    idToStoredResponse.putAll(result.getIdToStoredResponses());
+
+                    return StoredResponseDataResult.of(idToStoredResponse, result.getErrors());
+                });
     }
 
-    private static <T> Future<T> getFromCacheOrDelegate(Map<String, T> cache,
-                                                        Map<String, String> accountToErrorCache,
-                                                        String key,
-                                                        Timeout timeout,
-                                                        BiFunction<String, Timeout, Future<T>> retriever,
-                                                        Consumer<MetricName> metricUpdater) {
+    private <T> Future<T> getFromCacheOrDelegate(Cache<String, T> cache,
+                                                 Map<String, String> accountToErrorCache,
+                                                 Map<String, List<Handler<AsyncResult<T>>>> fetchesInFlight,
+                                                 int refreshAfter,
+                                                 String key,
+                                                 Timeout timeout,
+                                                 BiFunction<String, Timeout, Future<T>> retriever,
+                                                 Consumer<MetricName> metricUpdater) {
+
+        final Function<Timeout, Future<T>> fetcher = fetchTimeout -> retriever.apply(key, fetchTimeout)
+                .map(value -> {
+                    cache.put(key, value);
+                    return value;
+                })
+                .recover(throwable -> cacheAndReturnFailedFuture(throwable, key, accountToErrorCache));
 
-        final T cachedValue = cache.get(key);
+        final T cachedValue = cache.getIfPresent(key);
         if (cachedValue != null) {
             metricUpdater.accept(MetricName.hit);
 
+            if (SettingsCache.isRefreshRequired(cache, key, refreshAfter)) {
+                metricUpdater.accept(MetricName.stale);
+                refreshInBackground(fetchesInFlight, key,
+                        () -> fetcher.apply(timeoutFactory.create(refreshTimeoutMs)));
+            }
+
             return Future.succeededFuture(cachedValue);
         }
 
@@ -136,12 +266,9 @@ public class CachingApplicationSettings implements ApplicationSettings {
             return Future.failedFuture(new PreBidException(preBidExceptionMessage));
         }
 
-        return retriever.apply(key, timeout)
-                .map(value -> {
-                    cache.put(key, value);
-                    return value;
-                })
-                .recover(throwable -> cacheAndReturnFailedFuture(throwable, key, accountToErrorCache));
+        return fetchOrJoinInFlight(fetchesInFlight, key, timeout,
+                () -> fetcher.apply(timeoutFactory.create(fetchTimeoutMs)),
+                () -> metricUpdater.accept(MetricName.coalesced));
     }
 
     /**
@@ -149,9 +276,13 @@ public class CachingApplicationSettings implements ApplicationSettings {
      * source, combines results and updates cache with missed stored item. In case when origin source returns failed
      * {@link Future} propagates its result to caller. In successive call return {@link Future&lt;StoredDataResult&gt;}
      * with all found stored items and error from origin source id call was made.
+     * <p>
+     * Concurrent calls missing the same ids for the same account share single origin source call.
+     * Found items requiring refresh are returned as is and reloaded in background.
      */
-    private static Future<StoredDataResult> getFromCacheOrDelegate(
+    private Future<StoredDataResult> getFromCacheOrDelegate(
             SettingsCache cache,
+            MetricName cacheType,
             String accountId,
             Set<String> requestIds,
             Set<String> impIds,
@@ -166,12 +297,23 @@ public class CachingApplicationSettings implements ApplicationSettings {
         final Map<String, Set<StoredItem>> impCache = cache.getImpCache();
 
         final Set<String> missedRequestIds = new HashSet<>();
+        final Set<String> staleRequestIds = new HashSet<>();
         final Map<String, String> storedIdToRequest = getFromCacheOrAddMissedIds(normalizedAccountId, requestIds,
-                requestCache, missedRequestIds);
+                requestCache, cache::isRequestRefreshRequired, missedRequestIds, staleRequestIds);
 
         final Set<String> missedImpIds = new HashSet<>();
+        final Set<String> staleImpIds = new HashSet<>();
         final Map<String, String> storedIdToImp = getFromCacheOrAddMissedIds(normalizedAccountId, impIds, impCache,
-                missedImpIds);
+                cache::isImpRefreshRequired, missedImpIds, staleImpIds);
+
+        if (!staleRequestIds.isEmpty() || !staleImpIds.isEmpty()) {
+            metrics.updateSettingsCacheEventMetric(cacheType, MetricName.stale);
+            refreshInBackground(storedDataFetchesInFlight,
+                    fetchKey(cacheType, normalizedAccountId, staleRequestIds, staleImpIds),
+                    () -> retriever.apply(normalizedAccountId, staleRequestIds, staleImpIds,
+                            timeoutFactory.create(refreshTimeoutMs))
+                            .map(result -> saveToCache(cache, normalizedAccountId, result)));
+        }
 
         if (missedRequestIds.isEmpty() && missedImpIds.isEmpty()) {
             return Future.succeededFuture(
@@ -179,21 +321,135 @@ public class CachingApplicationSettings implements ApplicationSettings {
         }
 
         // delegate call to original source for missed ids and update cache with it
-        return retriever.apply(normalizedAccountId, missedRequestIds, missedImpIds, timeout).map(result -> {
-            final Map<String, String> storedIdToRequestFromDelegate = result.getStoredIdToRequest();
-            storedIdToRequest.putAll(storedIdToRequestFromDelegate);
-            for (Map.Entry<String, String> entry : storedIdToRequestFromDelegate.entrySet()) {
-                cache.saveRequestCache(normalizedAccountId, entry.getKey(), entry.getValue());
-            }
+        return fetchAndSaveToCache(cache, cacheType, normalizedAccountId, missedRequestIds, missedImpIds, timeout,
+                retriever, () -> metrics.updateSettingsCacheEventMetric(cacheType, MetricName.coalesced))
+                .map(result -> {
+                    storedIdToRequest.putAll(result.getStoredIdToRequest());
+                    storedIdToImp.putAll(result.getStoredIdToImp());
+
+                    return StoredDataResult.of(storedIdToRequest, storedIdToImp, result.getErrors());
+                });
+    }
 
-            final Map<String, String> storedIdToImpFromDelegate = result.getStoredIdToImp();
-            storedIdToImp.putAll(storedIdToImpFromDelegate);
-            for (Map.Entry<String, String> entry : storedIdToImpFromDelegate.entrySet()) {
-                cache.saveImpCache(normalizedAccountId, entry.getKey(), entry.getValue());
-            }
+    private Future<StoredDataResult> fetchAndSaveToCache(
+            SettingsCache cache,
+            MetricName cacheType,
+            String accountId,
+            Set<String> requestIds,
+            Set<String> impIds,
+            Timeout timeout,
+            StoredDataFetcher<String, Set<String>, Set<String>, Timeout, Future<StoredDataResult>> retriever,
+            Runnable coalescedListener) {
+
+        return fetchOrJoinInFlight(
+                storedDataFetchesInFlight,
+                fetchKey(cacheType, accountId, requestIds, impIds),
+                timeout,
+                () -> retriever.apply(accountId, requestIds, impIds, timeoutFactory.create(fetchTimeoutMs))
+                        .map(result -> saveToCache(cache, accountId, result)),
+                coalescedListener);
+    }
+
+    private static String fetchKey(MetricName cacheType, String accountId, Set<String> requestIds,
+                                   Set<String> impIds) {
+
+        return String.format("%s|%s|%s|%s", cacheType, accountId, new TreeSet<>(requestIds), new TreeSet<>(impIds));
+    }
 
-            return StoredDataResult.of(storedIdToRequest, storedIdToImp, result.getErrors());
+    private static StoredDataResult saveToCache(SettingsCache cache, String accountId, StoredDataResult result) {
+        for (Map.Entry<String, String> entry : result.getStoredIdToRequest().entrySet()) {
+            cache.saveRequestCache(accountId, entry.getKey(), entry.getValue());
+        }
+        for (Map.Entry<String, String> entry : result.getStoredIdToImp().entrySet()) {
+            cache.saveImpCache(accountId, entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    /**
+     * Starts fetch for given key or, if one is already in flight, joins it instead of calling origin source again.
+     * Joined callers are notified on their own Vert.x context as fetch may complete on another event loop.
+     * <p>
+     * Fetch itself is not bound to timeout of any caller, instead each caller gets its result or timeout failure
+     * when its own timeout expires, whichever comes first.
+     */
+    private <T> Future<T> fetchOrJoinInFlight(Map<String, List<Handler<AsyncResult<T>>>> fetchesInFlight,
+                                              String key,
+                                              Timeout timeout,
+                                              Supplier<Future<T>> fetcher,
+                                              Runnable coalescedListener) {
+
+        final long remainingTimeout = timeout.remaining();
+        if (remainingTimeout <= 0) {
+            return Future.failedFuture(timeoutException());
+        }
+
+        final Promise<T> promise = Promise.promise();
+        final long timerId = vertx.setTimer(remainingTimeout, ignored -> promise.tryFail(timeoutException()));
+        final Handler<AsyncResult<T>> waiter = result -> completeWaiter(promise, timerId, result);
+
+        final List<Handler<AsyncResult<T>>> newWaiters = new ArrayList<>();
+        final Context context = Vertx.currentContext();
+
+        final List<Handler<AsyncResult<T>>> waiters = fetchesInFlight.compute(key, (ignored, existingWaiters) -> {
+            if (existingWaiters == null) {
+                newWaiters.add(waiter);
+                return newWaiters;
+            }
+            existingWaiters.add(context != null
+                    ? result -> context.runOnContext(ignoredVoid -> waiter.handle(result))
+                    : waiter);
+            return existingWaiters;
         });
+
+        if (waiters != newWaiters) {
+            coalescedListener.run();
+            return promise.future();
+        }
+
+        startFetch(fetchesInFlight, key, fetcher);
+
+        return promise.future();
+    }
+
+    /**
+     * Starts fetch for given key without waiting for its result unless one is already in flight.
+     */
+    private static <T> void refreshInBackground(Map<String, List<Handler<AsyncResult<T>>>> fetchesInFlight,
+                                                String key,
+                                                Supplier<Future<T>> fetcher) {
+
+        if (fetchesInFlight.putIfAbsent(key, new ArrayList<>()) == null) {
+            startFetch(fetchesInFlight, key, fetcher);
+        }
+    }
+
+    private static <T> void startFetch(Map<String, List<Handler<AsyncResult<T>>>> fetchesInFlight,
+                                       String key,
+                                       Supplier<Future<T>> fetcher) {
+
+        Future<T> fetchFuture;
+        try {
+            fetchFuture = fetcher.get();
+        } catch (Exception e) {
+            fetchFuture = Future.failedFuture(e);
+        }
+        fetchFuture.setHandler(result -> fetchesInFlight.remove(key).forEach(handler -> handler.handle(result)));
+    }
+
+    private <T> void completeWaiter(Promise<T> promise, long timerId, AsyncResult<T> result) {
+        vertx.cancelTimer(timerId);
+
+        // check is to avoid harmless exception if caller timeout expired before result became ready
+        if (result.succeeded()) {
+            promise.tryComplete(result.result());
+        } else {
+            promise.tryFail(result.cause());
+        }
+    }
+
+    private static TimeoutException timeoutException() {
+        return new TimeoutException("Timeout has been exceeded");
     }
 
     private static <T> Future<T> cacheAndReturnFailedFuture(Throwable throwable,
@@ -207,10 +463,17 @@ public class CachingApplicationSettings implements ApplicationSettings {
         return Future.failedFuture(throwable);
     }
 
+    /**
+     * Collects ids absent in cache to missed ids. Ids of found items requiring refresh are collected to stale ids
+     * only if they belong to given account, items shared between accounts are expected to be updated by
+     * {@link CacheNotificationListener}.
+     */
     private static Map<String, String> getFromCacheOrAddMissedIds(String accountId,
                                                                   Set<String> ids,
                                                                   Map<String, Set<StoredItem>> cache,
-                                                                  Set<String> missedIds) {
+                                                                  Predicate<String> refreshRequired,
+                                                                  Set<String> missedIds,
+                                                                  Set<String> staleIds) {
 
         final Map<String, String> idToStoredItem = new HashMap<>(ids.size());
 
@@ -218,6 +481,9 @@ public class CachingApplicationSettings implements ApplicationSettings {
             try {
                 final StoredItem resolvedStoredItem = StoredItemResolver.resolve(null, accountId, id, cache.get(id));
                 idToStoredItem.put(id, resolvedStoredItem.getData());
+                if (Objects.equals(resolvedStoredItem.getAccountId(), accountId) && refreshRequired.test(id)) {
+                    staleIds.add(id);
+                }
             } catch (PreBidException e) {
                 missedIds.add(id);
             }
@@ -227,7 +493,7 @@ public class CachingApplicationSettings implements ApplicationSettings {
     }
 
     public void invalidateAccountCache(String accountId) {
-        accountCache.remove(accountId);
+        accountCache.invalidate(accountId);
         logger.debug("Account with id {0} was invalidated", accountId);
     }
 
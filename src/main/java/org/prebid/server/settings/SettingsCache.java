@@ -1,60 +1,122 @@
 package org.prebid.server.settings;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
-import org.apache.commons.lang3.ObjectUtils;
 import org.prebid.server.settings.model.StoredItem;
 
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 /**
- * Just a simple wrapper over in-memory caches for requests and imps.
+ * Just a simple wrapper over in-memory caches for requests, imps and responses.
+ * <p>
+ * Entries are evicted after ttl (hard TTL), while entries older than refresh period (soft TTL) are still served
+ * but reported as requiring refresh, so caller can reload them in background.
  */
 public class SettingsCache implements CacheNotificationListener {
 
-    private final Map<String, Set<StoredItem>> requestCache;
-    private final Map<String, Set<StoredItem>> impCache;
+    private final Cache<String, Set<StoredItem>> requestCache;
+    private final Cache<String, Set<StoredItem>> impCache;
+    private final Cache<String, String> responseCache;
+    private final int refreshAfter;
 
     public SettingsCache(int ttl, int size) {
+        this(ttl, size, 0);
+    }
+
+    public SettingsCache(int ttl, int size, int refreshAfter) {
+        this(ttl, size, refreshAfter, Ticker.systemTicker());
+    }
+
+    SettingsCache(int ttl, int size, int refreshAfter, Ticker ticker) {
         if (ttl <= 0 || size <= 0) {
             throw new IllegalArgumentException("ttl and size must be positive");
         }
-        requestCache = createCache(ttl, size);
-        impCache = createCache(ttl, size);
+        if (refreshAfter < 0) {
+            throw new IllegalArgumentException("refresh period must not be negative");
+        }
+        if (refreshAfter > 0 && refreshAfter >= ttl) {
+            throw new IllegalArgumentException("refresh period must be less than ttl");
+        }
+        requestCache = buildCache(ttl, size, ticker);
+        impCache = buildCache(ttl, size, ticker);
+        responseCache = buildCache(ttl, size, ticker);
+        this.refreshAfter = refreshAfter;
     }
 
     static <T> Map<String, T> createCache(int ttl, int size) {
+        return SettingsCache.<T>buildCache(ttl, size, Ticker.systemTicker()).asMap();
+    }
+
+    static <T> Cache<String, T> buildCache(int ttl, int size, Ticker ticker) {
         return Caffeine.newBuilder()
                 .expireAfterWrite(ttl, TimeUnit.SECONDS)
                 .maximumSize(size)
-                .<String, T>build()
-                .asMap();
+                .ticker(ticker)
+                .build();
+    }
+
+    /**
+     * Returns true if entry for given key exists in cache and was written more than refresh period seconds ago.
+     */
+    static boolean isRefreshRequired(Cache<String, ?> cache, String key, int refreshAfter) {
+        return refreshAfter > 0 && cache.policy().expireAfterWrite()
+                .map(expiration -> expiration.ageOf(key, TimeUnit.SECONDS).orElse(0L) >= refreshAfter)
+                .orElse(false);
     }
 
     Map<String, Set<StoredItem>> getRequestCache() {
-        return requestCache;
+        return requestCache.asMap();
     }
 
     Map<String, Set<StoredItem>> getImpCache() {
-        return impCache;
+        return impCache.asMap();
+    }
+
+    Map<String, String> getResponseCache() {
+        return responseCache.asMap();
+    }
+
+    boolean isRequestRefreshRequired(String requestId) {
+        return isRefreshRequired(requestCache, requestId, refreshAfter);
+    }
+
+    boolean isImpRefreshRequired(String impId) {
+        return isRefreshRequired(impCache, impId, refreshAfter);
     }
 
     void saveRequestCache(String accountId, String requestId, String requestValue) {
-        saveCachedValue(requestCache, accountId, requestId, requestValue);
+        saveCachedValue(requestCache.asMap(), accountId, requestId, requestValue);
     }
 
     void saveImpCache(String accountId, String impId, String impValue) {
-        saveCachedValue(impCache, accountId, impId, impValue);
+        saveCachedValue(impCache.asMap(), accountId, impId, impValue);
+    }
+
+    void saveResponseCache(String responseId, String responseValue) {
+        responseCache.put(responseId, responseValue);
     }
 
     private static void saveCachedValue(Map<String, Set<StoredItem>> cache,
                                         String accountId, String id, String value) {
-        final Set<StoredItem> values = ObjectUtils.defaultIfNull(cache.get(id), new HashSet<>());
+        // copy cached items as they can be read concurrently, item of the same account is replaced
+        final Set<StoredItem> values = new HashSet<>();
+        final Set<StoredItem> cachedValues = cache.get(id);
+        if (cachedValues != null) {
+            for (StoredItem storedItem : cachedValues) {
+                if (!Objects.equals(storedItem.getAccountId(), accountId)) {
+                    values.add(storedItem);
+                }
+            }
+        }
         values.add(StoredItem.of(accountId, value));
         cache.put(id, values);
     }
@@ -76,7 +138,25 @@ public class SettingsCache implements CacheNotificationListener {
 
     @Override
     public void invalidate(List<String> requests, List<String> imps) {
-        requestCache.keySet().removeAll(requests);
-        impCache.keySet().removeAll(imps);
+        if (CollectionUtils.isNotEmpty(requests)) {
+            requestCache.invalidateAll(requests);
+        }
+        if (CollectionUtils.isNotEmpty(imps)) {
+            impCache.invalidateAll(imps);
+        }
+    }
+
+    @Override
+    public void saveResponses(Map<String, String> responses) {
+        if (MapUtils.isNotEmpty(responses)) {
+            responseCache.putAll(responses);
+        }
+    }
+
+    @Override
+    public void invalidateResponses(List<String> responses) {
+        if (CollectionUtils.isNotEmpty(responses)) {
+            responseCache.invalidateAll(responses);
+        }
     }
 }
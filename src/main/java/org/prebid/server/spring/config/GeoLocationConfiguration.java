@@ -11,6 +11,7 @@ import org.prebid.server.spring.config.model.CircuitBreakerProperties;
 import org.prebid.server.spring.config.model.HttpClientProperties;
 import org.prebid.server.spring.config.model.RemoteFileSyncerProperties;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -42,9 +43,12 @@ public class GeoLocationConfiguration {
         @ConditionalOnProperty(prefix = "geolocation.circuit-breaker", name = "enabled", havingValue = "false",
                 matchIfMissing = true)
         GeoLocationService basicGeoLocationService(RemoteFileSyncerProperties fileSyncerProperties,
-                                                   Vertx vertx) {
+                                                   @Value("${geolocation.maxmind.cache.size}") int cacheSize,
+                                                   @Value("${geolocation.maxmind.cache.ttl-seconds}") int cacheTtl,
+                                                   Vertx vertx,
+                                                   Metrics metrics) {
 
-            return createGeoLocationService(fileSyncerProperties, vertx);
+            return createGeoLocationService(fileSyncerProperties, cacheSize, cacheTtl, vertx, metrics);
         }
 
         @Bean
@@ -53,17 +57,22 @@ public class GeoLocationConfiguration {
                 Vertx vertx,
                 Metrics metrics,
                 RemoteFileSyncerProperties fileSyncerProperties,
+                @Value("${geolocation.maxmind.cache.size}") int cacheSize,
+                @Value("${geolocation.maxmind.cache.ttl-seconds}") int cacheTtl,
                 @Qualifier("maxMindCircuitBreakerProperties") CircuitBreakerProperties circuitBreakerProperties,
                 Clock clock) {
 
             return new CircuitBreakerSecuredGeoLocationService(vertx,
-                    createGeoLocationService(fileSyncerProperties, vertx), metrics,
+                    createGeoLocationService(fileSyncerProperties, cacheSize, cacheTtl, vertx, metrics), metrics,
                     circuitBreakerProperties.getOpeningThreshold(), circuitBreakerProperties.getOpeningIntervalMs(),
                     circuitBreakerProperties.getClosingIntervalMs(), clock);
         }
 
         private GeoLocationService createGeoLocationService(RemoteFileSyncerProperties fileSyncerProperties,
-                                                            Vertx vertx) {
+                                                            int cacheSize,
+                                                            int cacheTtl,
+                                                            Vertx vertx,
+                                                            Metrics metrics) {
 
             final HttpClientProperties httpClientProperties = fileSyncerProperties.getHttpClient();
             final HttpClientOptions httpClientOptions = new HttpClientOptions()
@@ -75,7 +84,8 @@ public class GeoLocationConfiguration {
                     fileSyncerProperties.getRetryCount(), fileSyncerProperties.getRetryIntervalMs(),
                     fileSyncerProperties.getTimeoutMs(), fileSyncerProperties.getUpdateIntervalMs(),
                     vertx.createHttpClient(httpClientOptions), vertx, vertx.fileSystem());
-            final MaxMindGeoLocationService maxMindGeoLocationService = new MaxMindGeoLocationService();
+            final MaxMindGeoLocationService maxMindGeoLocationService =
+                    new MaxMindGeoLocationService(vertx, metrics, cacheSize, cacheTtl);
 
             remoteFileSyncer.syncForFilepath(maxMindGeoLocationService);
             return maxMindGeoLocationService;
@@ -3,6 +3,7 @@ package org.prebid.server.spring.config;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.json.JsonMerger;
 import org.prebid.server.json.ObjectMapperProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -15,7 +16,10 @@ public class JsonConfiguration {
     }
 
     @Bean
-    JsonMerger jsonMerger(JacksonMapper mapper) {
-        return new JsonMerger(mapper);
+    JsonMerger jsonMerger(
+            JacksonMapper mapper,
+            @Value("${settings.in-memory-cache.parsed-stored-data-cache-size:0}") int parsedStoredDataCacheSize) {
+
+        return new JsonMerger(mapper, parsedStoredDataCacheSize);
     }
 }
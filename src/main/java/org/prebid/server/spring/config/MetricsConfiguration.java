@@ -24,7 +24,9 @@ import lombok.NoArgsConstructor;
 import org.apache.commons.lang3.ObjectUtils;
 import org.prebid.server.metric.AccountMetricsVerbosity;
 import org.prebid.server.metric.CounterType;
+import org.prebid.server.metric.HdrHistogramMetricRegistry;
 import org.prebid.server.metric.Metrics;
+import org.prebid.server.metric.ReservoirType;
 import org.prebid.server.metric.model.AccountMetricsVerbosityLevel;
 import org.prebid.server.vertx.CloseableAdapter;
 import org.prebid.server.vertx.ContextRunner;
@@ -41,6 +43,7 @@ import javax.annotation.PostConstruct;
 import javax.validation.constraints.Min;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
+import java.time.Clock;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -112,11 +115,22 @@ public class MetricsConfiguration {
         return new Metrics(metricRegistry, counterType, accountMetricsVerbosity);
     }
 
+    /**
+     * Static to be created before {@link Vertx}, which looks up the same shared registry by name.
+     */
     @Bean
-    MetricRegistry metricRegistry() {
+    static MetricRegistry metricRegistry(
+            @Value("${metrics.reservoirType}") ReservoirType reservoirType,
+            @Value("${metrics.hdrHistogramWindowMs}") long hdrHistogramWindowMs) {
+
         final boolean alreadyExists = SharedMetricRegistries.names().contains(METRIC_REGISTRY_NAME);
-        final MetricRegistry metricRegistry = SharedMetricRegistries.getOrCreate(METRIC_REGISTRY_NAME);
+        if (!alreadyExists) {
+            SharedMetricRegistries.add(METRIC_REGISTRY_NAME, reservoirType == ReservoirType.hdrHistogram
+                    ? new HdrHistogramMetricRegistry(hdrHistogramWindowMs, Clock.systemUTC())
+                    : new MetricRegistry());
+        }
 
+        final MetricRegistry metricRegistry = SharedMetricRegistries.getOrCreate(METRIC_REGISTRY_NAME);
         if (!alreadyExists) {
             metricRegistry.register("jvm.gc", new GarbageCollectorMetricSet());
             metricRegistry.register("jvm.memory", new MemoryUsageGaugeSet());
@@ -133,6 +133,7 @@ public class PrivacyServiceConfiguration {
     TcfDefinerService tcfDefinerService(
             GdprConfig gdprConfig,
             @Value("${gdpr.eea-countries}") String eeaCountriesAsString,
+            @Value("${gdpr.consent-cache.size}") int consentCacheSize,
             GdprService gdprService,
             Tcf2Service tcf2Service,
             @Autowired(required = false) GeoLocationService geoLocationService,
@@ -145,6 +146,7 @@ public class PrivacyServiceConfiguration {
         return new TcfDefinerService(
                 gdprConfig,
                 eeaCountries,
+                consentCacheSize,
                 gdprService,
                 tcf2Service,
                 geoLocationService,
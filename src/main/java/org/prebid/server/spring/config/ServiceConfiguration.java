@@ -5,10 +5,17 @@ import de.malkusch.whoisServerList.publicSuffixList.PublicSuffixListFactory;
 import io.vertx.core.Vertx;
 import io.vertx.core.file.FileSystem;
 import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
 import io.vertx.core.net.JksOptions;
+import org.apache.commons.lang3.BooleanUtils;
+import org.apache.commons.lang3.ObjectUtils;
 import org.prebid.server.auction.AmpResponsePostProcessor;
 import org.prebid.server.auction.BidResponseCreator;
 import org.prebid.server.auction.BidResponsePostProcessor;
+import org.prebid.server.auction.BidderTimeoutResolver;
 import org.prebid.server.auction.ExchangeService;
 import org.prebid.server.auction.FpdResolver;
 import org.prebid.server.auction.ImplicitParametersExtractor;
@@ -38,9 +45,12 @@ import org.prebid.server.cache.model.CacheTtl;
 import org.prebid.server.cookie.UidsCookieService;
 import org.prebid.server.currency.CurrencyConversionService;
 import org.prebid.server.events.EventsService;
+import org.prebid.server.execution.LatencyEstimator;
 import org.prebid.server.execution.TimeoutFactory;
 import org.prebid.server.identity.IdGenerator;
+import org.prebid.server.identity.IdGeneratorType;
 import org.prebid.server.identity.NoneIdGenerator;
+import org.prebid.server.identity.ThreadLocalUUIDIdGenerator;
 import org.prebid.server.identity.UUIDIdGenerator;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.json.JsonMerger;
@@ -54,7 +64,9 @@ import org.prebid.server.settings.ApplicationSettings;
 import org.prebid.server.settings.model.BidValidationEnforcement;
 import org.prebid.server.spring.config.model.CircuitBreakerProperties;
 import org.prebid.server.spring.config.model.ExternalConversionProperties;
+import org.prebid.server.spring.config.model.HttpClientDestinationProperties;
 import org.prebid.server.spring.config.model.HttpClientProperties;
+import org.prebid.server.util.HttpUtil;
 import org.prebid.server.util.VersionInfo;
 import org.prebid.server.validation.BidderParamValidator;
 import org.prebid.server.validation.RequestValidator;
@@ -78,7 +90,9 @@ import javax.validation.constraints.Min;
 import java.io.IOException;
 import java.time.Clock;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -87,6 +101,8 @@ import java.util.stream.Stream;
 @Configuration
 public class ServiceConfiguration {
 
+    private static final Logger logger = LoggerFactory.getLogger(ServiceConfiguration.class);
+
     @Bean
     CacheService cacheService(
             @Value("${cache.scheme}") String scheme,
@@ -99,6 +115,7 @@ public class ServiceConfiguration {
             EventsService eventsService,
             HttpClient httpClient,
             Metrics metrics,
+            @Autowired(required = false) LatencyEstimator cacheRequestTimeEstimator,
             Clock clock,
             JacksonMapper mapper) {
 
@@ -110,10 +127,22 @@ public class ServiceConfiguration {
                 vastModifier,
                 eventsService,
                 metrics,
+                cacheRequestTimeEstimator,
                 clock,
                 mapper);
     }
 
+    @Bean
+    @ConditionalOnProperty(prefix = "auction.cache.request-time-estimation", name = "enabled", havingValue = "true")
+    LatencyEstimator cacheRequestTimeEstimator(
+            @Value("${auction.cache.request-time-estimation.window-ms}") long windowMs,
+            @Value("${auction.cache.request-time-estimation.percentile}") double percentile,
+            @Value("${auction.cache.request-time-estimation.min-samples}") int minSamples,
+            Clock clock) {
+
+        return new LatencyEstimator(windowMs, percentile, minSamples, clock);
+    }
+
     @Bean
     VastModifier vastModifier(BidderCatalog bidderCatalog, EventsService eventsService) {
         return new VastModifier(bidderCatalog, eventsService);
@@ -253,19 +282,38 @@ public class ServiceConfiguration {
     }
 
     @Bean
-    IdGenerator bidIdGenerator(@Value("${auction.generate-bid-id}") boolean generateBidId) {
+    IdGenerator bidIdGenerator(@Value("${auction.generate-bid-id}") boolean generateBidId,
+                               @Value("${auction.id-generator-type}") IdGeneratorType idGeneratorType) {
         return generateBidId
-                ? new UUIDIdGenerator()
+                ? createIdGenerator(idGeneratorType)
                 : new NoneIdGenerator();
     }
 
     @Bean
-    IdGenerator sourceIdGenerator(@Value("${auction.generate-source-tid}") boolean generateSourceTid) {
+    IdGenerator sourceIdGenerator(@Value("${auction.generate-source-tid}") boolean generateSourceTid,
+                                  @Value("${auction.id-generator-type}") IdGeneratorType idGeneratorType) {
         return generateSourceTid
-                ? new UUIDIdGenerator()
+                ? createIdGenerator(idGeneratorType)
                 : new NoneIdGenerator();
     }
 
+    /**
+     * Creates generator of the configured type. Generation is turned off by dedicated properties,
+     * so {@link IdGeneratorType#none} is not accepted here.
+     */
+    private static IdGenerator createIdGenerator(IdGeneratorType idGeneratorType) {
+        switch (idGeneratorType) {
+            case none:
+                throw new IllegalArgumentException(
+                        "auction.id-generator-type can be uuid or threadLocalUuid, but was none");
+            case threadLocalUuid:
+                return new ThreadLocalUUIDIdGenerator();
+            case uuid:
+            default:
+                return new UUIDIdGenerator();
+        }
+    }
+
     @Bean
     AmpRequestFactory ampRequestFactory(StoredRequestProcessor storedRequestProcessor,
                                         Ortb2RequestFactory ortb2RequestFactory,
@@ -274,6 +322,7 @@ public class ServiceConfiguration {
                                         Ortb2ImplicitParametersResolver ortb2ImplicitParametersResolver,
                                         FpdResolver fpdResolver,
                                         PrivacyEnforcementService privacyEnforcementService,
+                                        TcfDefinerService tcfDefinerService,
                                         TimeoutResolver timeoutResolver,
                                         JacksonMapper mapper) {
 
@@ -285,6 +334,7 @@ public class ServiceConfiguration {
                 ortb2ImplicitParametersResolver,
                 fpdResolver,
                 privacyEnforcementService,
+                tcfDefinerService,
                 timeoutResolver,
                 mapper);
     }
@@ -423,7 +473,82 @@ public class ServiceConfiguration {
                     .setKeyStoreOptions(jksOptions);
         }
 
-        return new BasicHttpClient(vertx, vertx.createHttpClient(options));
+        final Map<String, io.vertx.core.http.HttpClient> originToHttpClient =
+                originToDestination(httpClientProperties.getDestinations()).entrySet().stream()
+                        .collect(Collectors.toMap(
+                                Map.Entry::getKey,
+                                entry -> createDestinationHttpClient(vertx, options, entry.getValue())));
+
+        return new BasicHttpClient(vertx, vertx.createHttpClient(options), originToHttpClient);
+    }
+
+    /**
+     * Creates Vert.x {@link io.vertx.core.http.HttpClient} with own connection pool for the given destination,
+     * overriding default options with destination specific ones, and warms its connections up if configured.
+     */
+    private static io.vertx.core.http.HttpClient createDestinationHttpClient(
+            Vertx vertx, HttpClientOptions defaultOptions, HttpClientDestinationProperties destination) {
+
+        final HttpClientOptions options = new HttpClientOptions(defaultOptions);
+        if (destination.getMaxPoolSize() != null) {
+            options.setMaxPoolSize(destination.getMaxPoolSize());
+        }
+        if (destination.getIdleTimeoutMs() != null) {
+            options.setIdleTimeout(destination.getIdleTimeoutMs());
+        }
+        if (BooleanUtils.isTrue(destination.getHttp2())) {
+            options
+                    .setProtocolVersion(HttpVersion.HTTP_2)
+                    .setUseAlpn(true);
+            if (destination.getMaxPoolSize() != null) {
+                options.setHttp2MaxPoolSize(destination.getMaxPoolSize());
+            }
+            if (destination.getHttp2MultiplexingLimit() != null) {
+                options.setHttp2MultiplexingLimit(destination.getHttp2MultiplexingLimit());
+            }
+        }
+
+        final io.vertx.core.http.HttpClient httpClient = vertx.createHttpClient(options);
+
+        // requests are made concurrently, so each of them opens its own connection kept alive in the pool then
+        final int warmUpConnections = ObjectUtils.defaultIfNull(destination.getWarmUpConnections(), 0);
+        for (int i = 0; i < warmUpConnections; i++) {
+            httpClient.requestAbs(HttpMethod.HEAD, destination.getUrl())
+                    .handler(response -> logger.debug("Warmed up connection to {0}", destination.getUrl()))
+                    .exceptionHandler(exception -> logger.warn("Warming up connection to {0} failed: {1}",
+                            destination.getUrl(), exception.getMessage()))
+                    .end();
+        }
+
+        return httpClient;
+    }
+
+    /**
+     * Returns http client destinations by their origins, failing if destination url is invalid or there are
+     * several destinations with the same origin.
+     */
+    static Map<String, HttpClientDestinationProperties> originToDestination(
+            List<HttpClientDestinationProperties> destinations) {
+
+        final Map<String, HttpClientDestinationProperties> originToDestination = new HashMap<>();
+        for (HttpClientDestinationProperties destination : destinations) {
+            final String origin = originFrom(destination.getUrl());
+            final HttpClientDestinationProperties duplicate = originToDestination.putIfAbsent(origin, destination);
+            if (duplicate != null) {
+                throw new IllegalArgumentException(String.format(
+                        "Http client destinations %s and %s have the same origin %s",
+                        duplicate.getUrl(), destination.getUrl(), origin));
+            }
+        }
+        return originToDestination;
+    }
+
+    private static String originFrom(String url) {
+        final String origin = HttpUtil.getOriginFromUrl(url);
+        if (origin == null) {
+            throw new IllegalArgumentException(String.format("Invalid http client destination url: %s", url));
+        }
+        return origin;
     }
 
     @Bean
@@ -514,6 +639,9 @@ public class ServiceConfiguration {
     @Bean
     ExchangeService exchangeService(
             @Value("${auction.cache.expected-request-time-ms}") long expectedCacheTimeMs,
+            @Autowired(required = false) LatencyEstimator cacheRequestTimeEstimator,
+            @Value("${auction.cache.request-time-estimation.max-ms}") long maxCacheTimeMs,
+            @Autowired(required = false) BidderTimeoutResolver bidderTimeoutResolver,
             BidderCatalog bidderCatalog,
             StoredResponseProcessor storedResponseProcessor,
             PrivacyEnforcementService privacyEnforcementService,
@@ -530,6 +658,9 @@ public class ServiceConfiguration {
 
         return new ExchangeService(
                 expectedCacheTimeMs,
+                cacheRequestTimeEstimator,
+                maxCacheTimeMs,
+                bidderTimeoutResolver,
                 bidderCatalog,
                 storedResponseProcessor,
                 privacyEnforcementService,
@@ -545,11 +676,25 @@ public class ServiceConfiguration {
                 mapper);
     }
 
+    @Bean
+    @ConditionalOnProperty(prefix = "auction.bidder-timeout-estimation", name = "enabled", havingValue = "true")
+    BidderTimeoutResolver bidderTimeoutResolver(
+            @Value("${auction.bidder-timeout-estimation.window-ms}") long windowMs,
+            @Value("${auction.bidder-timeout-estimation.percentile}") double percentile,
+            @Value("${auction.bidder-timeout-estimation.min-samples}") int minSamples,
+            @Value("${auction.bidder-timeout-estimation.min-timeout-ms}") long minTimeoutMs,
+            Metrics metrics,
+            Clock clock) {
+
+        return new BidderTimeoutResolver(windowMs, percentile, minSamples, minTimeoutMs, metrics, clock);
+    }
+
     @Bean
     StoredRequestProcessor storedRequestProcessor(
             @Value("${auction.stored-requests-timeout-ms}") long defaultTimeoutMs,
             @Value("${default-request.file.path:#{null}}") String defaultBidRequestPath,
             @Value("${settings.generate-storedrequest-bidrequest-id}") boolean generateBidRequestId,
+            @Value("${auction.id-generator-type}") IdGeneratorType idGeneratorType,
             FileSystem fileSystem,
             ApplicationSettings applicationSettings,
             Metrics metrics,
@@ -563,7 +708,7 @@ public class ServiceConfiguration {
                 generateBidRequestId,
                 fileSystem,
                 applicationSettings,
-                new UUIDIdGenerator(),
+                createIdGenerator(idGeneratorType),
                 metrics,
                 timeoutFactory,
                 mapper,
@@ -615,16 +760,27 @@ public class ServiceConfiguration {
     }
 
     @Bean
-    RequestValidator requestValidator(BidderCatalog bidderCatalog,
-                                      BidderParamValidator bidderParamValidator,
-                                      JacksonMapper mapper) {
+    RequestValidator requestValidator(
+            BidderCatalog bidderCatalog,
+            BidderParamValidator bidderParamValidator,
+            @Value("${auction.native-request-cache.size}") long nativeRequestCacheSize,
+            @Value("${auction.native-request-cache.max-request-size}") int maxCachedNativeRequestSize,
+            JacksonMapper mapper) {
 
-        return new RequestValidator(bidderCatalog, bidderParamValidator, mapper);
+        return new RequestValidator(
+                bidderCatalog, bidderParamValidator, nativeRequestCacheSize, maxCachedNativeRequestSize, mapper);
     }
 
     @Bean
-    BidderParamValidator bidderParamValidator(BidderCatalog bidderCatalog, JacksonMapper mapper) {
-        return BidderParamValidator.create(bidderCatalog, "static/bidder-params", mapper);
+    BidderParamValidator bidderParamValidator(
+            BidderCatalog bidderCatalog,
+            @Value("${auction.bidder-params-validation-cache.size}") long cacheSize,
+            @Value("${auction.bidder-params-validation-cache.max-params-size}") int maxCachedParamsSize,
+            JacksonMapper mapper,
+            Metrics metrics) {
+
+        return BidderParamValidator.create(
+                bidderCatalog, "static/bidder-params", cacheSize, maxCachedParamsSize, mapper, metrics);
     }
 
     @Bean
@@ -359,7 +359,9 @@ public class SettingsConfiguration {
                 @Qualifier("settingsCache") SettingsCache cache,
                 @Qualifier("ampSettingsCache") SettingsCache ampCache,
                 @Qualifier("videoSettingCache") SettingsCache videoCache,
-                Metrics metrics) {
+                Metrics metrics,
+                Vertx vertx,
+                TimeoutFactory timeoutFactory) {
 
             return new CachingApplicationSettings(
                     enrichingApplicationSettings,
@@ -367,8 +369,13 @@ public class SettingsConfiguration {
                     ampCache,
                     videoCache,
                     metrics,
+                    vertx,
+                    timeoutFactory,
                     cacheProperties.getTtlSeconds(),
-                    cacheProperties.getCacheSize());
+                    cacheProperties.getCacheSize(),
+                    cacheProperties.getRefreshAfterSeconds(),
+                    cacheProperties.getFetchTimeoutMs(),
+                    cacheProperties.getRefreshTimeoutMs());
         }
     }
 
@@ -390,19 +397,22 @@ public class SettingsConfiguration {
         @Bean
         @Qualifier("settingsCache")
         SettingsCache settingsCache(ApplicationSettingsCacheProperties cacheProperties) {
-            return new SettingsCache(cacheProperties.getTtlSeconds(), cacheProperties.getCacheSize());
+            return new SettingsCache(cacheProperties.getTtlSeconds(), cacheProperties.getCacheSize(),
+                    cacheProperties.getRefreshAfterSeconds());
         }
 
         @Bean
         @Qualifier("ampSettingsCache")
         SettingsCache ampSettingsCache(ApplicationSettingsCacheProperties cacheProperties) {
-            return new SettingsCache(cacheProperties.getTtlSeconds(), cacheProperties.getCacheSize());
+            return new SettingsCache(cacheProperties.getTtlSeconds(), cacheProperties.getCacheSize(),
+                    cacheProperties.getRefreshAfterSeconds());
         }
 
         @Bean
         @Qualifier("videoSettingCache")
         SettingsCache videoSettingCache(ApplicationSettingsCacheProperties cacheProperties) {
-            return new SettingsCache(cacheProperties.getTtlSeconds(), cacheProperties.getCacheSize());
+            return new SettingsCache(cacheProperties.getTtlSeconds(), cacheProperties.getCacheSize(),
+                    cacheProperties.getRefreshAfterSeconds());
         }
     }
 
@@ -420,5 +430,13 @@ public class SettingsConfiguration {
         @NotNull
         @Min(1)
         private Integer cacheSize;
+        @Min(0)
+        private int refreshAfterSeconds;
+        @NotNull
+        @Min(1)
+        private Long fetchTimeoutMs;
+        @NotNull
+        @Min(1)
+        private Long refreshTimeoutMs;
     }
 }
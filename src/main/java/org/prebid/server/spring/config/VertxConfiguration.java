@@ -7,22 +7,32 @@ import io.vertx.ext.dropwizard.DropwizardMetricsOptions;
 import io.vertx.ext.dropwizard.Match;
 import io.vertx.ext.dropwizard.MatchType;
 import io.vertx.ext.web.handler.BodyHandler;
+import org.prebid.server.spring.config.model.HttpClientProperties;
+import org.prebid.server.util.HttpUtil;
 import org.prebid.server.vertx.ContextRunner;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
 
 @Configuration
 public class VertxConfiguration {
 
     @Bean
+    @DependsOn("metricRegistry")
     Vertx vertx(@Value("${vertx.worker-pool-size}") int workerPoolSize,
-                @Value("${vertx.enable-per-client-endpoint-metrics}") boolean enablePerClientEndpointMetrics) {
+                @Value("${vertx.enable-per-client-endpoint-metrics}") boolean enablePerClientEndpointMetrics,
+                HttpClientProperties httpClientProperties) {
         final DropwizardMetricsOptions metricsOptions = new DropwizardMetricsOptions()
                 .setEnabled(true)
                 .setRegistryName(MetricsConfiguration.METRIC_REGISTRY_NAME);
         if (enablePerClientEndpointMetrics) {
             metricsOptions.addMonitoredHttpClientEndpoint(new Match().setValue(".*").setType(MatchType.REGEX));
+        } else {
+            // destinations with dedicated connection pools are always monitored
+            httpClientProperties.getDestinations().stream()
+                    .map(destination -> new Match().setValue(endpointFrom(destination.getUrl())))
+                    .forEach(metricsOptions::addMonitoredHttpClientEndpoint);
         }
 
         final VertxOptions vertxOptions = new VertxOptions()
@@ -46,4 +56,23 @@ public class VertxConfiguration {
     ContextRunner contextRunner(Vertx vertx, @Value("${vertx.init-timeout-ms}") long initTimeoutMs) {
         return new ContextRunner(vertx, initTimeoutMs);
     }
+
+    /**
+     * Returns host and port of destination url normalized the same way as origin used to route requests
+     * to the destination connection pool, with the default port made explicit as it is in endpoint metrics.
+     */
+    private static String endpointFrom(String url) {
+        final String origin = HttpUtil.getOriginFromUrl(url);
+        if (origin == null) {
+            throw new IllegalArgumentException(String.format("Invalid http client destination url: %s", url));
+        }
+
+        final int schemeEnd = origin.indexOf("://");
+        final String hostAndPort = origin.substring(schemeEnd + 3);
+        // colons of IPv6 address are enclosed in brackets, so they are not confused with port separator
+        if (hostAndPort.lastIndexOf(':') > hostAndPort.lastIndexOf(']')) {
+            return hostAndPort;
+        }
+        return hostAndPort + (origin.startsWith("https://") ? ":443" : ":80");
+    }
 }
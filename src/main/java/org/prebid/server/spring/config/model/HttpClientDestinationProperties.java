@@ -0,0 +1,30 @@
+package org.prebid.server.spring.config.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotBlank;
+
+@Validated
+@Data
+@NoArgsConstructor
+public class HttpClientDestinationProperties {
+
+    @NotBlank
+    private String url;
+
+    @Min(1)
+    private Integer maxPoolSize;
+
+    private Integer idleTimeoutMs;
+
+    private Boolean http2;
+
+    @Min(1)
+    private Integer http2MultiplexingLimit;
+
+    @Min(0)
+    private Integer warmUpConnections;
+}
@@ -4,8 +4,11 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.validation.annotation.Validated;
 
+import javax.validation.Valid;
 import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
+import java.util.Collections;
+import java.util.List;
 
 @Validated
 @Data
@@ -33,4 +36,8 @@ public class HttpClientProperties {
     private String jksPath;
 
     private String jksPassword;
+
+    @Valid
+    @NotNull
+    private List<HttpClientDestinationProperties> destinations = Collections.emptyList();
 }
@@ -15,6 +15,7 @@ import java.net.URL;
 import java.net.URLDecoder;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.Locale;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -109,6 +110,54 @@ public final class HttpUtil {
         }
     }
 
+    /**
+     * Returns scheme, host and port (if specified) of the given URL, or null if URL has no scheme.
+     * <p>
+     * Origin is normalized to be comparable: scheme and host are lower-cased and default port of the scheme
+     * (80 for http, 443 for https) is omitted.
+     * <p>
+     * Scans the string instead of parsing {@link URL}, so it is cheap enough to be called for each request.
+     */
+    public static String getOriginFromUrl(String url) {
+        final int schemeEnd = url != null ? url.indexOf("://") : -1;
+        if (schemeEnd <= 0) {
+            return null;
+        }
+
+        final int authorityStart = schemeEnd + 3;
+        int authorityEnd = authorityStart;
+        while (authorityEnd < url.length() && "/?#".indexOf(url.charAt(authorityEnd)) == -1) {
+            authorityEnd++;
+        }
+
+        final int userInfoEnd = url.lastIndexOf('@', authorityEnd - 1);
+        final int hostStart = userInfoEnd >= authorityStart ? userInfoEnd + 1 : authorityStart;
+        if (hostStart == authorityEnd) {
+            return null;
+        }
+
+        final String scheme = url.substring(0, schemeEnd).toLowerCase(Locale.ROOT);
+        final String hostAndPort = url.substring(hostStart, authorityEnd).toLowerCase(Locale.ROOT);
+
+        return scheme + "://" + withoutDefaultPort(scheme, hostAndPort);
+    }
+
+    private static String withoutDefaultPort(String scheme, String hostAndPort) {
+        final String defaultPortSuffix;
+        if (scheme.equals("http")) {
+            defaultPortSuffix = ":80";
+        } else if (scheme.equals("https")) {
+            defaultPortSuffix = ":443";
+        } else {
+            return hostAndPort;
+        }
+
+        // colons of IPv6 address are enclosed in brackets, so port suffix can't be confused with them
+        return hostAndPort.endsWith(defaultPortSuffix)
+                ? hostAndPort.substring(0, hostAndPort.length() - defaultPortSuffix.length())
+                : hostAndPort;
+    }
+
     public static String getHostFromUrl(String url) {
         if (StringUtils.isBlank(url)) {
             return null;
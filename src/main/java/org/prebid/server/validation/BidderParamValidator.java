@@ -1,18 +1,25 @@
 package org.prebid.server.validation;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.networknt.schema.JsonSchema;
 import com.networknt.schema.JsonSchemaException;
 import com.networknt.schema.JsonSchemaFactory;
 import com.networknt.schema.ValidationMessage;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.json.EncodeException;
 import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.util.ResourceUtil;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -31,19 +38,81 @@ public class BidderParamValidator {
 
     private final Map<String, JsonSchema> bidderSchemas;
     private final String schemas;
+    private final int maxCachedParamsSize;
+    private final Metrics metrics;
+
+    private final Cache<BidderParams, Set<String>> validationCache;
+
+    private BidderParamValidator(Map<String, JsonSchema> bidderSchemas,
+                                 String schemas,
+                                 long cacheSize,
+                                 int maxCachedParamsSize,
+                                 Metrics metrics) {
 
-    private BidderParamValidator(Map<String, JsonSchema> bidderSchemas, String schemas) {
         this.bidderSchemas = bidderSchemas;
         this.schemas = schemas;
+        this.maxCachedParamsSize = maxCachedParamsSize;
+        this.metrics = metrics;
+
+        validationCache = Caffeine.newBuilder()
+                .maximumWeight(cacheSize)
+                .<BidderParams, Set<String>>weigher((params, messages) -> params.getSize())
+                .build();
     }
 
     /**
-     * Validates the {@link JsonNode} input parameter against bidder's JSON-schema
+     * Validates the {@link JsonNode} input parameter against bidder's JSON-schema.
+     * <p>
+     * Bidder params often recur between requests (e.g. coming from stored imps), so validation results are cached
+     * by bidder and structurally equal params. Cache is bounded by approximate size of cached params, params larger
+     * than configured limit are never cached, since they are unlikely to recur and would take much memory.
      */
     public Set<String> validate(String bidder, JsonNode jsonNode) {
-        return bidderSchemas.get(bidder).validate(jsonNode).stream()
+        final int size = sizeOf(jsonNode, maxCachedParamsSize);
+        if (size > maxCachedParamsSize) {
+            metrics.updateBidderParamsValidationCacheMetric(false);
+            return validateParams(bidder, jsonNode);
+        }
+
+        final Set<String> cachedMessages = validationCache.getIfPresent(BidderParams.of(bidder, jsonNode, size));
+        metrics.updateBidderParamsValidationCacheMetric(cachedMessages != null);
+        if (cachedMessages != null) {
+            return cachedMessages;
+        }
+
+        final Set<String> messages = validateParams(bidder, jsonNode);
+        // params are copied since request node can be modified after validation
+        validationCache.put(BidderParams.of(bidder, jsonNode.deepCopy(), size), messages);
+        return messages;
+    }
+
+    private Set<String> validateParams(String bidder, JsonNode jsonNode) {
+        return Collections.unmodifiableSet(bidderSchemas.get(bidder).validate(jsonNode).stream()
                 .map(ValidationMessage::getMessage)
-                .collect(Collectors.toSet());
+                .collect(Collectors.toSet()));
+    }
+
+    /**
+     * Returns approximate size of the given node: number of nodes plus length of field names and text values.
+     * Stops counting as soon as size exceeds the given limit.
+     */
+    private static int sizeOf(JsonNode node, int limit) {
+        int size = 1;
+        if (node.isTextual()) {
+            size += node.textValue().length();
+        } else if (node.isObject()) {
+            final Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext() && size <= limit) {
+                final Map.Entry<String, JsonNode> field = fields.next();
+                size += field.getKey().length() + sizeOf(field.getValue(), limit - size);
+            }
+        } else if (node.isArray()) {
+            final Iterator<JsonNode> elements = node.elements();
+            while (elements.hasNext() && size <= limit) {
+                size += sizeOf(elements.next(), limit - size);
+            }
+        }
+        return size;
     }
 
     /**
@@ -74,20 +143,29 @@ public class BidderParamValidator {
      * exist as CLASSPATH resources, otherwise {@link IllegalArgumentException} will be thrown. This method consumes
      * schema directory parameter that defines the root directory for files containing schemas. By convention the name
      * of each schema file same as corresponding bidder name.
+     * <p>
+     * Validation results are cached for params with approximate size up to given max cached params size, while total
+     * size of cached params doesn't exceed given cache size.
      */
-    public static BidderParamValidator create(
-            BidderCatalog bidderCatalog, String schemaDirectory, JacksonMapper mapper) {
+    public static BidderParamValidator create(BidderCatalog bidderCatalog,
+                                              String schemaDirectory,
+                                              long cacheSize,
+                                              int maxCachedParamsSize,
+                                              JacksonMapper mapper,
+                                              Metrics metrics) {
 
         Objects.requireNonNull(bidderCatalog);
         Objects.requireNonNull(schemaDirectory);
         Objects.requireNonNull(mapper);
+        Objects.requireNonNull(metrics);
 
         final Map<String, JsonNode> bidderRawSchemas = new LinkedHashMap<>();
 
         bidderCatalog.names().forEach(bidder -> bidderRawSchemas.put(
                 bidder, createSchemaNode(schemaDirectory, maybeResolveAlias(bidderCatalog, bidder), mapper)));
 
-        return new BidderParamValidator(toBidderSchemas(bidderRawSchemas), toSchemas(bidderRawSchemas, mapper));
+        return new BidderParamValidator(toBidderSchemas(bidderRawSchemas), toSchemas(bidderRawSchemas, mapper),
+                cacheSize, maxCachedParamsSize, metrics);
     }
 
     private static Map<String, JsonSchema> toBidderSchemas(Map<String, JsonNode> bidderRawSchemas) {
@@ -145,4 +223,18 @@ public class BidderParamValidator {
         }
         return result;
     }
+
+    /**
+     * Cache key of bidder params, relies on structural equality of {@link JsonNode}s.
+     */
+    @Value(staticConstructor = "of")
+    private static class BidderParams {
+
+        String bidder;
+
+        JsonNode params;
+
+        @EqualsAndHashCode.Exclude
+        int size;
+    }
 }
@@ -3,6 +3,8 @@ package org.prebid.server.validation;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.iab.openrtb.request.Asset;
 import com.iab.openrtb.request.Audio;
 import com.iab.openrtb.request.Banner;
@@ -95,18 +97,32 @@ public class RequestValidator {
     private final BidderCatalog bidderCatalog;
     private final BidderParamValidator bidderParamValidator;
     private final JacksonMapper mapper;
+    private final int maxCachedNativeRequestLength;
+
+    private final Cache<String, String> nativeRequestCache;
 
     /**
      * Constructs a RequestValidator that will use the BidderParamValidator passed in order to validate all critical
      * properties of bidRequest.
+     * <p>
+     * Successfully validated native requests with length up to given max cached request length are cached, while
+     * total length of cached raw and encoded native requests doesn't exceed given cache size.
      */
     public RequestValidator(BidderCatalog bidderCatalog,
                             BidderParamValidator bidderParamValidator,
+                            long nativeRequestCacheSize,
+                            int maxCachedNativeRequestLength,
                             JacksonMapper mapper) {
 
         this.bidderCatalog = Objects.requireNonNull(bidderCatalog);
         this.bidderParamValidator = Objects.requireNonNull(bidderParamValidator);
+        this.maxCachedNativeRequestLength = maxCachedNativeRequestLength;
         this.mapper = Objects.requireNonNull(mapper);
+
+        nativeRequestCache = Caffeine.newBuilder()
+                .maximumWeight(nativeRequestCacheSize)
+                .<String, String>weigher((rawRequest, encodedRequest) -> rawRequest.length() + encodedRequest.length())
+                .build();
     }
 
     /**
@@ -610,20 +626,41 @@ public class RequestValidator {
         validateImpExt(imp.getExt(), aliases, index);
     }
 
+    /**
+     * Validates native request and replaces it with the updated one.
+     * <p>
+     * Native requests usually come from a small set of templates, so successfully validated requests are cached
+     * by raw request. Invalid requests are not cached, since their error messages refer to the imp index.
+     */
     private void fillAndValidateNative(Native xNative, int impIndex) throws ValidationException {
         if (xNative == null) {
             return;
         }
 
-        final Request nativeRequest = parseNativeRequest(xNative.getRequest(), impIndex);
+        final String rawStringNativeRequest = xNative.getRequest();
+        final boolean cacheable = rawStringNativeRequest != null
+                && rawStringNativeRequest.length() <= maxCachedNativeRequestLength;
+        String encodedRequest = cacheable ? nativeRequestCache.getIfPresent(rawStringNativeRequest) : null;
+        if (encodedRequest == null) {
+            encodedRequest = validateNativeRequest(rawStringNativeRequest, impIndex);
+            if (cacheable) {
+                nativeRequestCache.put(rawStringNativeRequest, encodedRequest);
+            }
+        }
+
+        // modifier was added to reduce memory consumption on updating bidRequest.imp[i].native.request object
+        xNative.setRequest(encodedRequest);
+    }
+
+    private String validateNativeRequest(String rawStringNativeRequest, int impIndex) throws ValidationException {
+        final Request nativeRequest = parseNativeRequest(rawStringNativeRequest, impIndex);
 
         validateNativeContextTypes(nativeRequest.getContext(), nativeRequest.getContextsubtype(), impIndex);
         validateNativePlacementType(nativeRequest.getPlcmttype(), impIndex);
         final List<Asset> updatedAssets = validateAndGetUpdatedNativeAssets(nativeRequest.getAssets(), impIndex);
         validateNativeEventTrackers(nativeRequest.getEventtrackers(), impIndex);
 
-        // modifier was added to reduce memory consumption on updating bidRequest.imp[i].native.request object
-        xNative.setRequest(toEncodedRequest(nativeRequest, updatedAssets));
+        return toEncodedRequest(nativeRequest, updatedAssets);
     }
 
     private Request parseNativeRequest(String rawStringNativeRequest, int impIndex) throws ValidationException {
@@ -1,31 +1,50 @@
 package org.prebid.server.vertx;
 
-import io.vertx.circuitbreaker.CircuitBreakerOptions;
 import io.vertx.circuitbreaker.CircuitBreakerState;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
-import io.vertx.core.logging.Logger;
-import io.vertx.core.logging.LoggerFactory;
 
 import java.time.Clock;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
- * Wrapper over Vert.x {@link io.vertx.circuitbreaker.CircuitBreaker} with functionality
- * to reset failure counter to adjust open-circuit time frame.
+ * Lock-free circuit breaker which opens the circuit when the number of consecutive failures within the opening
+ * interval reaches the opening threshold, and lets single trial operation through once the closing interval passed.
+ * <p>
+ * Operations are not timed out by the circuit breaker, so if the trial operation doesn't complete within the closing
+ * interval, the next operation is let through as a new trial.
+ * <p>
+ * Any successful operation resets failures, the same way as Vert.x circuit breaker does, so occasional failures
+ * among successful operations never open the circuit.
+ * <p>
+ * Operations and state changes are handled on the calling thread, so failures are never passed to the worker pool.
  */
 public class CircuitBreaker {
 
-    private static final Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
+    private static final String OPEN_CIRCUIT_MESSAGE = "open circuit";
 
-    private final io.vertx.circuitbreaker.CircuitBreaker breaker;
     private final Vertx vertx;
+    private final int openingThreshold;
     private final long openingIntervalMs;
+    private final long closingIntervalMs;
     private final Clock clock;
 
-    private volatile long lastFailureTime;
+    private final AtomicReference<CircuitBreakerState> state;
+    private final AtomicBoolean trialAllowed;
+    private final AtomicLong trialsCount;
+    private final AtomicLong failuresCount;
+    private final AtomicLongArray failureTimes;
+
+    private volatile Handler<Void> openHandler;
+    private volatile Handler<Void> halfOpenHandler;
+    private volatile Handler<Void> closeHandler;
 
     public CircuitBreaker(String name,
                           Vertx vertx,
@@ -34,88 +53,158 @@ public class CircuitBreaker {
                           long closingIntervalMs,
                           Clock clock) {
 
-        breaker = io.vertx.circuitbreaker.CircuitBreaker.create(
-                Objects.requireNonNull(name),
-                Objects.requireNonNull(vertx),
-                new CircuitBreakerOptions()
-                        .setNotificationPeriod(0)
-                        .setMaxFailures(openingThreshold)
-                        .setResetTimeout(closingIntervalMs));
+        Objects.requireNonNull(name);
+        if (openingThreshold < 1) {
+            throw new IllegalArgumentException("Opening threshold should be positive");
+        }
 
-        this.vertx = vertx;
+        this.vertx = Objects.requireNonNull(vertx);
+        this.openingThreshold = openingThreshold;
         this.openingIntervalMs = openingIntervalMs;
+        this.closingIntervalMs = closingIntervalMs;
         this.clock = Objects.requireNonNull(clock);
+
+        state = new AtomicReference<>(CircuitBreakerState.CLOSED);
+        trialAllowed = new AtomicBoolean();
+        trialsCount = new AtomicLong();
+        failuresCount = new AtomicLong();
+        failureTimes = new AtomicLongArray(openingThreshold);
     }
 
     /**
      * Executes the given operation with the circuit breaker control.
      */
     public <T> Future<T> execute(Handler<Promise<T>> command) {
-        return breaker.execute(promise -> execute(command, promise));
-    }
+        if (!isExecutionAllowed()) {
+            return Future.failedFuture(new RuntimeException(OPEN_CIRCUIT_MESSAGE));
+        }
 
-    /**
-     * Executes operation and handle result of it on given {@link Promise}.
-     */
-    private <T> void execute(Handler<Promise<T>> command, Promise<T> promise) {
-        final Promise<T> passedPromise = Promise.promise();
-        command.handle(passedPromise);
+        final Promise<T> commandPromise = Promise.promise();
+        final Promise<T> resultPromise = Promise.promise();
+        commandPromise.future().setHandler(result -> handleResult(result, resultPromise));
 
-        passedPromise.future()
-                .compose(response -> succeedBreaker(response, promise))
-                .recover(exception -> failBreaker(exception, promise));
+        try {
+            command.handle(commandPromise);
+        } catch (Exception e) {
+            commandPromise.tryFail(e);
+        }
+
+        return resultPromise.future();
+    }
+
+    private boolean isExecutionAllowed() {
+        switch (state.get()) {
+            case CLOSED:
+                return true;
+            case HALF_OPEN:
+                if (trialAllowed.compareAndSet(true, false)) {
+                    final long trialNumber = trialsCount.incrementAndGet();
+                    vertx.setTimer(closingIntervalMs, ignored -> allowNextTrial(trialNumber));
+                    return true;
+                }
+                return false;
+            case OPEN:
+            default:
+                return false;
+        }
     }
 
     /**
-     * Succeeds given {@link Promise} and returns corresponding {@link Future}.
+     * Lets the next trial operation through if the given trial is still the last one and hasn't completed yet.
      */
-    private static <T> Future<T> succeedBreaker(T result, Promise<T> promise) {
-        promise.complete(result);
-        return promise.future();
+    private void allowNextTrial(long trialNumber) {
+        if (state.get() == CircuitBreakerState.HALF_OPEN && trialsCount.get() == trialNumber) {
+            trialAllowed.set(true);
+        }
     }
 
     /**
-     * Fails given {@link Promise} and returns corresponding {@link Future}.
+     * Updates circuit state by operation result and propagates it to the given {@link Promise}.
      */
-    private <T> Future<T> failBreaker(Throwable exception, Promise<T> promise) {
-        final Promise<T> ensureStatePromise = Promise.promise();
-        vertx.executeBlocking(this::ensureState, false, ensureStatePromise);
-
-        return ensureStatePromise.future()
-                .recover(throwable -> {
-                    logger.warn("Resetting circuit breaker state failed", throwable);
-                    promise.fail(throwable);
-                    return promise.future();
-                })
-                .compose(ignored -> { // ensuring state succeeded, propagate real error
-                    promise.fail(exception);
-                    return promise.future();
-                });
+    private <T> void handleResult(AsyncResult<T> result, Promise<T> promise) {
+        if (result.succeeded()) {
+            succeedBreaker();
+        } else {
+            failBreaker();
+        }
+        promise.handle(result);
+    }
+
+    private void succeedBreaker() {
+        if (state.compareAndSet(CircuitBreakerState.HALF_OPEN, CircuitBreakerState.CLOSED)) {
+            resetFailures();
+            notify(closeHandler);
+        } else if (failuresCount.get() > 0) {
+            // failure times are overwritten from the start of the ring, so it's enough to reset the counter
+            failuresCount.set(0);
+        }
+    }
+
+    private void failBreaker() {
+        switch (state.get()) {
+            case CLOSED:
+                if (registerFailure() && state.compareAndSet(CircuitBreakerState.CLOSED, CircuitBreakerState.OPEN)) {
+                    open();
+                }
+                break;
+            case HALF_OPEN:
+                if (state.compareAndSet(CircuitBreakerState.HALF_OPEN, CircuitBreakerState.OPEN)) {
+                    open();
+                }
+                break;
+            case OPEN:
+            default:
+                // operation was started before the circuit was opened
+        }
     }
 
     /**
-     * Resets failure counter to adjust open-circuit time frame.
+     * Records failure time and returns true if the number of consecutive failures within the opening interval
+     * reached the opening threshold.
      * <p>
-     * Note: the operations {@link io.vertx.circuitbreaker.CircuitBreaker#state()}
-     * and {@link io.vertx.circuitbreaker.CircuitBreaker#reset()} can take a while,
-     * so it is better to perform them on a worker thread.
+     * Failure times are kept in a ring of threshold size, so the oldest of the last threshold failures
+     * is the next one to be overwritten.
      */
-    private <T> void ensureState(Promise<T> executeBlockingPromise) {
+    private boolean registerFailure() {
         final long currentTime = clock.millis();
-        if (breaker.state() == CircuitBreakerState.CLOSED && lastFailureTime > 0
-                && currentTime - lastFailureTime > openingIntervalMs) {
-            breaker.reset();
+        final long failureNumber = failuresCount.getAndIncrement();
+
+        failureTimes.set((int) (failureNumber % openingThreshold), currentTime);
+        final long oldestFailureTime = failureTimes.get((int) ((failureNumber + 1) % openingThreshold));
+
+        return failureNumber + 1 >= openingThreshold && currentTime - oldestFailureTime <= openingIntervalMs;
+    }
+
+    private void resetFailures() {
+        failuresCount.set(0);
+        for (int i = 0; i < openingThreshold; i++) {
+            failureTimes.set(i, 0);
+        }
+    }
+
+    private void open() {
+        vertx.setTimer(closingIntervalMs, ignored -> halfOpen());
+        notify(openHandler);
+    }
+
+    private void halfOpen() {
+        if (state.compareAndSet(CircuitBreakerState.OPEN, CircuitBreakerState.HALF_OPEN)) {
+            trialAllowed.set(true);
+            notify(halfOpenHandler);
         }
+    }
 
-        lastFailureTime = currentTime;
-        executeBlockingPromise.complete();
+    private static void notify(Handler<Void> handler) {
+        if (handler != null) {
+            handler.handle(null);
+        }
     }
 
     /**
      * Sets a {@link Handler} invoked when the circuit breaker state switches to open.
      */
     public CircuitBreaker openHandler(Handler<Void> handler) {
-        breaker.openHandler(handler);
+        openHandler = handler;
         return this;
     }
 
@@ -123,7 +212,7 @@ public class CircuitBreaker {
      * Sets a {@link Handler} invoked when the circuit breaker state switches to half-open.
      */
     public CircuitBreaker halfOpenHandler(Handler<Void> handler) {
-        breaker.halfOpenHandler(handler);
+        halfOpenHandler = handler;
         return this;
     }
 
@@ -131,19 +220,11 @@ public class CircuitBreaker {
      * Sets a {@link Handler} invoked when the circuit breaker state switches to close.
      */
     public CircuitBreaker closeHandler(Handler<Void> handler) {
-        breaker.closeHandler(handler);
+        closeHandler = handler;
         return this;
     }
 
     public boolean isOpen() {
-        switch (breaker.state()) {
-            case OPEN:
-            case HALF_OPEN:
-                return true;
-            case CLOSED:
-                return false;
-            default:
-                throw new IllegalStateException("Should never happen");
-        }
+        return state.get() != CircuitBreakerState.CLOSED;
     }
 }
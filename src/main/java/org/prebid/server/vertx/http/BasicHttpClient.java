@@ -1,38 +1,68 @@
 package org.prebid.server.vertx.http;
 
+import io.netty.buffer.Unpooled;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.http.HttpMethod;
+import org.prebid.server.util.HttpUtil;
 import org.prebid.server.vertx.http.model.HttpClientResponse;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeoutException;
 
 /**
  * Simple wrapper around {@link HttpClient} with general functionality.
+ * <p>
+ * Requests to destinations having dedicated Vert.x {@link io.vertx.core.http.HttpClient} (with own connection pool
+ * and options) are routed to it, others are made with the default one.
  */
 public class BasicHttpClient implements HttpClient {
 
     private final Vertx vertx;
     private final io.vertx.core.http.HttpClient httpClient;
+    private final Map<String, io.vertx.core.http.HttpClient> originToHttpClient;
 
     public BasicHttpClient(Vertx vertx, io.vertx.core.http.HttpClient httpClient) {
+        this(vertx, httpClient, Collections.emptyMap());
+    }
+
+    public BasicHttpClient(Vertx vertx,
+                           io.vertx.core.http.HttpClient httpClient,
+                           Map<String, io.vertx.core.http.HttpClient> originToHttpClient) {
+
         this.vertx = Objects.requireNonNull(vertx);
         this.httpClient = Objects.requireNonNull(httpClient);
+        this.originToHttpClient = Objects.requireNonNull(originToHttpClient);
     }
 
     @Override
     public Future<HttpClientResponse> request(HttpMethod method, String url, MultiMap headers, String body,
                                               long timeoutMs) {
+        return doRequest(method, url, headers, body != null ? Buffer.buffer(body) : null, timeoutMs);
+    }
+
+    @Override
+    public Future<HttpClientResponse> requestBytes(HttpMethod method, String url, MultiMap headers, byte[] body,
+                                                   long timeoutMs) {
+        // wrap bytes as is to avoid copying them into a new buffer
+        return doRequest(method, url, headers, body != null ? Buffer.buffer(Unpooled.wrappedBuffer(body)) : null,
+                timeoutMs);
+    }
+
+    private Future<HttpClientResponse> doRequest(HttpMethod method, String url, MultiMap headers, Buffer body,
+                                                 long timeoutMs) {
         final Promise<HttpClientResponse> promise = Promise.promise();
 
         if (timeoutMs <= 0) {
             failResponse(new TimeoutException("Timeout has been exceeded"), promise);
         } else {
-            final HttpClientRequest httpClientRequest = httpClient.requestAbs(method, url);
+            final HttpClientRequest httpClientRequest = httpClientFor(url).requestAbs(method, url);
 
             // Vert.x HttpClientRequest timeout doesn't aware of case when a part of the response body is received,
             // but remaining part is delayed. So, overall request/response timeout is involved to fix it.
@@ -57,6 +87,18 @@ public class BasicHttpClient implements HttpClient {
         return promise.future();
     }
 
+    private io.vertx.core.http.HttpClient httpClientFor(String url) {
+        if (originToHttpClient.isEmpty()) {
+            return httpClient;
+        }
+
+        final String origin = HttpUtil.getOriginFromUrl(url);
+        final io.vertx.core.http.HttpClient destinationHttpClient = origin != null
+                ? originToHttpClient.get(origin)
+                : null;
+        return destinationHttpClient != null ? destinationHttpClient : httpClient;
+    }
+
     private void handleTimeout(Promise<HttpClientResponse> promise,
                                long timeoutMs,
                                HttpClientRequest httpClientRequest) {
@@ -73,15 +115,15 @@ public class BasicHttpClient implements HttpClient {
     private void handleResponse(io.vertx.core.http.HttpClientResponse response,
                                 Promise<HttpClientResponse> promise, long timerId) {
         response
-                .bodyHandler(buffer -> successResponse(buffer.toString(), response, promise, timerId))
+                .bodyHandler(buffer -> successResponse(buffer, response, promise, timerId))
                 .exceptionHandler(exception -> failResponse(exception, promise, timerId));
     }
 
-    private void successResponse(String body, io.vertx.core.http.HttpClientResponse response,
+    private void successResponse(Buffer body, io.vertx.core.http.HttpClientResponse response,
                                  Promise<HttpClientResponse> promise, long timerId) {
         vertx.cancelTimer(timerId);
 
-        promise.tryComplete(HttpClientResponse.of(response.statusCode(), response.headers(), body));
+        promise.tryComplete(HttpClientResponse.ofBuffer(response.statusCode(), response.headers(), body));
     }
 
     private void failResponse(Throwable exception, Promise<HttpClientResponse> promise, long timerId) {
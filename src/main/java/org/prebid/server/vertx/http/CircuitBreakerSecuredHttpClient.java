@@ -30,9 +30,11 @@ public class CircuitBreakerSecuredHttpClient implements HttpClient {
     private static final ConditionalLogger conditionalLogger = new ConditionalLogger(logger);
     private static final int LOG_PERIOD_SECONDS = 5;
     private static final long IDLE_EXPIRE_DAYS = 3;
+    private static final long NAME_CACHE_SIZE = 10000;
 
     private final Function<String, CircuitBreaker> circuitBreakerCreator;
     private final Map<String, CircuitBreaker> circuitBreakerByName;
+    private final Map<String, String> nameByUrlPrefix;
 
     private final HttpClient httpClient;
 
@@ -55,6 +57,11 @@ public class CircuitBreakerSecuredHttpClient implements HttpClient {
                 .build()
                 .asMap();
 
+        nameByUrlPrefix = Caffeine.newBuilder()
+                .maximumSize(NAME_CACHE_SIZE)
+                .<String, String>build()
+                .asMap();
+
         metrics.createHttpClientCircuitBreakerNumberGauge(circuitBreakerByName::size);
 
         logger.info("Initialized HTTP client with Circuit Breaker");
@@ -71,6 +78,18 @@ public class CircuitBreakerSecuredHttpClient implements HttpClient {
                 .execute(promise -> httpClient.request(method, url, headers, body, timeoutMs).setHandler(promise));
     }
 
+    @Override
+    public Future<HttpClientResponse> requestBytes(HttpMethod method,
+                                                   String url,
+                                                   MultiMap headers,
+                                                   byte[] body,
+                                                   long timeoutMs) {
+
+        return circuitBreakerByName.computeIfAbsent(nameFrom(url), circuitBreakerCreator)
+                .execute(promise -> httpClient.requestBytes(method, url, headers, body, timeoutMs)
+                        .setHandler(promise));
+    }
+
     private CircuitBreaker createCircuitBreaker(String name,
                                                 Vertx vertx,
                                                 int openingThreshold,
@@ -116,9 +135,41 @@ public class CircuitBreakerSecuredHttpClient implements HttpClient {
         logger.warn("Http client request to {0} becomes succeeded, circuit closed.", name);
     }
 
-    private static String nameFrom(String urlAsString) {
+    /**
+     * Returns circuit breaker name for the given url.
+     * <p>
+     * Names are cached by scheme and authority part of the url, so the url is parsed only once per destination.
+     */
+    private String nameFrom(String urlAsString) {
+        final String urlPrefix = urlPrefix(urlAsString);
+        final String cachedName = urlPrefix != null ? nameByUrlPrefix.get(urlPrefix) : null;
+        if (cachedName != null) {
+            return cachedName;
+        }
+
         final URL url = parseUrl(urlAsString);
-        return url.getProtocol() + "://" + url.getHost() + (url.getPort() != -1 ? ":" + url.getPort() : "");
+        final String name = url.getProtocol() + "://" + url.getHost()
+                + (url.getPort() != -1 ? ":" + url.getPort() : "");
+        if (urlPrefix != null) {
+            nameByUrlPrefix.put(urlPrefix, name);
+        }
+        return name;
+    }
+
+    /**
+     * Returns scheme and authority part of the url or null if url has no scheme.
+     */
+    private static String urlPrefix(String url) {
+        final int schemeEnd = url != null ? url.indexOf("://") : -1;
+        if (schemeEnd <= 0) {
+            return null;
+        }
+
+        int authorityEnd = schemeEnd + 3;
+        while (authorityEnd < url.length() && "/?#".indexOf(url.charAt(authorityEnd)) == -1) {
+            authorityEnd++;
+        }
+        return url.substring(0, authorityEnd);
     }
 
     private static String idFrom(String urlAsString) {
@@ -8,11 +8,16 @@ import org.prebid.server.vertx.http.model.HttpClientResponse;
 /**
  * Interface describes HTTP interactions.
  */
-@FunctionalInterface
 public interface HttpClient {
 
     Future<HttpClientResponse> request(HttpMethod method, String url, MultiMap headers, String body, long timeoutMs);
 
+    /**
+     * Sends request with body already encoded to bytes, so no additional encoding is needed before writing.
+     */
+    Future<HttpClientResponse> requestBytes(HttpMethod method, String url, MultiMap headers, byte[] body,
+                                            long timeoutMs);
+
     default Future<HttpClientResponse> get(String url, MultiMap headers, long timeoutMs) {
         return request(HttpMethod.GET, url, headers, null, timeoutMs);
     }
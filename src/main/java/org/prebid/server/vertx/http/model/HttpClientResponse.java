@@ -1,21 +1,62 @@
 package org.prebid.server.vertx.http.model;
 
 import io.vertx.core.MultiMap;
-import lombok.AllArgsConstructor;
-import lombok.Value;
+import io.vertx.core.buffer.Buffer;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
 
 /**
  * Holds Http client response data.
  * <p>
  * Should be created in "bodyHandler(...) after response has been read."
+ * <p>
+ * Body can be held as raw {@link Buffer} and converted to {@link String} only when requested. Conversion is not
+ * synchronized, so concurrent readers may convert body more than once, which is harmless since both forms hold
+ * the same content.
  */
-@AllArgsConstructor(staticName = "of")
-@Value
+@EqualsAndHashCode
+@ToString
 public class HttpClientResponse {
 
-    int statusCode;
+    @Getter
+    private final int statusCode;
+
+    @Getter
+    private final MultiMap headers;
+
+    private volatile String body;
+
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private volatile Buffer bodyBuffer;
+
+    private HttpClientResponse(int statusCode, MultiMap headers, String body, Buffer bodyBuffer) {
+        this.statusCode = statusCode;
+        this.headers = headers;
+        this.body = body;
+        this.bodyBuffer = bodyBuffer;
+    }
+
+    public static HttpClientResponse of(int statusCode, MultiMap headers, String body) {
+        return new HttpClientResponse(statusCode, headers, body, null);
+    }
+
+    public static HttpClientResponse ofBuffer(int statusCode, MultiMap headers, Buffer body) {
+        return new HttpClientResponse(statusCode, headers, null, body);
+    }
 
-    MultiMap headers;
+    public String getBody() {
+        if (body == null && bodyBuffer != null) {
+            body = bodyBuffer.toString();
+        }
+        return body;
+    }
 
-    String body;
+    public Buffer getBodyBuffer() {
+        if (bodyBuffer == null && body != null) {
+            bodyBuffer = Buffer.buffer(body);
+        }
+        return bodyBuffer;
+    }
 }
@@ -0,0 +1,137 @@
+package org.prebid.server.auction;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.execution.Timeout;
+import org.prebid.server.execution.TimeoutFactory;
+import org.prebid.server.metric.Metrics;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class BidderTimeoutResolverTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Metrics metrics;
+
+    private Clock clock;
+
+    private Timeout timeout;
+
+    private BidderTimeoutResolver bidderTimeoutResolver;
+
+    @Before
+    public void setUp() {
+        clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
+        timeout = new TimeoutFactory(clock).create(500L);
+
+        bidderTimeoutResolver = new BidderTimeoutResolver(1000, 90, 10, 50, metrics, clock);
+    }
+
+    @Test
+    public void creationShouldFailOnInvalidEstimationSettings() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new BidderTimeoutResolver(1000, 0, 10, 50, metrics, clock));
+    }
+
+    @Test
+    public void creationShouldFailOnNegativeMinTimeout() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new BidderTimeoutResolver(1000, 90, 10, -1, metrics, clock));
+    }
+
+    @Test
+    public void resolveShouldReturnSameTimeoutIfNotEnoughResponses() {
+        // given
+        givenResponseTimes("bidder", 9, 100);
+
+        // when and then
+        assertThat(bidderTimeoutResolver.resolve("bidder", timeout)).isSameAs(timeout);
+    }
+
+    @Test
+    public void resolveShouldReturnTimeoutCappedByBidderResponseTimes() {
+        // given
+        givenResponseTimes("bidder", 10, 80);
+        givenResponseTimes("otherBidder", 10, 1000);
+
+        // when and then
+        assertThat(bidderTimeoutResolver.resolve("bidder", timeout).remaining()).isEqualTo(80L);
+        assertThat(bidderTimeoutResolver.resolve("otherBidder", timeout)).isSameAs(timeout);
+    }
+
+    @Test
+    public void resolveShouldNotCapTimeoutBelowMinTimeout() {
+        // given
+        givenResponseTimes("bidder", 10, 10);
+
+        // when and then
+        assertThat(bidderTimeoutResolver.resolve("bidder", timeout).remaining()).isEqualTo(50L);
+    }
+
+    @Test
+    public void resolveShouldNotCapTimeoutIfBidderCallsTimedOut() {
+        // given
+        givenResponseTimes("bidder", 8, 80);
+        IntStream.range(0, 2).forEach(ignored -> bidderTimeoutResolver.updateTimedOut("bidder"));
+
+        // when and then
+        assertThat(bidderTimeoutResolver.resolve("bidder", timeout)).isSameAs(timeout);
+    }
+
+    @Test
+    public void resolveShouldLiftTimeoutCapOnceBidderCallsStartTimingOut() {
+        // given
+        final AtomicLong now = new AtomicLong(Instant.now().toEpochMilli());
+        final Clock mutableClock = mock(Clock.class);
+        given(mutableClock.millis()).willAnswer(invocation -> now.get());
+        final TimeoutFactory timeoutFactory = new TimeoutFactory(mutableClock);
+
+        bidderTimeoutResolver = new BidderTimeoutResolver(1000, 90, 10, 50, metrics, mutableClock);
+        givenResponseTimes("bidder", 10, 80);
+        assertThat(bidderTimeoutResolver.resolve("bidder", timeoutFactory.create(500L)).remaining())
+                .isEqualTo(80L);
+
+        // when
+        IntStream.range(0, 2).forEach(ignored -> bidderTimeoutResolver.updateTimedOut("bidder"));
+        now.addAndGet(100L);
+
+        // then
+        final Timeout recoveredTimeout = timeoutFactory.create(500L);
+        assertThat(bidderTimeoutResolver.resolve("bidder", recoveredTimeout)).isSameAs(recoveredTimeout);
+    }
+
+    @Test
+    public void shouldCreateTimeoutCapGaugeForBidder() {
+        // when
+        givenResponseTimes("bidder", 10, 80);
+
+        // then
+        final ArgumentCaptor<LongSupplier> gaugeCaptor = ArgumentCaptor.forClass(LongSupplier.class);
+        verify(metrics).createAdapterTimeoutCapGauge(eq("bidder"), gaugeCaptor.capture());
+        assertThat(gaugeCaptor.getValue().getAsLong()).isEqualTo(80L);
+    }
+
+    private void givenResponseTimes(String bidder, int count, long responseTime) {
+        IntStream.range(0, count).forEach(ignored -> bidderTimeoutResolver.updateResponseTime(bidder, responseTime));
+    }
+}
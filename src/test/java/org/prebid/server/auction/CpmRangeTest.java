@@ -6,7 +6,12 @@ import org.prebid.server.proto.openrtb.ext.request.ExtGranularityRange;
 import org.prebid.server.proto.openrtb.ext.request.ExtPriceGranularity;
 
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -134,4 +139,55 @@ public class CpmRangeTest {
         // then
         assertThat(result).isNull();
     }
+
+    @Test
+    public void priceBucketsShouldReturnSameBucketsAsPriceRounding() {
+        // given
+        final List<PriceGranularity> priceGranularities = Stream.of("low", "med", "high", "auto", "dense")
+                .map(PriceGranularity::createFromString)
+                .collect(Collectors.toList());
+        priceGranularities.add(PriceGranularity.createFromExtPriceGranularity(ExtPriceGranularity.of(3, asList(
+                ExtGranularityRange.of(BigDecimal.valueOf(1.5), BigDecimal.valueOf(0.07)),
+                ExtGranularityRange.of(BigDecimal.valueOf(4.25), BigDecimal.valueOf(0.3))))));
+
+        // when and then
+        for (PriceGranularity priceGranularity : priceGranularities) {
+            final PriceBuckets priceBuckets = PriceBuckets.compile(
+                    priceGranularity.getRanges(), priceGranularity.getRangesMax(), priceGranularity.getPrecision());
+            assertThat(priceBuckets).isNotNull();
+            for (int i = -10; i <= 2600; i++) {
+                final BigDecimal cents = BigDecimal.valueOf(i, 2);
+                for (BigDecimal cpm : asList(cents, cents.add(new BigDecimal("0.0000001")),
+                        cents.subtract(new BigDecimal("0.0000001")), cents.add(new BigDecimal("0.005")))) {
+                    final BigDecimal value = CpmRange.fromCpmAsNumber(cpm, priceGranularity);
+                    final String expected = value != null
+                            ? String.format(Locale.US, String.format("%%.%sf", priceGranularity.getPrecision()), value)
+                            : "";
+                    assertThat(priceBuckets.bucketFor(cpm)).as("cpm %s", cpm).isEqualTo(expected);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void priceBucketsShouldNotBeCompiledForTooManyBuckets() {
+        assertThat(PriceBuckets.compile(singletonList(ExtGranularityRange.of(BigDecimal.valueOf(1000),
+                BigDecimal.valueOf(0.01))), BigDecimal.valueOf(1000), 2)).isNull();
+        assertThat(PriceBuckets.compile(singletonList(ExtGranularityRange.of(BigDecimal.valueOf(99.99),
+                BigDecimal.valueOf(0.01))), BigDecimal.valueOf(99.99), 2)).isNotNull();
+    }
+
+    @Test
+    public void fromCpmShouldRoundPriceWhenRangesCanNotBePrecomputed() {
+        // given
+        final PriceGranularity priceGranularity = PriceGranularity.createFromExtPriceGranularity(
+                ExtPriceGranularity.of(7, singletonList(
+                        ExtGranularityRange.of(BigDecimal.valueOf(10), new BigDecimal("0.0000005")))));
+
+        // when
+        final String cpm = CpmRange.fromCpm(new BigDecimal("1.23456789"), priceGranularity);
+
+        // then
+        assertThat(cpm).isEqualTo("1.2345675");
+    }
 }
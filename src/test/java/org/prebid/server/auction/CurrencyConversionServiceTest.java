@@ -156,6 +156,27 @@ public class CurrencyConversionServiceTest extends VertxTest {
         assertThat(price.compareTo(BigDecimal.valueOf(0.865))).isEqualTo(0);
     }
 
+    @Test
+    public void convertCurrencyShouldUseGivenCompiledRequestCurrencyRates() {
+        // given
+        final Map<String, Map<String, BigDecimal>> requestConversionRates = singletonMap(GBP,
+                singletonMap(EUR, BigDecimal.valueOf(1.1565)));
+        final BidRequest bidRequest = givenBidRequestWithCurrencies(requestConversionRates, false);
+
+        // when
+        final BigDecimal price = currencyService.convertCurrency(BigDecimal.ONE, bidRequest,
+                currencyService.requestCurrencyRates(bidRequest), GBP, EUR);
+
+        // then
+        assertThat(price.compareTo(BigDecimal.valueOf(0.865))).isEqualTo(0);
+    }
+
+    @Test
+    public void requestCurrencyRatesShouldReturnNullIfRequestHasNoRates() {
+        // when and then
+        assertThat(currencyService.requestCurrencyRates(givenBidRequestWithCurrencies(null, false))).isNull();
+    }
+
     @Test
     public void convertCurrencyShouldReturnConvertedByInvertedMultiplierPrice() {
         // given
@@ -199,6 +220,52 @@ public class CurrencyConversionServiceTest extends VertxTest {
         assertThat(price.compareTo(BigDecimal.valueOf(2.460))).isEqualTo(0);
     }
 
+    @Test
+    public void convertCurrencyShouldReturnSamePricesForRepeatedConversionsWithSameRequestRates() {
+        // given
+        final Map<String, Map<String, BigDecimal>> requestConversionRates = new HashMap<>();
+        requestConversionRates.put(GBP, singletonMap(USD, BigDecimal.valueOf(1.4306)));
+        requestConversionRates.put(EUR, singletonMap(USD, BigDecimal.valueOf(1.2304)));
+        final BidRequest bidRequest = givenBidRequestWithCurrencies(requestConversionRates, false);
+
+        // when
+        final BigDecimal intermediatePrice = currencyService.convertCurrency(BigDecimal.ONE, bidRequest, EUR, GBP);
+        final BigDecimal reversePrice = currencyService.convertCurrency(BigDecimal.ONE, bidRequest, USD, GBP);
+        final BigDecimal repeatedIntermediatePrice = currencyService.convertCurrency(BigDecimal.ONE, bidRequest,
+                EUR, GBP);
+
+        // then
+        assertThat(intermediatePrice).isEqualByComparingTo(BigDecimal.valueOf(1.163));
+        assertThat(reversePrice).isEqualByComparingTo(BigDecimal.valueOf(1.431));
+        assertThat(repeatedIntermediatePrice).isEqualByComparingTo(intermediatePrice);
+    }
+
+    @Test
+    public void convertCurrencyShouldThrowPrebidExceptionIfRequestRateIsZero() {
+        // given
+        final Map<String, Map<String, BigDecimal>> requestConversionRates = singletonMap(GBP,
+                singletonMap(AUD, BigDecimal.ZERO));
+
+        // when and then
+        assertThatExceptionOfType(PreBidException.class)
+                .isThrownBy(() -> currencyService.convertCurrency(BigDecimal.ONE,
+                        givenBidRequestWithCurrencies(requestConversionRates, false), AUD, GBP))
+                .withMessage("Unable to convert from currency GBP to desired ad server currency AUD");
+    }
+
+    @Test
+    public void convertCurrencyShouldThrowPrebidExceptionIfStraightRequestRateIsZero() {
+        // given
+        final Map<String, Map<String, BigDecimal>> requestConversionRates = singletonMap(GBP,
+                singletonMap(AUD, BigDecimal.ZERO));
+
+        // when and then
+        assertThatExceptionOfType(PreBidException.class)
+                .isThrownBy(() -> currencyService.convertCurrency(BigDecimal.ONE,
+                        givenBidRequestWithCurrencies(requestConversionRates, false), GBP, AUD))
+                .withMessage("Unable to convert from currency AUD to desired ad server currency GBP");
+    }
+
     @Test
     public void convertCurrencyShouldUseLatestRatesIfRequestRatesIsNull() {
         // when
@@ -25,6 +25,7 @@ import com.iab.openrtb.response.Bid;
 import com.iab.openrtb.response.BidResponse;
 import com.iab.openrtb.response.SeatBid;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import org.apache.commons.collections4.MapUtils;
 import org.junit.Before;
 import org.junit.Rule;
@@ -51,8 +52,10 @@ import org.prebid.server.bidder.model.BidderError;
 import org.prebid.server.bidder.model.BidderSeatBid;
 import org.prebid.server.cookie.UidsCookie;
 import org.prebid.server.currency.CurrencyConversionService;
+import org.prebid.server.currency.CurrencyRates;
 import org.prebid.server.exception.InvalidRequestException;
 import org.prebid.server.exception.PreBidException;
+import org.prebid.server.execution.LatencyEstimator;
 import org.prebid.server.execution.Timeout;
 import org.prebid.server.execution.TimeoutFactory;
 import org.prebid.server.metric.MetricName;
@@ -122,6 +125,7 @@ import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException
 import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
@@ -133,6 +137,7 @@ import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.anyList;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -208,7 +213,7 @@ public class ExchangeServiceTest extends VertxTest {
 
         given(responseBidValidator.validate(any(), any(), any(), any())).willReturn(ValidationResult.success());
 
-        given(currencyService.convertCurrency(any(), any(), any(), any()))
+        given(currencyService.convertCurrency(any(), any(), any(), any(), any()))
                 .willAnswer(invocationOnMock -> invocationOnMock.getArgument(0));
 
         given(storedResponseProcessor.getStoredResponseResult(any(), any()))
@@ -222,6 +227,9 @@ public class ExchangeServiceTest extends VertxTest {
 
         exchangeService = new ExchangeService(
                 0,
+                null,
+                0,
+                null,
                 bidderCatalog,
                 storedResponseProcessor,
                 privacyEnforcementService,
@@ -242,6 +250,9 @@ public class ExchangeServiceTest extends VertxTest {
         assertThatIllegalArgumentException().isThrownBy(
                 () -> new ExchangeService(
                         -1,
+                        null,
+                        0,
+                        null,
                         bidderCatalog,
                         storedResponseProcessor,
                         privacyEnforcementService,
@@ -1117,6 +1128,9 @@ public class ExchangeServiceTest extends VertxTest {
     public void shouldProcessBidderResponseReturnedFromStoredResponseProcessor() {
         // given
         givenBidder(givenEmptySeatBid());
+        given(storedResponseProcessor.getStoredResponseResult(any(), any()))
+                .willAnswer(inv -> Future.succeededFuture(StoredResponseResult.of(inv.getArgument(0),
+                        singletonList(SeatBid.builder().seat("someBidder").build()), emptyMap())));
 
         final BidRequest bidRequest = givenBidRequest(singletonList(
                 givenImp(doubleMap("prebid", 0, "someBidder", 1), builder -> builder
@@ -1174,6 +1188,9 @@ public class ExchangeServiceTest extends VertxTest {
     public void shouldReturnFailedFutureWhenStoredResponseProcessorMergeBidderResponseReturnsFailedFuture() {
         // given
         givenBidder(givenEmptySeatBid());
+        given(storedResponseProcessor.getStoredResponseResult(any(), any()))
+                .willAnswer(inv -> Future.succeededFuture(StoredResponseResult.of(inv.getArgument(0),
+                        singletonList(SeatBid.builder().seat("someBidder").build()), emptyMap())));
 
         given(storedResponseProcessor.mergeWithBidderResponses(any(), any(), any()))
                 .willThrow(new PreBidException("Error"));
@@ -2086,6 +2103,9 @@ public class ExchangeServiceTest extends VertxTest {
         // given
         exchangeService = new ExchangeService(
                 100,
+                null,
+                0,
+                null,
                 bidderCatalog,
                 storedResponseProcessor,
                 privacyEnforcementService,
@@ -2122,6 +2142,215 @@ public class ExchangeServiceTest extends VertxTest {
         verify(bidResponseCreator).create(anyList(), any(), any(), any(), anyBoolean());
     }
 
+    @Test
+    public void shouldPassGlobalTimeoutReducedByEstimatedCacheTimeToConnector() {
+        // given
+        final LatencyEstimator cacheTimeEstimator = mock(LatencyEstimator.class);
+        given(cacheTimeEstimator.estimate()).willReturn(200L);
+
+        exchangeService = new ExchangeService(
+                100,
+                cacheTimeEstimator,
+                300,
+                null,
+                bidderCatalog,
+                storedResponseProcessor,
+                privacyEnforcementService,
+                fpdResolver,
+                schainResolver,
+                httpBidderRequester,
+                responseBidValidator,
+                currencyService,
+                bidResponseCreator,
+                bidResponsePostProcessor,
+                metrics,
+                clock,
+                jacksonMapper);
+
+        givenBidder(givenSeatBid(singletonList(givenBid(Bid.builder().impid("impId1").build()))));
+
+        final BidRequest bidRequest = givenBidRequest(singletonList(
+                givenImp(singletonMap("bidder1", 1), builder -> builder.id("impId1"))),
+                builder -> builder.ext(ExtRequest.of(ExtRequestPrebid.builder()
+                        .targeting(givenTargeting(true))
+                        .cache(ExtRequestPrebidCache.of(ExtRequestPrebidCacheBids.of(null, null), null, null))
+                        .auctiontimestamp(1000L)
+                        .build())));
+
+        // when
+        exchangeService.holdAuction(givenRequestContext(bidRequest)).result();
+
+        // then
+        final ArgumentCaptor<Timeout> timeoutCaptor = ArgumentCaptor.forClass(Timeout.class);
+        verify(httpBidderRequester).requestBids(any(), any(), timeoutCaptor.capture(), any(), anyBoolean());
+        assertThat(timeoutCaptor.getValue().remaining()).isEqualTo(300L);
+    }
+
+    @Test
+    public void shouldPassGlobalTimeoutReducedByMaxCacheTimeIfEstimationExceedsIt() {
+        // given
+        final LatencyEstimator cacheTimeEstimator = mock(LatencyEstimator.class);
+        given(cacheTimeEstimator.estimate()).willReturn(1000L);
+
+        exchangeService = new ExchangeService(
+                100,
+                cacheTimeEstimator,
+                300,
+                null,
+                bidderCatalog,
+                storedResponseProcessor,
+                privacyEnforcementService,
+                fpdResolver,
+                schainResolver,
+                httpBidderRequester,
+                responseBidValidator,
+                currencyService,
+                bidResponseCreator,
+                bidResponsePostProcessor,
+                metrics,
+                clock,
+                jacksonMapper);
+
+        givenBidder(givenSeatBid(singletonList(givenBid(Bid.builder().impid("impId1").build()))));
+
+        final BidRequest bidRequest = givenBidRequest(singletonList(
+                givenImp(singletonMap("bidder1", 1), builder -> builder.id("impId1"))),
+                builder -> builder.ext(ExtRequest.of(ExtRequestPrebid.builder()
+                        .targeting(givenTargeting(true))
+                        .cache(ExtRequestPrebidCache.of(ExtRequestPrebidCacheBids.of(null, null), null, null))
+                        .auctiontimestamp(1000L)
+                        .build())));
+
+        // when
+        exchangeService.holdAuction(givenRequestContext(bidRequest)).result();
+
+        // then
+        final ArgumentCaptor<Timeout> timeoutCaptor = ArgumentCaptor.forClass(Timeout.class);
+        verify(httpBidderRequester).requestBids(any(), any(), timeoutCaptor.capture(), any(), anyBoolean());
+        assertThat(timeoutCaptor.getValue().remaining()).isEqualTo(200L);
+    }
+
+    @Test
+    public void shouldPassGlobalTimeoutReducedByStaticCacheTimeIfNoEstimationAvailable() {
+        // given
+        final LatencyEstimator cacheTimeEstimator = mock(LatencyEstimator.class);
+        given(cacheTimeEstimator.estimate()).willReturn(null);
+
+        exchangeService = new ExchangeService(
+                100,
+                cacheTimeEstimator,
+                300,
+                null,
+                bidderCatalog,
+                storedResponseProcessor,
+                privacyEnforcementService,
+                fpdResolver,
+                schainResolver,
+                httpBidderRequester,
+                responseBidValidator,
+                currencyService,
+                bidResponseCreator,
+                bidResponsePostProcessor,
+                metrics,
+                clock,
+                jacksonMapper);
+
+        givenBidder(givenSeatBid(singletonList(givenBid(Bid.builder().impid("impId1").build()))));
+
+        final BidRequest bidRequest = givenBidRequest(singletonList(
+                givenImp(singletonMap("bidder1", 1), builder -> builder.id("impId1"))),
+                builder -> builder.ext(ExtRequest.of(ExtRequestPrebid.builder()
+                        .targeting(givenTargeting(true))
+                        .cache(ExtRequestPrebidCache.of(ExtRequestPrebidCacheBids.of(null, null), null, null))
+                        .auctiontimestamp(1000L)
+                        .build())));
+
+        // when
+        exchangeService.holdAuction(givenRequestContext(bidRequest)).result();
+
+        // then
+        final ArgumentCaptor<Timeout> timeoutCaptor = ArgumentCaptor.forClass(Timeout.class);
+        verify(httpBidderRequester).requestBids(any(), any(), timeoutCaptor.capture(), any(), anyBoolean());
+        assertThat(timeoutCaptor.getValue().remaining()).isEqualTo(400L);
+    }
+
+    @Test
+    public void shouldPassTimeoutCappedByBidderTimeoutResolverToConnectorAndAddDebugWarning() {
+        // given
+        final BidderTimeoutResolver bidderTimeoutResolver = mock(BidderTimeoutResolver.class);
+        final Timeout cappedTimeout = timeout.minus(300L);
+        given(bidderTimeoutResolver.resolve(eq("bidder1"), any())).willReturn(cappedTimeout);
+
+        exchangeService = new ExchangeService(
+                0,
+                null,
+                0,
+                bidderTimeoutResolver,
+                bidderCatalog,
+                storedResponseProcessor,
+                privacyEnforcementService,
+                fpdResolver,
+                schainResolver,
+                httpBidderRequester,
+                responseBidValidator,
+                currencyService,
+                bidResponseCreator,
+                bidResponsePostProcessor,
+                metrics,
+                clock,
+                jacksonMapper);
+
+        givenBidder(givenEmptySeatBid());
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("bidder1", 1)),
+                builder -> builder.test(1));
+        final AuctionContext auctionContext = givenRequestContext(bidRequest);
+
+        // when
+        exchangeService.holdAuction(auctionContext);
+
+        // then
+        verify(httpBidderRequester).requestBids(any(), any(), same(cappedTimeout), any(), anyBoolean());
+        verify(bidderTimeoutResolver).updateResponseTime(eq("bidder1"), anyLong());
+        assertThat(auctionContext.getDebugWarnings())
+                .containsExactly("Timeout for bidder bidder1 was capped to 200 ms by its recent response times");
+    }
+
+    @Test
+    public void shouldRegisterTimedOutBidderCallInBidderTimeoutResolver() {
+        // given
+        final BidderTimeoutResolver bidderTimeoutResolver = givenExchangeServiceWithBidderTimeoutResolver();
+
+        givenBidder(BidderSeatBid.of(emptyList(), emptyList(), singletonList(BidderError.timeout("Timed out"))));
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("bidder1", 1)));
+
+        // when
+        exchangeService.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        verify(bidderTimeoutResolver).updateTimedOut(eq("bidder1"));
+        verify(bidderTimeoutResolver, never()).updateResponseTime(any(), anyLong());
+    }
+
+    @Test
+    public void shouldNotRegisterFailedBidderCallInBidderTimeoutResolver() {
+        // given
+        final BidderTimeoutResolver bidderTimeoutResolver = givenExchangeServiceWithBidderTimeoutResolver();
+
+        givenBidder(BidderSeatBid.of(emptyList(), emptyList(),
+                singletonList(BidderError.badServerResponse("Unexpected status code: 500"))));
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("bidder1", 1)));
+
+        // when
+        exchangeService.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        verify(bidderTimeoutResolver, never()).updateTimedOut(any());
+        verify(bidderTimeoutResolver, never()).updateResponseTime(any(), anyLong());
+    }
+
     @Test
     public void shouldReturnBidsWithUpdatedPriceCurrencyConversion() {
         // given
@@ -2133,7 +2362,7 @@ public class ExchangeServiceTest extends VertxTest {
                 identity());
 
         final BigDecimal updatedPrice = BigDecimal.valueOf(5.0);
-        given(currencyService.convertCurrency(any(), any(), any(), any())).willReturn(updatedPrice);
+        given(currencyService.convertCurrency(any(), any(), any(), any(), any())).willReturn(updatedPrice);
 
         givenBidResponseCreator(singletonList(Bid.builder().price(updatedPrice).build()));
 
@@ -2157,7 +2386,7 @@ public class ExchangeServiceTest extends VertxTest {
                 identity());
 
         // returns the same price as in argument
-        given(currencyService.convertCurrency(any(), any(), any(), any()))
+        given(currencyService.convertCurrency(any(), any(), any(), any(), any()))
                 .willAnswer(invocationOnMock -> invocationOnMock.getArgument(0));
 
         // when
@@ -2180,7 +2409,7 @@ public class ExchangeServiceTest extends VertxTest {
         final BidRequest bidRequest = givenBidRequest(singletonList(givenImp(singletonMap("bidder", 2), identity())),
                 identity());
 
-        given(currencyService.convertCurrency(any(), any(), any(), any()))
+        given(currencyService.convertCurrency(any(), any(), any(), any(), any()))
                 .willThrow(new PreBidException("Unable to convert bid currency CUR to desired ad server currency USD"));
 
         // when
@@ -2217,7 +2446,7 @@ public class ExchangeServiceTest extends VertxTest {
                         .auctiontimestamp(1000L)
                         .build())));
 
-        given(currencyService.convertCurrency(any(), any(), any(), any()))
+        given(currencyService.convertCurrency(any(), any(), any(), any(), any()))
                 .willReturn(BigDecimal.valueOf(10));
 
         // when
@@ -2252,7 +2481,7 @@ public class ExchangeServiceTest extends VertxTest {
                 identity());
 
         final BigDecimal updatedPrice = BigDecimal.valueOf(10.0);
-        given(currencyService.convertCurrency(any(), any(), any(), any())).willReturn(updatedPrice)
+        given(currencyService.convertCurrency(any(), any(), any(), any(), any())).willReturn(updatedPrice)
                 .willThrow(
                         new PreBidException("Unable to convert bid currency CUR2 to desired ad server currency USD"));
 
@@ -2262,8 +2491,8 @@ public class ExchangeServiceTest extends VertxTest {
         // then
         final ArgumentCaptor<List<BidderResponse>> argumentCaptor = ArgumentCaptor.forClass(List.class);
         verify(bidResponseCreator).create(argumentCaptor.capture(), any(), any(), any(), anyBoolean());
-        verify(currencyService).convertCurrency(eq(firstBidderPrice), eq(bidRequest), any(), eq("CUR1"));
-        verify(currencyService).convertCurrency(eq(secondBidderPrice), eq(bidRequest), any(), eq("CUR2"));
+        verify(currencyService).convertCurrency(eq(firstBidderPrice), eq(bidRequest), isNull(), any(), eq("CUR1"));
+        verify(currencyService).convertCurrency(eq(secondBidderPrice), eq(bidRequest), isNull(), any(), eq("CUR2"));
 
         assertThat(argumentCaptor.getValue()).hasSize(1);
 
@@ -2297,8 +2526,8 @@ public class ExchangeServiceTest extends VertxTest {
                         identity()))).build();
 
         final BigDecimal updatedPrice = BigDecimal.valueOf(20);
-        given(currencyService.convertCurrency(any(), any(), any(), any())).willReturn(updatedPrice);
-        given(currencyService.convertCurrency(any(), any(), eq("BAD"), eq("CUR")))
+        given(currencyService.convertCurrency(any(), any(), any(), any(), any())).willReturn(updatedPrice);
+        given(currencyService.convertCurrency(any(), any(), any(), eq("BAD"), eq("CUR")))
                 .willThrow(new PreBidException("Unable to convert bid currency CUR to desired ad server currency BAD"));
 
         // when
@@ -2307,8 +2536,8 @@ public class ExchangeServiceTest extends VertxTest {
         // then
         final ArgumentCaptor<List<BidderResponse>> argumentCaptor = ArgumentCaptor.forClass(List.class);
         verify(bidResponseCreator).create(argumentCaptor.capture(), any(), any(), any(), anyBoolean());
-        verify(currencyService).convertCurrency(eq(firstBidderPrice), eq(bidRequest), eq("BAD"), eq("USD"));
-        verify(currencyService).convertCurrency(eq(secondBidderPrice), eq(bidRequest), eq("BAD"), eq("CUR"));
+        verify(currencyService).convertCurrency(eq(firstBidderPrice), eq(bidRequest), isNull(), eq("BAD"), eq("USD"));
+        verify(currencyService).convertCurrency(eq(secondBidderPrice), eq(bidRequest), isNull(), eq("BAD"), eq("CUR"));
 
         assertThat(argumentCaptor.getValue()).hasSize(2);
 
@@ -2343,7 +2572,7 @@ public class ExchangeServiceTest extends VertxTest {
                 builder -> builder.cur(asList("CUR1", "CUR2", "CUR2")));
 
         final BigDecimal updatedPrice = BigDecimal.valueOf(10.0);
-        given(currencyService.convertCurrency(any(), any(), any(), any())).willReturn(updatedPrice);
+        given(currencyService.convertCurrency(any(), any(), any(), any(), any())).willReturn(updatedPrice);
 
         // when
         exchangeService.holdAuction(givenRequestContext(bidRequest)).result();
@@ -2351,7 +2580,7 @@ public class ExchangeServiceTest extends VertxTest {
         // then
         final ArgumentCaptor<List<BidderResponse>> argumentCaptor = ArgumentCaptor.forClass(List.class);
         verify(bidResponseCreator).create(argumentCaptor.capture(), any(), any(), any(), anyBoolean());
-        verify(currencyService).convertCurrency(eq(bidderPrice), eq(bidRequest), eq("CUR1"), eq("USD"));
+        verify(currencyService).convertCurrency(eq(bidderPrice), eq(bidRequest), isNull(), eq("CUR1"), eq("USD"));
 
         assertThat(argumentCaptor.getValue()).hasSize(1);
 
@@ -2386,9 +2615,12 @@ public class ExchangeServiceTest extends VertxTest {
         final BidRequest bidRequest = givenBidRequest(
                 singletonList(givenImp(impBidders, identity())), builder -> builder.cur(singletonList("USD")));
 
+        final CurrencyRates requestCurrencyRates = mock(CurrencyRates.class);
+        given(currencyService.requestCurrencyRates(any())).willReturn(requestCurrencyRates);
+
         final BigDecimal updatedPrice = BigDecimal.valueOf(10.0);
-        given(currencyService.convertCurrency(any(), any(), any(), any())).willReturn(updatedPrice);
-        given(currencyService.convertCurrency(any(), any(), any(), eq("USD"))).willReturn(bidder3Price);
+        given(currencyService.convertCurrency(any(), any(), any(), any(), any())).willReturn(updatedPrice);
+        given(currencyService.convertCurrency(any(), any(), any(), any(), eq("USD"))).willReturn(bidder3Price);
 
         // when
         exchangeService.holdAuction(givenRequestContext(bidRequest)).result();
@@ -2396,9 +2628,13 @@ public class ExchangeServiceTest extends VertxTest {
         // then
         final ArgumentCaptor<List<BidderResponse>> argumentCaptor = ArgumentCaptor.forClass(List.class);
         verify(bidResponseCreator).create(argumentCaptor.capture(), any(), any(), any(), anyBoolean());
-        verify(currencyService).convertCurrency(eq(bidder1Price), eq(bidRequest), eq("USD"), eq("EUR"));
-        verify(currencyService).convertCurrency(eq(bidder2Price), eq(bidRequest), eq("USD"), eq("GBP"));
-        verify(currencyService).convertCurrency(eq(bidder3Price), eq(bidRequest), eq("USD"), eq("USD"));
+        verify(currencyService).requestCurrencyRates(eq(bidRequest));
+        verify(currencyService).convertCurrency(
+                eq(bidder1Price), eq(bidRequest), same(requestCurrencyRates), eq("USD"), eq("EUR"));
+        verify(currencyService).convertCurrency(
+                eq(bidder2Price), eq(bidRequest), same(requestCurrencyRates), eq("USD"), eq("GBP"));
+        verify(currencyService).convertCurrency(
+                eq(bidder3Price), eq(bidRequest), same(requestCurrencyRates), eq("USD"), eq("USD"));
         verifyNoMoreInteractions(currencyService);
 
         assertThat(argumentCaptor.getValue())
@@ -2462,6 +2698,32 @@ public class ExchangeServiceTest extends VertxTest {
         verify(metrics).updateAdapterBidMetrics(eq("someBidder"), eq("accountId"), eq(10000L), eq(false), eq("banner"));
     }
 
+    @Test
+    public void shouldProcessBidderResponseWithoutWaitingForOtherBidders() {
+        // given
+        final Bidder<?> bidder1 = mock(Bidder.class);
+        final Bidder<?> bidder2 = mock(Bidder.class);
+        givenBidder("bidder1", bidder1, givenSeatBid(singletonList(givenBid(Bid.builder().price(TEN).build()))));
+        doReturn(bidder2).when(bidderCatalog).bidderByName(eq("bidder2"));
+        final Promise<BidderSeatBid> bidder2Promise = Promise.promise();
+        given(httpBidderRequester.requestBids(same(bidder2), any(), any(), any(), anyBoolean()))
+                .willReturn(bidder2Promise.future());
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp(doubleMap("bidder1", 1, "bidder2", 2)),
+                builder -> builder.site(Site.builder().publisher(Publisher.builder().id("accountId").build()).build()));
+
+        // when
+        final Future<BidResponse> result = exchangeService.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        assertThat(result.isComplete()).isFalse();
+        verify(responseBidValidator).validate(any(), eq("bidder1"), any(), any());
+        verify(metrics).updateAdapterResponseTime(eq("bidder1"), eq("accountId"), anyInt());
+        verify(metrics).updateAdapterBidMetrics(eq("bidder1"), eq("accountId"), eq(10000L), eq(false), eq("banner"));
+        verify(metrics, never()).updateAdapterResponseTime(eq("bidder2"), any(), anyInt());
+        verify(storedResponseProcessor, never()).mergeWithBidderResponses(any(), any(), any());
+    }
+
     @Test
     public void shouldCallUpdateCookieMetricsWithExpectedValue() {
         // given
@@ -2814,6 +3076,32 @@ public class ExchangeServiceTest extends VertxTest {
         return givenSeatBid(singletonList(bid));
     }
 
+    private BidderTimeoutResolver givenExchangeServiceWithBidderTimeoutResolver() {
+        final BidderTimeoutResolver bidderTimeoutResolver = mock(BidderTimeoutResolver.class);
+        given(bidderTimeoutResolver.resolve(any(), any())).willAnswer(invocation -> invocation.getArgument(1));
+
+        exchangeService = new ExchangeService(
+                0,
+                null,
+                0,
+                bidderTimeoutResolver,
+                bidderCatalog,
+                storedResponseProcessor,
+                privacyEnforcementService,
+                fpdResolver,
+                schainResolver,
+                httpBidderRequester,
+                responseBidValidator,
+                currencyService,
+                bidResponseCreator,
+                bidResponsePostProcessor,
+                metrics,
+                clock,
+                jacksonMapper);
+
+        return bidderTimeoutResolver;
+    }
+
     private static BidderSeatBid givenEmptySeatBid() {
         return givenSeatBid(emptyList());
     }
@@ -556,6 +556,42 @@ public class OrtbTypesResolverTest extends VertxTest {
         assertThat(fpd.path("app")).isEqualTo(requestFpdApp);
     }
 
+    @Test
+    public void normalizeBidRequestShouldNotRequestOriginalBidRequestIfNoWarningsOccurred() {
+        // given
+        final ObjectNode containerNode = obj("user", obj("gender", "male"));
+        final List<String> requestedOrigins = new ArrayList<>();
+
+        // when
+        ortbTypesResolver.normalizeBidRequest(containerNode, new ArrayList<>(), "referer",
+                () -> {
+                    requestedOrigins.add("origin");
+                    return "origin";
+                });
+
+        // then
+        assertThat(requestedOrigins).isEmpty();
+    }
+
+    @Test
+    public void normalizeBidRequestShouldRequestOriginalBidRequestIfWarningsOccurred() {
+        // given
+        final ObjectNode containerNode = obj("user", obj("gender", array("male", "female")));
+        final List<String> requestedOrigins = new ArrayList<>();
+        final List<String> errors = new ArrayList<>();
+
+        // when
+        ortbTypesResolver.normalizeBidRequest(containerNode, errors, "referer",
+                () -> {
+                    requestedOrigins.add("origin");
+                    return "origin";
+                });
+
+        // then
+        assertThat(requestedOrigins).containsOnly("origin");
+        assertThat(errors).hasSize(1);
+    }
+
     private static ArrayNode array(String... fields) {
         final ArrayNode arrayNode = mapper.createArrayNode();
         Arrays.stream(fields).forEach(arrayNode::add);
@@ -9,6 +9,7 @@ import java.math.BigDecimal;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
@@ -117,4 +118,34 @@ public class PriceGranularityTest {
                 ExtGranularityRange.of(BigDecimal.valueOf(3), BigDecimal.valueOf(0.01)),
                 ExtGranularityRange.of(BigDecimal.valueOf(8), BigDecimal.valueOf(0.05)));
     }
+
+    @Test
+    public void createFromExtPriceGranularityShouldReuseStandardGranularityForEqualRanges() {
+        // given
+        final ExtPriceGranularity extPriceGranularity = ExtPriceGranularity.of(2, singletonList(
+                ExtGranularityRange.of(BigDecimal.valueOf(5), BigDecimal.valueOf(0.5))));
+
+        // when
+        final PriceGranularity priceGranularity = PriceGranularity.createFromExtPriceGranularity(extPriceGranularity);
+
+        // then
+        assertThat(priceGranularity).isSameAs(PriceGranularity.createFromString("low"));
+        assertThat(priceGranularity.getPriceBuckets()).isNotNull();
+    }
+
+    @Test
+    public void createFromExtPriceGranularityShouldCreateNewGranularityWithoutPriceBucketsForCustomRanges() {
+        // given
+        final ExtPriceGranularity extPriceGranularity = ExtPriceGranularity.of(2, singletonList(
+                ExtGranularityRange.of(BigDecimal.valueOf(7), BigDecimal.valueOf(0.02))));
+
+        // when
+        final PriceGranularity priceGranularity = PriceGranularity.createFromExtPriceGranularity(extPriceGranularity);
+
+        // then
+        assertThat(PriceGranularity.createFromExtPriceGranularity(ExtPriceGranularity.of(2, singletonList(
+                ExtGranularityRange.of(BigDecimal.valueOf(7), BigDecimal.valueOf(0.02))))))
+                .isNotSameAs(priceGranularity);
+        assertThat(priceGranularity.getPriceBuckets()).isNull();
+    }
 }
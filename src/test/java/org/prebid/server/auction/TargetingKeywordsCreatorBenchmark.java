@@ -0,0 +1,95 @@
+package org.prebid.server.auction;
+
+import com.iab.openrtb.response.Bid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.prebid.server.proto.openrtb.ext.request.ExtGranularityRange;
+import org.prebid.server.proto.openrtb.ext.request.ExtPriceGranularity;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures creation of targeting keywords for response with 10 imps and bids from 30 bidders per imp,
+ * with bidder keys, winning bid keys and cache keys included and keys truncated to 20 characters.
+ * <p>
+ * {@link TargetingKeywordsCreator} is created for each response, as it is done by {@link BidResponseCreator}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TargetingKeywordsCreatorBenchmark {
+
+    private static final int IMPS = 10;
+    private static final int BIDDERS = 30;
+    private static final int[][] SIZES = {{300, 250}, {728, 90}, {160, 600}, {320, 50}};
+
+    private ExtPriceGranularity priceGranularity;
+    private List<String> bidders;
+    private List<List<Bid>> impsBids;
+
+    @Setup
+    public void setUp() {
+        priceGranularity = ExtPriceGranularity.of(2, Collections.singletonList(
+                ExtGranularityRange.of(BigDecimal.valueOf(20), BigDecimal.valueOf(0.1))));
+
+        bidders = new ArrayList<>();
+        for (int bidder = 0; bidder < BIDDERS; bidder++) {
+            bidders.add(String.format("bidderName%d", bidder));
+        }
+
+        impsBids = new ArrayList<>();
+        for (int imp = 0; imp < IMPS; imp++) {
+            final int[] size = SIZES[imp % SIZES.length];
+            final List<Bid> bids = new ArrayList<>();
+            for (int bidder = 0; bidder < BIDDERS; bidder++) {
+                bids.add(Bid.builder()
+                        .id(String.format("bid-%d-%d", imp, bidder))
+                        .impid(String.format("imp-%d", imp))
+                        .price(BigDecimal.valueOf(bidder * 37 + imp, 2))
+                        .w(size[0])
+                        .h(size[1])
+                        .dealid(bidder % 5 == 0 ? String.format("deal-%d", bidder) : null)
+                        .build());
+            }
+            impsBids.add(bids);
+        }
+    }
+
+    @Benchmark
+    public void makeFor(Blackhole blackhole) {
+        final TargetingKeywordsCreator targetingKeywordsCreator = TargetingKeywordsCreator.create(
+                priceGranularity,
+                true,
+                true,
+                false,
+                false,
+                20,
+                "prebid-cache.example.com",
+                "/cache",
+                null);
+
+        for (List<Bid> bids : impsBids) {
+            for (int bidder = 0; bidder < BIDDERS; bidder++) {
+                final Bid bid = bids.get(bidder);
+                blackhole.consume(targetingKeywordsCreator.makeFor(
+                        bid, bidders.get(bidder), bidder == 0, bid.getId() + "-cache", null, null));
+            }
+        }
+    }
+}
@@ -458,4 +458,31 @@ public class TargetingKeywordsCreatorTest {
         // then
         assertThat(keywords).contains(entry("keyword1", "value1"));
     }
+
+    @Test
+    public void shouldReuseTruncatedKeysBetweenBidsOfSameCreator() {
+        // given
+        final Bid bid = Bid.builder().price(BigDecimal.ONE).w(300).h(250).build();
+        final ExtPriceGranularity extPriceGranularity = ExtPriceGranularity.of(2,
+                singletonList(ExtGranularityRange.of(BigDecimal.valueOf(5), BigDecimal.valueOf(0.5))));
+        final TargetingKeywordsCreator targetingKeywordsCreator = TargetingKeywordsCreator.create(
+                extPriceGranularity, true, true, false, false, 20, null, null, null);
+
+        // when
+        final Map<String, String> keywords1 = targetingKeywordsCreator
+                .makeFor(bid, "someVeryLongBidderName", true, null, null, null);
+        final Map<String, String> keywords2 = targetingKeywordsCreator
+                .makeFor(bid, "someVeryLongBidderName", true, null, null, null);
+
+        // then
+        assertThat(keywords1).isEqualTo(keywords2).containsOnly(
+                entry("hb_pb_someVeryLongBi", "1.00"),
+                entry("hb_bidder_someVeryLo", "someVeryLongBidderName"),
+                entry("hb_size_someVeryLong", "300x250"),
+                entry("hb_pb", "1.00"),
+                entry("hb_bidder", "someVeryLongBidderName"),
+                entry("hb_size", "300x250"));
+        assertThat(keywords2.keySet()).allSatisfy(key ->
+                assertThat(keywords1.keySet()).anySatisfy(otherKey -> assertThat(otherKey).isSameAs(key)));
+    }
 }
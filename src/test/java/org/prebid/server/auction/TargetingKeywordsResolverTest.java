@@ -423,4 +423,55 @@ public class TargetingKeywordsResolverTest extends VertxTest {
                 entry("keyword4", "value4"),
                 entry("bidder_keyword5", "value5"));
     }
+
+    @Test
+    public void shouldResolveImpRequestKeywordsForBidsOfDifferentImps() {
+        // given
+        final BidRequest bidRequest = BidRequest.builder()
+                .ext(ExtRequest.of(ExtRequestPrebid.builder()
+                        .adservertargeting(singletonList(
+                                ExtRequestPrebidAdservertargetingRule.of("keyword3", bidrequest, "imp.ext.attr1")))
+                        .build()))
+                .imp(asList(
+                        Imp.builder().id("impId1").ext(mapper.valueToTree(singletonMap("attr1", "value1"))).build(),
+                        Imp.builder().id("impId2").ext(mapper.valueToTree(singletonMap("attr1", "value2"))).build()))
+                .build();
+        final TargetingKeywordsResolver resolver = TargetingKeywordsResolver.create(bidRequest, jacksonMapper);
+
+        // when
+        final Map<String, String> keywords1 = resolver.resolve(Bid.builder().impid("impId1").build(), null);
+        final Map<String, String> keywords2 = resolver.resolve(Bid.builder().impid("impId2").build(), null);
+        final Map<String, String> keywords3 = resolver.resolve(Bid.builder().impid("impId1").build(), null);
+
+        // then
+        assertThat(keywords1).containsOnly(entry("keyword3", "value1"));
+        assertThat(keywords2).containsOnly(entry("keyword3", "value2"));
+        assertThat(keywords3).containsOnly(entry("keyword3", "value1"));
+    }
+
+    @Test
+    public void shouldResolveResponseKeywordsFromBidExtAndOtherBidFields() {
+        // given
+        final BidRequest bidRequest = BidRequest.builder()
+                .ext(ExtRequest.of(ExtRequestPrebid.builder()
+                        .adservertargeting(asList(
+                                ExtRequestPrebidAdservertargetingRule.of(
+                                        "keyword1", bidresponse, "seatbid.bid.ext.attr1"),
+                                ExtRequestPrebidAdservertargetingRule.of(
+                                        "keyword2", bidresponse, "seatbid.bid.dealid")))
+                        .build()))
+                .build();
+
+        // when
+        final Map<String, String> keywords = TargetingKeywordsResolver.create(bidRequest, jacksonMapper)
+                .resolve(
+                        Bid.builder()
+                                .dealid("dealId")
+                                .ext(mapper.valueToTree(singletonMap("attr1", "value1")))
+                                .build(),
+                        null);
+
+        // then
+        assertThat(keywords).containsOnly(entry("keyword1", "value1"), entry("keyword2", "dealId"));
+    }
 }
@@ -34,6 +34,7 @@ import org.prebid.server.exception.InvalidRequestException;
 import org.prebid.server.geolocation.model.GeoInfo;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.privacy.ccpa.Ccpa;
+import org.prebid.server.privacy.gdpr.TcfDefinerService;
 import org.prebid.server.privacy.gdpr.model.TcfContext;
 import org.prebid.server.privacy.model.Privacy;
 import org.prebid.server.privacy.model.PrivacyContext;
@@ -99,6 +100,8 @@ public class AmpRequestFactoryTest extends VertxTest {
     @Mock
     private PrivacyEnforcementService privacyEnforcementService;
     @Mock
+    private TcfDefinerService tcfDefinerService;
+    @Mock
     private TimeoutResolver timeoutResolver;
 
     private AmpRequestFactory target;
@@ -144,6 +147,7 @@ public class AmpRequestFactoryTest extends VertxTest {
                 ortb2ImplicitParametersResolver,
                 fpdResolver,
                 privacyEnforcementService,
+                tcfDefinerService,
                 timeoutResolver,
                 jacksonMapper);
     }
@@ -1211,6 +1215,7 @@ public class AmpRequestFactoryTest extends VertxTest {
     public void shouldReturnBidRequestWithOverriddenUserExtConsentWhenGdprConsentParamIsValid() {
         // given
         given(httpRequest.getParam("gdpr_consent")).willReturn("BONV8oqONXwgmADACHENAO7pqzAAppY");
+        given(tcfDefinerService.isConsentStringValid("BONV8oqONXwgmADACHENAO7pqzAAppY")).willReturn(true);
 
         givenBidRequest(
                 builder -> builder
@@ -1236,6 +1241,7 @@ public class AmpRequestFactoryTest extends VertxTest {
     public void shouldReturnBidRequestWithNewUserThatContainsUserExtConsentWhenInitialUserIsMissing() {
         // given
         given(httpRequest.getParam("gdpr_consent")).willReturn("BONV8oqONXwgmADACHENAO7pqzAAppY");
+        given(tcfDefinerService.isConsentStringValid("BONV8oqONXwgmADACHENAO7pqzAAppY")).willReturn(true);
 
         givenBidRequest(
                 builder -> builder
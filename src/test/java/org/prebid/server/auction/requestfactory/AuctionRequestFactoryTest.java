@@ -9,6 +9,7 @@ import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Imp;
 import com.iab.openrtb.request.Site;
 import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.CaseInsensitiveHeaders;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.ext.web.RoutingContext;
@@ -166,7 +167,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 timeoutResolver,
                 jacksonMapper);
 
-        given(routingContext.getBodyAsString()).willReturn("body");
+        given(routingContext.getBody()).willReturn(Buffer.buffer("body"));
 
         // when
         final Future<?> future = target.fromRequest(routingContext, 0L);
@@ -181,7 +182,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
     @Test
     public void shouldReturnFailedFutureIfRequestBodyCouldNotBeParsed() {
         // given
-        given(routingContext.getBodyAsString()).willReturn("body");
+        given(routingContext.getBody()).willReturn(Buffer.buffer("body"));
 
         // when
         final Future<?> future = target.fromRequest(routingContext, 0L);
@@ -190,7 +191,8 @@ public class AuctionRequestFactoryTest extends VertxTest {
         assertThat(future.failed()).isTrue();
         assertThat(future.cause()).isInstanceOf(InvalidRequestException.class);
         assertThat(((InvalidRequestException) future.cause()).getMessages()).hasSize(1)
-                .element(0).asString().startsWith("Error decoding bidRequest: Unrecognized token 'body'");
+                .element(0).asString().startsWith("Error decoding bidRequest: Unrecognized token 'body'")
+                .contains("[Source: (String)\"body\"");
     }
 
     @Test
@@ -208,7 +210,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
 
         requestNode.with("ext").with("prebid").with("data").set("eidpermissions", eidPermissionNode);
 
-        given(routingContext.getBodyAsString()).willReturn(requestNode.toString());
+        given(routingContext.getBody()).willReturn(Buffer.buffer(requestNode.toString()));
 
         // when
         final Future<?> result = target.fromRequest(routingContext, 0L);
@@ -244,7 +246,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
                 .putArray("eidpermissions");
         arrayNode.add(eidPermissionNode);
 
-        given(routingContext.getBodyAsString()).willReturn(requestNode.toString());
+        given(routingContext.getBody()).willReturn(Buffer.buffer(requestNode.toString()));
 
         // when
         final Future<?> result = target.fromRequest(routingContext, 0L);
@@ -286,7 +288,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
         target.fromRequest(routingContext, 0L).result();
 
         // then
-        verify(ortbTypesResolver).normalizeBidRequest(any(), any(), any());
+        verify(ortbTypesResolver).normalizeBidRequest(any(), any(), any(), any());
     }
 
     @Test
@@ -427,7 +429,7 @@ public class AuctionRequestFactoryTest extends VertxTest {
 
     private void givenBidRequest(BidRequest bidRequest) {
         try {
-            given(routingContext.getBodyAsString()).willReturn(mapper.writeValueAsString(bidRequest));
+            given(routingContext.getBody()).willReturn(Buffer.buffer(mapper.writeValueAsString(bidRequest)));
         } catch (JsonProcessingException e) {
             throw new RuntimeException(e);
         }
@@ -17,6 +17,7 @@ import org.prebid.server.metric.Metrics;
 import org.prebid.server.vertx.http.HttpClient;
 import org.prebid.server.vertx.http.model.HttpClientResponse;
 
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.TimeoutException;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -89,6 +90,27 @@ public class BidderErrorNotifierTest {
         verify(metrics).updateTimeoutNotificationMetric(eq(true));
     }
 
+    @Test
+    public void shouldSendTimeoutNotificationWithBodyGivenAsBytes() {
+        // given
+        final HttpRequest<BidRequest> bidderRequest = HttpRequest.<BidRequest>builder().build();
+
+        given(bidder.makeTimeoutNotification(any())).willReturn(HttpRequest.<Void>builder()
+                .uri("url")
+                .method(HttpMethod.POST)
+                .bodyBytes("{}".getBytes(StandardCharsets.UTF_8))
+                .build());
+
+        given(httpClient.request(any(), anyString(), any(), any(), anyLong()))
+                .willReturn(Future.succeededFuture(HttpClientResponse.of(200, null, null)));
+
+        // when
+        bidderErrorNotifier.processTimeout(HttpCall.failure(bidderRequest, BidderError.timeout("Timeout")), bidder);
+
+        // then
+        verify(httpClient).request(eq(HttpMethod.POST), eq("url"), isNull(), eq("{}"), eq(200L));
+    }
+
     @Test
     public void shouldSendTimeoutNotificationAndUpdateFailedMetricWhenResponseCodeNonSuccess() {
         // given
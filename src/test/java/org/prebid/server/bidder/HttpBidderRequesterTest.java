@@ -245,6 +245,30 @@ public class HttpBidderRequesterTest extends VertxTest {
         verify(httpClient).request(any(), anyString(), any(), isNull(), anyLong());
     }
 
+    @Test
+    public void shouldSendRequestBodyBytesIfPresent() {
+        // given
+        givenHttpClientReturnsResponse(200, null);
+
+        final byte[] bodyBytes = "requestBody".getBytes();
+        given(bidder.makeHttpRequests(any())).willReturn(Result.of(singletonList(
+                HttpRequest.<BidRequest>builder()
+                        .method(HttpMethod.POST)
+                        .uri("uri")
+                        .bodyBytes(bodyBytes)
+                        .build()),
+                emptyList()));
+
+        final BidderRequest bidderRequest = BidderRequest.of("bidder", null, BidRequest.builder().build());
+
+        // when
+        httpBidderRequester.requestBids(bidder, bidderRequest, timeout, routingContext, false);
+
+        // then
+        verify(httpClient).requestBytes(any(), anyString(), any(), same(bodyBytes), anyLong());
+        verify(httpClient, never()).request(any(), anyString(), any(), any(), anyLong());
+    }
+
     @Test
     public void shouldSendMultipleRequests() {
         // given
@@ -627,6 +651,8 @@ public class HttpBidderRequesterTest extends VertxTest {
     private void givenHttpClientReturnsResponse(int statusCode, String response) {
         given(httpClient.request(any(), anyString(), any(), any(), anyLong()))
                 .willReturn(Future.succeededFuture(HttpClientResponse.of(statusCode, null, response)));
+        given(httpClient.requestBytes(any(), anyString(), any(), any(), anyLong()))
+                .willReturn(Future.succeededFuture(HttpClientResponse.of(statusCode, null, response)));
     }
 
     private void givenHttpClientProducesException(Throwable throwable) {
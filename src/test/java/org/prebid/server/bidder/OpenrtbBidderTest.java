@@ -0,0 +1,56 @@
+package org.prebid.server.bidder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Imp;
+import org.junit.Before;
+import org.junit.Test;
+import org.prebid.server.VertxTest;
+import org.prebid.server.bidder.model.HttpRequest;
+import org.prebid.server.bidder.model.Result;
+import org.prebid.server.proto.openrtb.ext.ExtPrebid;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OpenrtbBidderTest extends VertxTest {
+
+    private static final String ENDPOINT_URL = "https://test.endpoint.com";
+
+    private OpenrtbBidder<ObjectNode> openrtbBidder;
+
+    @Before
+    public void setUp() {
+        openrtbBidder = new OpenrtbBidder<ObjectNode>(ENDPOINT_URL,
+                OpenrtbBidder.RequestCreationStrategy.SINGLE_REQUEST, ObjectNode.class, jacksonMapper) {
+        };
+    }
+
+    @Test
+    public void makeHttpRequestsShouldReturnRequestWithBodyEncodedToBytes() throws JsonProcessingException {
+        // given
+        final BidRequest bidRequest = BidRequest.builder()
+                .id("requestId")
+                .imp(singletonList(Imp.builder()
+                        .id("impId")
+                        .ext(mapper.valueToTree(ExtPrebid.of(null, mapper.createObjectNode())))
+                        .build()))
+                .build();
+
+        // when
+        final Result<List<HttpRequest<BidRequest>>> result = openrtbBidder.makeHttpRequests(bidRequest);
+
+        // then
+        assertThat(result.getErrors()).isEmpty();
+        assertThat(result.getValue()).hasSize(1)
+                .extracting(HttpRequest::getBodyBytes)
+                .containsExactly(mapper.writeValueAsBytes(bidRequest));
+        assertThat(result.getValue())
+                .extracting(HttpRequest::getBody)
+                .containsExactly(new String(mapper.writeValueAsBytes(bidRequest), StandardCharsets.UTF_8));
+    }
+}
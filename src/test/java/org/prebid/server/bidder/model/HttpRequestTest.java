@@ -0,0 +1,96 @@
+package org.prebid.server.bidder.model;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HttpRequestTest {
+
+    @Test
+    public void builderShouldDiscardBodyBytesIfBodyIsSet() {
+        // given
+        final HttpRequest<Void> httpRequest = HttpRequest.<Void>builder()
+                .bodyBytes("bodyBytes".getBytes(StandardCharsets.UTF_8))
+                .body("body")
+                .build();
+
+        // when and then
+        assertThat(httpRequest.getBody()).isEqualTo("body");
+        assertThat(httpRequest.getBodyBytes()).isNull();
+    }
+
+    @Test
+    public void builderShouldDiscardBodyIfBodyBytesAreSet() {
+        // given
+        final HttpRequest<Void> httpRequest = HttpRequest.<Void>builder()
+                .body("body")
+                .bodyBytes("bodyBytes".getBytes(StandardCharsets.UTF_8))
+                .build();
+
+        // when and then
+        assertThat(httpRequest.getBody()).isEqualTo("bodyBytes");
+    }
+
+    @Test
+    public void toBuilderShouldReplaceBodyBytesWithGivenBody() {
+        // given
+        final HttpRequest<Void> httpRequest = HttpRequest.<Void>builder()
+                .bodyBytes("bodyBytes".getBytes(StandardCharsets.UTF_8))
+                .build();
+
+        // when
+        final HttpRequest<Void> updatedHttpRequest = httpRequest.toBuilder().body("body").build();
+
+        // then
+        assertThat(updatedHttpRequest.getBody()).isEqualTo("body");
+        assertThat(updatedHttpRequest.getBodyBytes()).isNull();
+    }
+
+    @Test
+    public void toBuilderShouldKeepBodyBytes() {
+        // given
+        final byte[] bodyBytes = "bodyBytes".getBytes(StandardCharsets.UTF_8);
+        final HttpRequest<Void> httpRequest = HttpRequest.<Void>builder().bodyBytes(bodyBytes).build();
+
+        // when
+        final HttpRequest<Void> updatedHttpRequest = httpRequest.toBuilder().uri("uri").build();
+
+        // then
+        assertThat(updatedHttpRequest.getBodyBytes()).isSameAs(bodyBytes);
+    }
+
+    @Test
+    public void getBodyShouldReturnDecodedBodyBytesIfBodyIsAbsent() {
+        // given
+        final HttpRequest<Void> httpRequest = HttpRequest.<Void>builder()
+                .bodyBytes("{\"key\":\"значение\"}".getBytes(StandardCharsets.UTF_8))
+                .build();
+
+        // when and then
+        assertThat(httpRequest.getBody()).isEqualTo("{\"key\":\"значение\"}").isSameAs(httpRequest.getBody());
+    }
+
+    @Test
+    public void equalsShouldCompareBodyRegardlessOfItsForm() {
+        // given
+        final HttpRequest<Void> httpRequest = HttpRequest.<Void>builder().body("body").build();
+        final HttpRequest<Void> bytesHttpRequest = HttpRequest.<Void>builder()
+                .bodyBytes("body".getBytes(StandardCharsets.UTF_8))
+                .build();
+
+        // when and then
+        assertThat(bytesHttpRequest).isEqualTo(httpRequest);
+        assertThat(bytesHttpRequest.hashCode()).isEqualTo(httpRequest.hashCode());
+    }
+
+    @Test
+    public void getBodyShouldReturnNullIfBodyAndBodyBytesAreAbsent() {
+        // given
+        final HttpRequest<Void> httpRequest = HttpRequest.<Void>builder().build();
+
+        // when and then
+        assertThat(httpRequest.getBody()).isNull();
+    }
+}
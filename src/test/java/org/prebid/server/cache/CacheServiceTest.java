@@ -30,6 +30,7 @@ import org.prebid.server.cache.proto.response.CacheObject;
 import org.prebid.server.events.EventsContext;
 import org.prebid.server.events.EventsService;
 import org.prebid.server.exception.PreBidException;
+import org.prebid.server.execution.LatencyEstimator;
 import org.prebid.server.execution.Timeout;
 import org.prebid.server.execution.TimeoutFactory;
 import org.prebid.server.metric.Metrics;
@@ -67,6 +68,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
@@ -110,6 +112,7 @@ public class CacheServiceTest extends VertxTest {
                 vastModifier,
                 eventsService,
                 metrics,
+                null,
                 clock,
                 jacksonMapper);
 
@@ -258,6 +261,44 @@ public class CacheServiceTest extends VertxTest {
                         .build());
     }
 
+    @Test
+    public void cacheBidsOpenrtbShouldRegisterSuccessfulRequestTimeInEstimator() throws MalformedURLException {
+        // given
+        final LatencyEstimator requestTimeEstimator = givenCacheServiceWithRequestTimeEstimator();
+
+        // when
+        cacheService.cacheBidsOpenrtb(
+                singletonList(givenBidInfo(builder -> builder.id("bidId1"))),
+                givenAuctionContext(),
+                CacheContext.builder()
+                        .shouldCacheBids(true)
+                        .build(),
+                eventsContext);
+
+        // then
+        verify(requestTimeEstimator).update(0L);
+    }
+
+    @Test
+    public void cacheBidsOpenrtbShouldNotRegisterFailedRequestTimeInEstimator() throws MalformedURLException {
+        // given
+        final LatencyEstimator requestTimeEstimator = givenCacheServiceWithRequestTimeEstimator();
+
+        givenHttpClientProducesException(new RuntimeException("Response exception"));
+
+        // when
+        cacheService.cacheBidsOpenrtb(
+                singletonList(givenBidInfo(builder -> builder.id("bidId1"))),
+                givenAuctionContext(),
+                CacheContext.builder()
+                        .shouldCacheBids(true)
+                        .build(),
+                eventsContext);
+
+        // then
+        verifyZeroInteractions(requestTimeEstimator);
+    }
+
     @Test
     public void cacheBidsOpenrtbShouldTolerateResponseCodeIsNot200() throws JsonProcessingException {
         // given
@@ -536,6 +577,7 @@ public class CacheServiceTest extends VertxTest {
                 vastModifier,
                 eventsService,
                 metrics,
+                null,
                 clock,
                 jacksonMapper);
 
@@ -571,6 +613,7 @@ public class CacheServiceTest extends VertxTest {
                 vastModifier,
                 eventsService,
                 metrics,
+                null,
                 clock,
                 jacksonMapper);
 
@@ -606,6 +649,7 @@ public class CacheServiceTest extends VertxTest {
                 vastModifier,
                 eventsService,
                 metrics,
+                null,
                 clock,
                 jacksonMapper);
 
@@ -874,6 +918,22 @@ public class CacheServiceTest extends VertxTest {
                 .willReturn(Future.succeededFuture(httpClientResponse));
     }
 
+    private LatencyEstimator givenCacheServiceWithRequestTimeEstimator() throws MalformedURLException {
+        final LatencyEstimator requestTimeEstimator = mock(LatencyEstimator.class);
+        cacheService = new CacheService(
+                mediaTypeCacheTtl,
+                httpClient,
+                new URL("http://cache-service/cache"),
+                "http://cache-service-host/cache?uuid=",
+                vastModifier,
+                eventsService,
+                metrics,
+                requestTimeEstimator,
+                clock,
+                jacksonMapper);
+        return requestTimeEstimator;
+    }
+
     private void givenHttpClientProducesException(Throwable throwable) {
         given(httpClient.post(anyString(), any(), any(), anyLong()))
                 .willReturn(Future.failedFuture(throwable));
@@ -0,0 +1,131 @@
+package org.prebid.server.execution;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+import java.time.Clock;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.BDDMockito.given;
+
+public class LatencyEstimatorTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Clock clock;
+
+    @Before
+    public void setUp() {
+        given(clock.millis()).willReturn(0L);
+    }
+
+    @Test
+    public void creationShouldFailOnTooSmallWindow() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new LatencyEstimator(5, 95, 1, clock));
+    }
+
+    @Test
+    public void creationShouldFailOnInvalidPercentile() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new LatencyEstimator(1000, 0, 1, clock));
+        assertThatIllegalArgumentException().isThrownBy(() -> new LatencyEstimator(1000, 101, 1, clock));
+    }
+
+    @Test
+    public void estimateShouldReturnNullIfNotEnoughSamples() {
+        // given
+        final LatencyEstimator latencyEstimator = new LatencyEstimator(1000, 95, 10, clock);
+        LongStream.range(0, 9).forEach(latencyEstimator::update);
+
+        // when and then
+        assertThat(latencyEstimator.estimate()).isNull();
+    }
+
+    @Test
+    public void estimateShouldReturnPercentileOfLatencies() {
+        // given
+        final LatencyEstimator latencyEstimator = new LatencyEstimator(1000, 95, 10, clock);
+        LongStream.rangeClosed(1, 100).forEach(latencyEstimator::update);
+
+        // when and then
+        assertThat(latencyEstimator.estimate()).isEqualTo(95L);
+    }
+
+    @Test
+    public void estimateShouldReturnUpperBoundOfBucketPercentileFallsInto() {
+        // given
+        final LatencyEstimator latencyEstimator = new LatencyEstimator(1000, 50, 1, clock);
+        latencyEstimator.update(153);
+
+        // when and then
+        assertThat(latencyEstimator.estimate()).isEqualTo(160L);
+    }
+
+    @Test
+    public void estimateShouldReturnMaxBoundForTooLongLatencies() {
+        // given
+        final LatencyEstimator latencyEstimator = new LatencyEstimator(1000, 50, 1, clock);
+        latencyEstimator.update(20000);
+
+        // when and then
+        assertThat(latencyEstimator.estimate()).isEqualTo(10000L);
+    }
+
+    @Test
+    public void estimateShouldIgnoreLatenciesOutsideWindow() {
+        // given
+        final LatencyEstimator latencyEstimator = new LatencyEstimator(1000, 50, 1, clock);
+        latencyEstimator.update(500);
+
+        given(clock.millis()).willReturn(900L);
+        latencyEstimator.update(10);
+
+        // when
+        given(clock.millis()).willReturn(1050L);
+
+        // then
+        assertThat(latencyEstimator.estimate()).isEqualTo(10L);
+    }
+
+    @Test
+    public void estimateShouldNotRecalculateEstimationWithinSlot() {
+        // given
+        final LatencyEstimator latencyEstimator = new LatencyEstimator(1000, 50, 1, clock);
+        latencyEstimator.estimate();
+        latencyEstimator.update(10);
+
+        // when
+        given(clock.millis()).willReturn(50L);
+        final Long estimationWithinSlot = latencyEstimator.estimate();
+        given(clock.millis()).willReturn(100L);
+        final Long estimationInNextSlot = latencyEstimator.estimate();
+
+        // then
+        assertThat(estimationWithinSlot).isNull();
+        assertThat(estimationInNextSlot).isEqualTo(10L);
+    }
+
+    @Test
+    public void updateShouldNotResetSlotReusedForNewerSlotNumberOnLateLatency() {
+        // given
+        final LatencyEstimator latencyEstimator = new LatencyEstimator(1000, 100, 2, clock);
+        given(clock.millis()).willReturn(1000L);
+        latencyEstimator.update(10);
+
+        given(clock.millis()).willReturn(0L);
+        latencyEstimator.update(20);
+
+        // when
+        given(clock.millis()).willReturn(1000L);
+
+        // then
+        assertThat(latencyEstimator.estimate()).isEqualTo(20L);
+    }
+}
@@ -1,6 +1,7 @@
 package org.prebid.server.geolocation;
 
 import com.maxmind.geoip2.DatabaseReader;
+import com.maxmind.geoip2.exception.AddressNotFoundException;
 import com.maxmind.geoip2.exception.GeoIp2Exception;
 import com.maxmind.geoip2.model.CityResponse;
 import com.maxmind.geoip2.record.City;
@@ -8,32 +9,72 @@ import com.maxmind.geoip2.record.Continent;
 import com.maxmind.geoip2.record.Country;
 import com.maxmind.geoip2.record.Location;
 import com.maxmind.geoip2.record.Subdivision;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.internal.util.reflection.FieldSetter;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
 import org.prebid.server.geolocation.model.GeoInfo;
+import org.prebid.server.metric.Metrics;
 
+import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.zip.GZIPOutputStream;
 
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 
 public class MaxMindGeoLocationServiceTest {
 
     private static final String TEST_IP = "80.215.195.122";
 
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Mock
+    private Vertx vertx;
+    @Mock
+    private Metrics metrics;
+
     private MaxMindGeoLocationService maxMindGeoLocationService;
 
+    @SuppressWarnings("unchecked")
     @Before
     public void setUp() {
-        maxMindGeoLocationService = new MaxMindGeoLocationService();
+        willAnswer(invocation -> {
+            final Promise<Object> promise = Promise.promise();
+            ((Handler<Promise<Object>>) invocation.getArgument(0)).handle(promise);
+            ((Handler<AsyncResult<Object>>) invocation.getArgument(2)).handle(promise.future());
+            return null;
+        }).given(vertx).executeBlocking(any(), anyBoolean(), any());
+
+        maxMindGeoLocationService = new MaxMindGeoLocationService(vertx, metrics, 100, 60);
     }
 
     @Test
@@ -59,24 +100,35 @@ public class MaxMindGeoLocationServiceTest {
     }
 
     @Test
-    public void lookupShouldReturnCountryIsoWhenDatabaseReaderWasSet() throws NoSuchFieldException, IOException,
-            GeoIp2Exception {
+    public void setDatabaseReaderShouldReturnFailedFutureIfArchiveHasNoDatabaseFile() throws IOException {
         // given
-        final Country country = new Country(null, null, null, "fr", null);
-        final Continent continent = new Continent(null, "eu", null, null);
-        final City city = new City(singletonList("test"), null, null, singletonMap("test", "Paris"));
-        final Location location = new Location(null, null, 48.8566, 2.3522,
-                null, null, null);
-        final ArrayList<Subdivision> subdivisions = new ArrayList<>();
-        subdivisions.add(new Subdivision(null, null, null, "paris", null));
-        final CityResponse cityResponse = new CityResponse(city, continent, country, location, null,
-                null, null, null, subdivisions, null);
+        final File archive = temporaryFolder.newFile("GeoLite2-City.tar.gz");
+        try (TarArchiveOutputStream tarOutput = new TarArchiveOutputStream(new GZIPOutputStream(
+                new FileOutputStream(archive)))) {
+
+            final byte[] content = "content".getBytes();
+            final TarArchiveEntry entry = new TarArchiveEntry("README.txt");
+            entry.setSize(content.length);
+            tarOutput.putArchiveEntry(entry);
+            tarOutput.write(content);
+            tarOutput.closeArchiveEntry();
+        }
 
-        final DatabaseReader databaseReader = Mockito.mock(DatabaseReader.class);
-        given(databaseReader.city(any())).willReturn(cityResponse);
+        // when
+        final Future<?> result = maxMindGeoLocationService.setDataPath(archive.getPath());
 
-        FieldSetter.setField(maxMindGeoLocationService,
-                maxMindGeoLocationService.getClass().getDeclaredField("databaseReader"), databaseReader);
+        // then
+        assertTrue(result.failed());
+        assertThat(result.cause()).hasMessage(String.format(
+                "Database file GeoLite2-City.mmdb not found in %s archive", archive.getPath()));
+        verify(vertx).executeBlocking(any(), eq(false), any());
+    }
+
+    @Test
+    public void lookupShouldReturnCountryIsoWhenDatabaseReaderWasSet() throws NoSuchFieldException, IOException,
+            GeoIp2Exception {
+        // given
+        givenDatabaseReader();
 
         // when
         final Future<GeoInfo> future = maxMindGeoLocationService.lookup(TEST_IP, null);
@@ -94,4 +146,89 @@ public class MaxMindGeoLocationServiceTest {
                         .lon(2.3522f)
                         .build());
     }
+
+    @Test
+    public void lookupShouldMakeSingleDatabaseLookupAndCacheResult() throws NoSuchFieldException, IOException,
+            GeoIp2Exception {
+        // given
+        final DatabaseReader databaseReader = givenDatabaseReader();
+
+        // when
+        final Future<GeoInfo> firstFuture = maxMindGeoLocationService.lookup(TEST_IP, null);
+        final Future<GeoInfo> secondFuture = maxMindGeoLocationService.lookup(TEST_IP, null);
+
+        // then
+        assertThat(secondFuture.result()).isSameAs(firstFuture.result());
+        verify(databaseReader).city(any());
+        verify(metrics).updateGeoLocationCacheMetric(false);
+        verify(metrics).updateGeoLocationCacheMetric(true);
+    }
+
+    @Test
+    public void lookupShouldCacheAddressNotFoundResult() throws NoSuchFieldException, IOException,
+            GeoIp2Exception {
+        // given
+        final DatabaseReader databaseReader = givenDatabaseReader();
+        given(databaseReader.city(any())).willThrow(new AddressNotFoundException("not found"));
+
+        // when
+        final Future<GeoInfo> firstFuture = maxMindGeoLocationService.lookup(TEST_IP, null);
+        final Future<GeoInfo> secondFuture = maxMindGeoLocationService.lookup(TEST_IP, null);
+
+        // then
+        assertThat(firstFuture.failed()).isTrue();
+        assertThat(secondFuture.cause()).isInstanceOf(AddressNotFoundException.class).hasMessage("not found");
+        verify(databaseReader).city(any());
+        verify(metrics).updateGeoLocationCacheMetric(false);
+        verify(metrics).updateGeoLocationCacheMetric(true);
+    }
+
+    @Test
+    public void lookupShouldCountCacheMissForInvalidIp() throws NoSuchFieldException, IOException,
+            GeoIp2Exception {
+        // given
+        givenDatabaseReader();
+
+        // when
+        maxMindGeoLocationService.lookup("prebid.org", null);
+        maxMindGeoLocationService.lookup("prebid.org", null);
+
+        // then
+        verify(metrics, times(2)).updateGeoLocationCacheMetric(false);
+    }
+
+    @Test
+    public void lookupShouldReturnFailedFutureWhenIpIsNotLiteral() throws NoSuchFieldException, IOException,
+            GeoIp2Exception {
+        // given
+        final DatabaseReader databaseReader = givenDatabaseReader();
+
+        // when
+        final Future<GeoInfo> future = maxMindGeoLocationService.lookup("prebid.org", null);
+
+        // then
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause()).hasMessage("Invalid IP address: prebid.org");
+        verifyZeroInteractions(databaseReader);
+    }
+
+    private DatabaseReader givenDatabaseReader() throws NoSuchFieldException, IOException, GeoIp2Exception {
+        final Country country = new Country(null, null, null, "fr", null);
+        final Continent continent = new Continent(null, "eu", null, null);
+        final City city = new City(singletonList("test"), null, null, singletonMap("test", "Paris"));
+        final Location location = new Location(null, null, 48.8566, 2.3522,
+                null, null, null);
+        final ArrayList<Subdivision> subdivisions = new ArrayList<>();
+        subdivisions.add(new Subdivision(null, null, null, "paris", null));
+        final CityResponse cityResponse = new CityResponse(city, continent, country, location, null,
+                null, null, null, subdivisions, null);
+
+        final DatabaseReader databaseReader = Mockito.mock(DatabaseReader.class);
+        given(databaseReader.city(any())).willReturn(cityResponse);
+
+        FieldSetter.setField(maxMindGeoLocationService,
+                maxMindGeoLocationService.getClass().getDeclaredField("databaseReader"), databaseReader);
+
+        return databaseReader;
+    }
 }
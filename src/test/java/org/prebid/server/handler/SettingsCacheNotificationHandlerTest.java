@@ -14,6 +14,7 @@ import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import org.prebid.server.VertxTest;
 import org.prebid.server.settings.CacheNotificationListener;
+import org.prebid.server.settings.SettingsCache;
 import org.prebid.server.settings.proto.request.InvalidateSettingsCacheRequest;
 import org.prebid.server.settings.proto.request.UpdateSettingsCacheRequest;
 
@@ -21,7 +22,9 @@ import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
 
@@ -84,7 +87,8 @@ public class SettingsCacheNotificationHandlerTest extends VertxTest {
         given(routingContext.request().method()).willReturn(HttpMethod.POST);
 
         final UpdateSettingsCacheRequest cacheRequest = UpdateSettingsCacheRequest.of(
-                singletonMap("reqId1", "reqValue1"), singletonMap("impId1", "impValue1"));
+                singletonMap("reqId1", "reqValue1"), singletonMap("impId1", "impValue1"),
+                singletonMap("respId1", "respValue1"));
         given(routingContext.getBody()).willReturn(Buffer.buffer(mapper.writeValueAsBytes(cacheRequest)));
 
         // when
@@ -93,6 +97,7 @@ public class SettingsCacheNotificationHandlerTest extends VertxTest {
         // then
         verify(cacheNotificationListener).save(
                 eq(singletonMap("reqId1", "reqValue1")), eq(singletonMap("impId1", "impValue1")));
+        verify(cacheNotificationListener).saveResponses(eq(singletonMap("respId1", "respValue1")));
     }
 
     @Test
@@ -129,7 +134,7 @@ public class SettingsCacheNotificationHandlerTest extends VertxTest {
         given(routingContext.request().method()).willReturn(HttpMethod.DELETE);
 
         final InvalidateSettingsCacheRequest cacheRequest = InvalidateSettingsCacheRequest.of(
-                singletonList("reqId1"), singletonList("impId1"));
+                singletonList("reqId1"), singletonList("impId1"), singletonList("respId1"));
         given(routingContext.getBody()).willReturn(Buffer.buffer(mapper.writeValueAsBytes(cacheRequest)));
 
         // when
@@ -138,6 +143,45 @@ public class SettingsCacheNotificationHandlerTest extends VertxTest {
         // then
         verify(cacheNotificationListener).invalidate(
                 eq(singletonList("reqId1")), eq(singletonList("impId1")));
+        verify(cacheNotificationListener).invalidateResponses(eq(singletonList("respId1")));
+    }
+
+    @Test
+    public void shouldInvalidateResponsesOnlyWhenRequestsAndImpsAreMissing() throws JsonProcessingException {
+        // given
+        final SettingsCache settingsCache = spy(new SettingsCache(10, 10));
+        handler = new SettingsCacheNotificationHandler(settingsCache, jacksonMapper);
+        given(routingContext.request().method()).willReturn(HttpMethod.DELETE);
+
+        final InvalidateSettingsCacheRequest cacheRequest = InvalidateSettingsCacheRequest.of(
+                null, null, singletonList("respId1"));
+        given(routingContext.getBody()).willReturn(Buffer.buffer(mapper.writeValueAsBytes(cacheRequest)));
+
+        // when
+        handler.handle(routingContext);
+
+        // then
+        verify(settingsCache).invalidateResponses(eq(singletonList("respId1")));
+        verify(httpResponse).setStatusCode(eq(200));
+    }
+
+    @Test
+    public void shouldInvalidateRequestsOnlyWhenImpsAndResponsesAreMissing() throws JsonProcessingException {
+        // given
+        final SettingsCache settingsCache = spy(new SettingsCache(10, 10));
+        handler = new SettingsCacheNotificationHandler(settingsCache, jacksonMapper);
+        given(routingContext.request().method()).willReturn(HttpMethod.DELETE);
+
+        final InvalidateSettingsCacheRequest cacheRequest = InvalidateSettingsCacheRequest.of(
+                singletonList("reqId1"), null, null);
+        given(routingContext.getBody()).willReturn(Buffer.buffer(mapper.writeValueAsBytes(cacheRequest)));
+
+        // when
+        handler.handle(routingContext);
+
+        // then
+        verify(settingsCache).invalidate(eq(singletonList("reqId1")), isNull());
+        verify(httpResponse).setStatusCode(eq(200));
     }
 
     @Test
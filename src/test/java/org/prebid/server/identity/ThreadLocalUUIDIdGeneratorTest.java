@@ -0,0 +1,40 @@
+package org.prebid.server.identity;
+
+import org.junit.Test;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ThreadLocalUUIDIdGeneratorTest {
+
+    @Test
+    public void shouldGenerateRandomUUID() {
+        // given
+        final ThreadLocalUUIDIdGenerator generator = new ThreadLocalUUIDIdGenerator();
+
+        // when
+        final UUID uuid = UUID.fromString(generator.generateId());
+
+        // then
+        assertThat(uuid.version()).isEqualTo(4);
+        assertThat(uuid.variant()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldGenerateUniqueIdsFromDifferentThreads() {
+        // given
+        final ThreadLocalUUIDIdGenerator generator = new ThreadLocalUUIDIdGenerator();
+
+        // when
+        final Set<String> ids = IntStream.range(0, 10000).parallel()
+                .mapToObj(ignored -> generator.generateId())
+                .collect(Collectors.toSet());
+
+        // then
+        assertThat(ids).hasSize(10000);
+    }
+}
@@ -7,9 +7,12 @@ import com.iab.openrtb.request.Site;
 import org.junit.Before;
 import org.junit.Test;
 import org.prebid.server.VertxTest;
+import org.prebid.server.exception.InvalidRequestException;
 import org.prebid.server.proto.openrtb.ext.request.ExtBidderConfigOrtb;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class JsonMergerTest extends VertxTest {
 
@@ -72,4 +75,42 @@ public class JsonMergerTest extends VertxTest {
         assertThat(result).isEqualTo(site);
     }
 
+    @Test
+    public void creationShouldFailOnNegativeStoredDataNodeCacheSize() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new JsonMerger(jacksonMapper, -1))
+                .withMessage("stored data node cache size must not be negative");
+    }
+
+    @Test
+    public void mergeShouldNotAffectStoredDataReusedByNextMerge() {
+        // given
+        target = new JsonMerger(jacksonMapper, 10);
+
+        final String storedData = "{\"domain\":\"storedDomain\",\"publisher\":{\"id\":\"storedId\"}}";
+        final Site firstSite = Site.builder().page("firstPage").publisher(Publisher.builder().name("first").build())
+                .build();
+        final Site secondSite = Site.builder().page("secondPage").build();
+
+        // when
+        final Site firstResult = target.merge(firstSite, storedData, "id", Site.class);
+        final Site secondResult = target.merge(secondSite, storedData, "id", Site.class);
+
+        // then
+        assertThat(firstResult).isEqualTo(Site.builder().page("firstPage").domain("storedDomain")
+                .publisher(Publisher.builder().id("storedId").name("first").build()).build());
+        assertThat(secondResult).isEqualTo(Site.builder().page("secondPage").domain("storedDomain")
+                .publisher(Publisher.builder().id("storedId").build()).build());
+    }
+
+    @Test
+    public void mergeShouldFailWhenStoredDataCanNotBeParsed() {
+        // given
+        final Site site = Site.builder().build();
+
+        // when and then
+        assertThatThrownBy(() -> target.merge(site, "invalid", "id", Site.class))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("Can't parse Json for stored request with id id");
+    }
 }
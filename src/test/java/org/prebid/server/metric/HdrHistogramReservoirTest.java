@@ -0,0 +1,120 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.Snapshot;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+public class HdrHistogramReservoirTest {
+
+    private Clock clock;
+
+    private HdrHistogramReservoir reservoir;
+
+    @Before
+    public void setUp() {
+        clock = mock(Clock.class);
+        given(clock.millis()).willReturn(0L);
+
+        reservoir = new HdrHistogramReservoir(1000L, clock);
+    }
+
+    @Test
+    public void getSnapshotShouldReturnPercentilesOfRecordedValues() {
+        // given
+        LongStream.rangeClosed(1, 1000).forEach(reservoir::update);
+
+        // when
+        final Snapshot snapshot = reservoir.getSnapshot();
+
+        // then
+        assertThat(snapshot.size()).isEqualTo(1000);
+        assertThat(snapshot.getMin()).isEqualTo(1);
+        assertThat(snapshot.getMax()).isCloseTo(1000, within(10L));
+        assertThat(snapshot.getMean()).isCloseTo(500.5, within(5.0));
+        assertThat(snapshot.getMedian()).isCloseTo(500, within(5.0));
+        assertThat(snapshot.get99thPercentile()).isCloseTo(990, within(10.0));
+        assertThat(snapshot.get999thPercentile()).isCloseTo(999, within(10.0));
+    }
+
+    @Test
+    public void getSnapshotShouldNotDrainValuesReportedByPreviousSnapshot() {
+        // given
+        reservoir.update(100);
+        reservoir.getSnapshot();
+        reservoir.update(200);
+
+        // when
+        final Snapshot snapshot = reservoir.getSnapshot();
+
+        // then
+        assertThat(snapshot.size()).isEqualTo(2);
+        assertThat(snapshot.getValues()).containsOnly(100L, 200L);
+        assertThat(reservoir.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void getSnapshotShouldCoverValuesRecordedDuringPreviousAndCurrentWindows() {
+        // given
+        reservoir.update(100);
+        reservoir.getSnapshot();
+        given(clock.millis()).willReturn(1000L);
+        reservoir.update(200);
+        reservoir.getSnapshot();
+        given(clock.millis()).willReturn(2000L);
+        reservoir.update(300);
+
+        // when
+        final Snapshot snapshot = reservoir.getSnapshot();
+
+        // then
+        assertThat(snapshot.size()).isEqualTo(2);
+        assertThat(snapshot.getMin()).isEqualTo(200L);
+    }
+
+    @Test
+    public void getSnapshotShouldDropValuesOlderThanPreviousWindow() {
+        // given
+        reservoir.update(100);
+        reservoir.getSnapshot();
+        given(clock.millis()).willReturn(2000L);
+
+        // when
+        final Snapshot snapshot = reservoir.getSnapshot();
+
+        // then
+        assertThat(snapshot.size()).isZero();
+    }
+
+    @Test
+    public void updateShouldIgnoreNegativeValues() {
+        // when
+        reservoir.update(-1);
+
+        // then
+        assertThat(reservoir.size()).isZero();
+        assertThat(reservoir.getSnapshot().getMax()).isZero();
+    }
+
+    @Test
+    public void registryShouldCreateTimersBackedByHdrHistogram() {
+        // given
+        final HdrHistogramMetricRegistry registry = new HdrHistogramMetricRegistry(1000L, clock);
+        registry.timer("timer").update(5, TimeUnit.MILLISECONDS);
+
+        // when
+        final Snapshot snapshot = registry.timer("timer").getSnapshot();
+
+        // then
+        assertThat(snapshot.size()).isEqualTo(1);
+        assertThat(registry.timer("timer").getSnapshot().size()).isEqualTo(1);
+    }
+}
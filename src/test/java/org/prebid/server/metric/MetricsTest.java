@@ -724,6 +724,30 @@ public class MetricsTest {
         assertThat(metricRegistry.counter("privacy.tcf.invalid").getCount()).isOne();
     }
 
+    @Test
+    public void updatePrivacyTcfConsentCacheMetricShouldIncrementMetrics() {
+        // when
+        metrics.updatePrivacyTcfConsentCacheMetric(true);
+        metrics.updatePrivacyTcfConsentCacheMetric(false);
+        metrics.updatePrivacyTcfConsentCacheMetric(false);
+
+        // then
+        assertThat(metricRegistry.counter("privacy.tcf.consent-cache.hit").getCount()).isOne();
+        assertThat(metricRegistry.counter("privacy.tcf.consent-cache.miss").getCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void updateBidderParamsValidationCacheMetricShouldIncrementMetrics() {
+        // when
+        metrics.updateBidderParamsValidationCacheMetric(true);
+        metrics.updateBidderParamsValidationCacheMetric(false);
+        metrics.updateBidderParamsValidationCacheMetric(false);
+
+        // then
+        assertThat(metricRegistry.counter("bidder-params.validation-cache.hit").getCount()).isOne();
+        assertThat(metricRegistry.counter("bidder-params.validation-cache.miss").getCount()).isEqualTo(2);
+    }
+
     @Test
     public void updatePrivacyTcfRequestsMetricShouldIncrementMetric() {
         // when
@@ -914,6 +938,18 @@ public class MetricsTest {
         assertThat(metricRegistry.counter("geolocation_requests").getCount()).isEqualTo(3);
     }
 
+    @Test
+    public void updateGeoLocationCacheMetricShouldIncrementHitOrMissMetricDependingOnFlag() {
+        // when
+        metrics.updateGeoLocationCacheMetric(true);
+        metrics.updateGeoLocationCacheMetric(false);
+        metrics.updateGeoLocationCacheMetric(true);
+
+        // then
+        assertThat(metricRegistry.counter("geolocation_cache_hit").getCount()).isEqualTo(2);
+        assertThat(metricRegistry.counter("geolocation_cache_miss").getCount()).isOne();
+    }
+
     @Test
     public void shouldIncrementStoredRequestFoundMetric() {
         // when
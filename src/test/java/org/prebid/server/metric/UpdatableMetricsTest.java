@@ -14,6 +14,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 
 public class UpdatableMetricsTest {
@@ -187,6 +188,50 @@ public class UpdatableMetricsTest {
         assertThat(metricRegistry.getGauges()).doesNotContainKey("opened");
     }
 
+    @Test
+    public void incCounterShouldResolveCounterFromRegistryOnlyOnceOnSuccessiveCalls() {
+        // given
+        final MetricRegistry registry = spy(new MetricRegistry());
+        updatableMetrics = new UpdatableMetrics(registry, CounterType.counter, MetricName::toString);
+
+        // when
+        updatableMetrics.incCounter(MetricName.requests);
+        updatableMetrics.incCounter(MetricName.requests, 2);
+
+        // then
+        verify(registry).counter(eq("requests"));
+        assertThat(registry.counter("requests").getCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void updateTimerShouldResolveTimerFromRegistryOnlyOnceOnSuccessiveCalls() {
+        // given
+        final MetricRegistry registry = spy(new MetricRegistry());
+        updatableMetrics = new UpdatableMetrics(registry, CounterType.counter, MetricName::toString);
+
+        // when
+        updatableMetrics.updateTimer(MetricName.request_time, 100L);
+        updatableMetrics.updateTimer(MetricName.request_time, 200L);
+
+        // then
+        verify(registry).timer(eq("request_time"));
+        assertThat(registry.timer("request_time").getCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void incCounterShouldUseRecreatedMetricAfterRemoval() {
+        // given
+        updatableMetrics = new UpdatableMetrics(metricRegistry, CounterType.counter, MetricName::toString);
+        updatableMetrics.incCounter(MetricName.requests);
+
+        // when
+        updatableMetrics.removeMetric(MetricName.requests);
+        updatableMetrics.incCounter(MetricName.requests);
+
+        // then
+        assertThat(metricRegistry.counter("requests").getCount()).isEqualTo(1);
+    }
+
     private UpdatableMetrics givenUpdatableMetricsWith(CounterType counterType) {
         return new UpdatableMetrics(metricRegistry, counterType, MetricName::toString);
     }
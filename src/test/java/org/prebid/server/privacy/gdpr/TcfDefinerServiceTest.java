@@ -88,6 +88,7 @@ public class TcfDefinerServiceTest {
         tcfDefinerService = new TcfDefinerService(
                 gdprConfig,
                 singleton(EEA_COUNTRY),
+                100,
                 gdprService,
                 tcf2Service,
                 geoLocationService,
@@ -103,6 +104,7 @@ public class TcfDefinerServiceTest {
         tcfDefinerService = new TcfDefinerService(
                 gdprConfig,
                 singleton(EEA_COUNTRY),
+                100,
                 gdprService,
                 tcf2Service,
                 geoLocationService,
@@ -182,6 +184,7 @@ public class TcfDefinerServiceTest {
         tcfDefinerService = new TcfDefinerService(
                 gdprConfig,
                 singleton(EEA_COUNTRY),
+                100,
                 gdprService,
                 tcf2Service,
                 geoLocationService,
@@ -215,6 +218,7 @@ public class TcfDefinerServiceTest {
         tcfDefinerService = new TcfDefinerService(
                 gdprConfig,
                 singleton(EEA_COUNTRY),
+                100,
                 gdprService,
                 tcf2Service,
                 geoLocationService,
@@ -307,6 +311,7 @@ public class TcfDefinerServiceTest {
         tcfDefinerService = new TcfDefinerService(
                 gdprConfig,
                 singleton(EEA_COUNTRY),
+                100,
                 gdprService,
                 tcf2Service,
                 geoLocationService,
@@ -343,6 +348,7 @@ public class TcfDefinerServiceTest {
         tcfDefinerService = new TcfDefinerService(
                 gdprConfig,
                 singleton(EEA_COUNTRY),
+                100,
                 gdprService,
                 tcf2Service,
                 geoLocationService,
@@ -385,6 +391,31 @@ public class TcfDefinerServiceTest {
                 .containsExactly("1", "BOEFEAyOEFEAyAHABDENAI4AAAB9vABAASA", true);
     }
 
+    @Test
+    public void resolveTcfContextShouldReuseDecodedConsentString() {
+        // given
+        final String consentString = "COwayg7OwaybYN6AAAENAPCgAIAAAAAAAAAAASkAAAAAAAAAAA";
+        final TCString decodedConsent = TCString.decode(consentString);
+
+        // when
+        final Future<TcfContext> firstResult = tcfDefinerService.resolveTcfContext(
+                Privacy.of("1", consentString, null, null), null, null, MetricName.setuid, null, null);
+        final Future<TcfContext> secondResult = tcfDefinerService.resolveTcfContext(
+                Privacy.of("1", consentString, null, null), null, null, MetricName.setuid, null, null);
+
+        // then
+        final TCString consent = secondResult.result().getConsent();
+        assertThat(consent).isSameAs(firstResult.result().getConsent());
+        assertThat(consent.getVersion()).isEqualTo(decodedConsent.getVersion());
+        assertThat(consent.getCmpId()).isEqualTo(decodedConsent.getCmpId());
+        assertThat(consent.getPurposesConsent()).isEqualTo(decodedConsent.getPurposesConsent());
+        assertThat(consent.getVendorConsent()).isEqualTo(decodedConsent.getVendorConsent());
+        assertThat(consent.getPublisherRestrictions()).isEqualTo(decodedConsent.getPublisherRestrictions());
+
+        verify(metrics).updatePrivacyTcfConsentCacheMetric(false);
+        verify(metrics).updatePrivacyTcfConsentCacheMetric(true);
+    }
+
     @Test
     public void resolveTcfContextShouldReturnTcfContextWithConsentValidAsFalse() {
         // when
@@ -607,16 +638,16 @@ public class TcfDefinerServiceTest {
 
     @Test
     public void isConsentStringValidShouldReturnTrueWhenStringIsValid() {
-        assertThat(TcfDefinerService.isConsentStringValid("BOEFEAyOEFEAyAHABDENAI4AAAB9vABAASA")).isTrue();
+        assertThat(tcfDefinerService.isConsentStringValid("BOEFEAyOEFEAyAHABDENAI4AAAB9vABAASA")).isTrue();
     }
 
     @Test
     public void isConsentStringValidShouldReturnFalseWhenStringIsNull() {
-        assertThat(TcfDefinerService.isConsentStringValid(null)).isFalse();
+        assertThat(tcfDefinerService.isConsentStringValid(null)).isFalse();
     }
 
     @Test
     public void isConsentStringValidShouldReturnFalseWhenStringNotValid() {
-        assertThat(TcfDefinerService.isConsentStringValid("invalid")).isFalse();
+        assertThat(tcfDefinerService.isConsentStringValid("invalid")).isFalse();
     }
 }
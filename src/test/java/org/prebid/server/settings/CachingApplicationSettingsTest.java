@@ -1,9 +1,13 @@
 package org.prebid.server.settings;
 
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
@@ -20,7 +24,12 @@ import org.prebid.server.settings.model.StoredResponseDataResult;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.emptySet;
@@ -28,12 +37,14 @@ import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -47,14 +58,18 @@ public class CachingApplicationSettingsTest {
     private ApplicationSettings applicationSettings;
     @Mock
     private Metrics metrics;
+    @Mock
+    private Vertx vertx;
 
     private CachingApplicationSettings cachingApplicationSettings;
 
+    private TimeoutFactory timeoutFactory;
     private Timeout timeout;
 
     @Before
     public void setUp() {
-        timeout = new TimeoutFactory(Clock.fixed(Instant.now(), ZoneId.systemDefault())).create(500L);
+        timeoutFactory = new TimeoutFactory(Clock.fixed(Instant.now(), ZoneId.systemDefault()));
+        timeout = timeoutFactory.create(500L);
 
         cachingApplicationSettings = new CachingApplicationSettings(
                 applicationSettings,
@@ -62,15 +77,39 @@ public class CachingApplicationSettingsTest {
                 new SettingsCache(360, 100),
                 new SettingsCache(360, 100),
                 metrics,
+                vertx,
+                timeoutFactory,
                 360,
-                100);
+                100,
+                0,
+                1000L,
+                2000L);
+    }
+
+    @Test
+    public void creationShouldFailOnRefreshPeriodNotLessThanTtl() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new CachingApplicationSettings(
+                        applicationSettings,
+                        new SettingsCache(360, 100),
+                        new SettingsCache(360, 100),
+                        new SettingsCache(360, 100),
+                        metrics,
+                        vertx,
+                        timeoutFactory,
+                        360,
+                        100,
+                        400,
+                        1000L,
+                        2000L))
+                .withMessage("refresh period must be less than ttl");
     }
 
     @Test
     public void getAccountByIdShouldReturnResultFromCacheOnSuccessiveCalls() {
         // given
         final Account account = Account.builder().id("accountId").priceGranularity("med").build();
-        given(applicationSettings.getAccountById(eq("accountId"), same(timeout)))
+        given(applicationSettings.getAccountById(eq("accountId"), any()))
                 .willReturn(Future.succeededFuture(account));
 
         // when
@@ -80,7 +119,7 @@ public class CachingApplicationSettingsTest {
         // then
         assertThat(future.succeeded()).isTrue();
         assertThat(future.result()).isSameAs(account);
-        verify(applicationSettings).getAccountById(eq("accountId"), same(timeout));
+        verify(applicationSettings).getAccountById(eq("accountId"), any());
         verifyNoMoreInteractions(applicationSettings);
     }
 
@@ -146,7 +185,7 @@ public class CachingApplicationSettingsTest {
     public void getAccountByIdShouldUpdateMetrics() {
         // given
         final Account account = Account.builder().id("accountId").priceGranularity("med").build();
-        given(applicationSettings.getAccountById(eq("accountId"), same(timeout)))
+        given(applicationSettings.getAccountById(eq("accountId"), any()))
                 .willReturn(Future.succeededFuture(account));
 
         // when
@@ -158,10 +197,98 @@ public class CachingApplicationSettingsTest {
         verify(metrics).updateSettingsCacheEventMetric(eq(MetricName.account), eq(MetricName.hit));
     }
 
+    @Test
+    public void getAccountByIdShouldJoinFetchInFlightForSameAccount() {
+        // given
+        final Promise<Account> promise = Promise.promise();
+        given(applicationSettings.getAccountById(eq("accountId"), any())).willReturn(promise.future());
+
+        // when
+        final Future<Account> firstFuture = cachingApplicationSettings.getAccountById("accountId", timeout);
+        final Future<Account> secondFuture = cachingApplicationSettings.getAccountById("accountId", timeout);
+        final Account account = Account.builder().id("accountId").build();
+        promise.complete(account);
+
+        // then
+        assertThat(firstFuture.result()).isSameAs(account);
+        assertThat(secondFuture.result()).isSameAs(account);
+        verify(applicationSettings).getAccountById(eq("accountId"), any());
+        verify(metrics).updateSettingsCacheEventMetric(eq(MetricName.account), eq(MetricName.coalesced));
+    }
+
+    @Test
+    public void getAccountByIdShouldFetchWithFetchTimeoutInsteadOfCallerTimeout() {
+        // given
+        given(applicationSettings.getAccountById(anyString(), any()))
+                .willReturn(Future.succeededFuture(Account.builder().id("accountId").build()));
+
+        // when
+        cachingApplicationSettings.getAccountById("accountId", timeoutFactory.create(10L));
+
+        // then
+        final ArgumentCaptor<Timeout> timeoutCaptor = ArgumentCaptor.forClass(Timeout.class);
+        verify(applicationSettings).getAccountById(eq("accountId"), timeoutCaptor.capture());
+        assertThat(timeoutCaptor.getValue().remaining()).isEqualTo(1000L);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void getAccountByIdShouldFailJoinedCallerOnItsOwnTimeoutAndKeepFetchForOthers() {
+        // given
+        final Promise<Account> promise = Promise.promise();
+        given(applicationSettings.getAccountById(eq("accountId"), any())).willReturn(promise.future());
+        given(vertx.setTimer(anyLong(), any())).willReturn(1L, 2L);
+
+        // when
+        final Future<Account> firstFuture = cachingApplicationSettings.getAccountById("accountId", timeout);
+        final Future<Account> secondFuture =
+                cachingApplicationSettings.getAccountById("accountId", timeoutFactory.create(10L));
+
+        final ArgumentCaptor<Handler<Long>> timerHandlerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).setTimer(eq(10L), timerHandlerCaptor.capture());
+        timerHandlerCaptor.getValue().handle(2L);
+
+        final Account account = Account.builder().id("accountId").build();
+        promise.complete(account);
+
+        // then
+        assertThat(secondFuture.failed()).isTrue();
+        assertThat(secondFuture.cause()).isInstanceOf(TimeoutException.class);
+        assertThat(firstFuture.result()).isSameAs(account);
+        verify(applicationSettings).getAccountById(eq("accountId"), any());
+        verify(vertx).cancelTimer(1L);
+    }
+
+    @Test
+    public void getAccountByIdShouldFailWithoutFetchingIfCallerTimeoutExpired() {
+        // when
+        final Future<Account> future = cachingApplicationSettings.getAccountById("accountId", timeout.minus(500L));
+
+        // then
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause()).isInstanceOf(TimeoutException.class);
+        verifyNoMoreInteractions(applicationSettings);
+    }
+
+    @Test
+    public void getAccountByIdShouldFetchAgainWhenPreviousFetchIsCompleted() {
+        // given
+        given(applicationSettings.getAccountById(anyString(), any()))
+                .willReturn(Future.failedFuture(new InvalidRequestException("error")));
+
+        // when
+        cachingApplicationSettings.getAccountById("accountId", timeout);
+        cachingApplicationSettings.getAccountById("accountId", timeout);
+
+        // then
+        verify(applicationSettings, times(2)).getAccountById(anyString(), any());
+        verify(metrics, never()).updateSettingsCacheEventMetric(any(), eq(MetricName.coalesced));
+    }
+
     @Test
     public void getStoredDataShouldReturnResultOnSuccessiveCalls() {
         // given
-        given(applicationSettings.getStoredData(any(), eq(singleton("reqid")), eq(singleton("impid")), same(timeout)))
+        given(applicationSettings.getStoredData(any(), eq(singleton("reqid")), eq(singleton("impid")), any()))
                 .willReturn(Future.succeededFuture(StoredDataResult.of(
                         singletonMap("reqid", "json"), singletonMap("impid", "json2"), emptyList())));
 
@@ -176,7 +303,7 @@ public class CachingApplicationSettingsTest {
         assertThat(future.result()).isEqualTo(StoredDataResult.of(
                 singletonMap("reqid", "json"), singletonMap("impid", "json2"), emptyList()));
         verify(applicationSettings)
-                .getStoredData(eq("1001"), eq(singleton("reqid")), eq(singleton("impid")), same(timeout));
+                .getStoredData(eq("1001"), eq(singleton("reqid")), eq(singleton("impid")), any());
         verifyNoMoreInteractions(applicationSettings);
     }
 
@@ -232,10 +359,177 @@ public class CachingApplicationSettingsTest {
         assertThat(future.failed()).isTrue();
         assertThat(future.cause()).hasMessage("error");
         verify(applicationSettings)
-                .getStoredData(eq("1001"), eq(singleton("reqid")), eq(emptySet()), same(timeout));
+                .getStoredData(eq("1001"), eq(singleton("reqid")), eq(emptySet()), any());
         verify(applicationSettings)
-                .getStoredData(eq("1002"), eq(singleton("reqid")), eq(emptySet()), same(timeout));
+                .getStoredData(eq("1002"), eq(singleton("reqid")), eq(emptySet()), any());
+        verifyNoMoreInteractions(applicationSettings);
+    }
+
+    @Test
+    public void getStoredDataShouldJoinFetchInFlightForSameMissedIds() {
+        // given
+        final Promise<StoredDataResult> promise = Promise.promise();
+        given(applicationSettings.getStoredData(eq("1001"), any(), any(), any())).willReturn(promise.future());
+        given(applicationSettings.getStoredData(eq("1002"), any(), any(), any())).willReturn(Future.succeededFuture(
+                StoredDataResult.of(singletonMap("reqid", "json"), emptyMap(), emptyList())));
+
+        // when
+        final Future<StoredDataResult> firstFuture =
+                cachingApplicationSettings.getStoredData("1001", singleton("reqid"), emptySet(), timeout);
+        final Future<StoredDataResult> secondFuture =
+                cachingApplicationSettings.getStoredData("1001", singleton("reqid"), emptySet(), timeout);
+        final Future<StoredDataResult> otherAccountFuture =
+                cachingApplicationSettings.getStoredData("1002", singleton("reqid"), emptySet(), timeout);
+        promise.complete(StoredDataResult.of(singletonMap("reqid", "json"), emptyMap(), emptyList()));
+
+        // then
+        final StoredDataResult expectedResult =
+                StoredDataResult.of(singletonMap("reqid", "json"), emptyMap(), emptyList());
+        assertThat(firstFuture.result()).isEqualTo(expectedResult);
+        assertThat(secondFuture.result()).isEqualTo(expectedResult);
+        assertThat(otherAccountFuture.result()).isEqualTo(expectedResult);
+        verify(applicationSettings)
+                .getStoredData(eq("1001"), eq(singleton("reqid")), eq(emptySet()), any());
+        verify(applicationSettings)
+                .getStoredData(eq("1002"), eq(singleton("reqid")), eq(emptySet()), any());
+        verify(metrics).updateSettingsCacheEventMetric(eq(MetricName.stored_request), eq(MetricName.coalesced));
+    }
+
+    @Test
+    public void getAccountByIdShouldReturnStaleAccountAndRefreshItInBackground() {
+        // given
+        final AtomicLong time = new AtomicLong();
+        cachingApplicationSettings = refreshingCachingApplicationSettings(time);
+
+        final Account account = Account.builder().id("accountId").priceGranularity("med").build();
+        final Account refreshedAccount = Account.builder().id("accountId").priceGranularity("low").build();
+        given(applicationSettings.getAccountById(eq("accountId"), any()))
+                .willReturn(Future.succeededFuture(account))
+                .willReturn(Future.succeededFuture(refreshedAccount));
+
+        // when
+        cachingApplicationSettings.getAccountById("accountId", timeout);
+        time.addAndGet(TimeUnit.SECONDS.toNanos(20));
+        final Future<Account> staleFuture = cachingApplicationSettings.getAccountById("accountId", timeout);
+        final Future<Account> refreshedFuture = cachingApplicationSettings.getAccountById("accountId", timeout);
+
+        // then
+        assertThat(staleFuture.result()).isSameAs(account);
+        assertThat(refreshedFuture.result()).isSameAs(refreshedAccount);
+        verify(applicationSettings, times(2)).getAccountById(eq("accountId"), any());
+        verify(metrics).updateSettingsCacheEventMetric(eq(MetricName.account), eq(MetricName.stale));
+    }
+
+    @Test
+    public void getAccountByIdShouldRefreshStaleAccountWithRefreshTimeoutInsteadOfCallerTimeout() {
+        // given
+        final AtomicLong time = new AtomicLong();
+        cachingApplicationSettings = refreshingCachingApplicationSettings(time);
+
+        given(applicationSettings.getAccountById(eq("accountId"), any()))
+                .willReturn(Future.succeededFuture(Account.builder().id("accountId").build()));
+
+        // when
+        cachingApplicationSettings.getAccountById("accountId", timeout);
+        time.addAndGet(TimeUnit.SECONDS.toNanos(20));
+        cachingApplicationSettings.getAccountById("accountId", timeout.minus(500L));
+
+        // then
+        final ArgumentCaptor<Timeout> timeoutCaptor = ArgumentCaptor.forClass(Timeout.class);
+        verify(applicationSettings, times(2)).getAccountById(eq("accountId"), timeoutCaptor.capture());
+        assertThat(timeoutCaptor.getAllValues()).extracting(Timeout::remaining).containsExactly(1000L, 2000L);
+    }
+
+    @Test
+    public void getAccountByIdShouldNotRefreshAccountBeforeRefreshPeriod() {
+        // given
+        final AtomicLong time = new AtomicLong();
+        cachingApplicationSettings = refreshingCachingApplicationSettings(time);
+
+        given(applicationSettings.getAccountById(eq("accountId"), any()))
+                .willReturn(Future.succeededFuture(Account.builder().id("accountId").build()));
+
+        // when
+        cachingApplicationSettings.getAccountById("accountId", timeout);
+        time.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        cachingApplicationSettings.getAccountById("accountId", timeout);
+
+        // then
+        verify(applicationSettings).getAccountById(eq("accountId"), any());
+        verify(metrics, never()).updateSettingsCacheEventMetric(any(), eq(MetricName.stale));
+    }
+
+    @Test
+    public void getStoredDataShouldReturnStaleDataAndRefreshItInBackground() {
+        // given
+        final AtomicLong time = new AtomicLong();
+        cachingApplicationSettings = refreshingCachingApplicationSettings(time);
+
+        given(applicationSettings.getStoredData(any(), any(), any(), any()))
+                .willReturn(Future.succeededFuture(
+                        StoredDataResult.of(singletonMap("reqid", "json"), emptyMap(), emptyList())))
+                .willReturn(Future.succeededFuture(
+                        StoredDataResult.of(singletonMap("reqid", "refreshed"), emptyMap(), emptyList())));
+
+        // when
+        cachingApplicationSettings.getStoredData("1001", singleton("reqid"), emptySet(), timeout);
+        time.addAndGet(TimeUnit.SECONDS.toNanos(20));
+        final Future<StoredDataResult> staleFuture =
+                cachingApplicationSettings.getStoredData("1001", singleton("reqid"), emptySet(), timeout);
+        final Future<StoredDataResult> refreshedFuture =
+                cachingApplicationSettings.getStoredData("1001", singleton("reqid"), emptySet(), timeout);
+
+        // then
+        assertThat(staleFuture.result())
+                .isEqualTo(StoredDataResult.of(singletonMap("reqid", "json"), emptyMap(), emptyList()));
+        assertThat(refreshedFuture.result())
+                .isEqualTo(StoredDataResult.of(singletonMap("reqid", "refreshed"), emptyMap(), emptyList()));
+        verify(applicationSettings, times(2))
+                .getStoredData(eq("1001"), eq(singleton("reqid")), eq(emptySet()), any());
+        verify(metrics).updateSettingsCacheEventMetric(eq(MetricName.stored_request), eq(MetricName.stale));
+    }
+
+    @Test
+    public void getStoredResponsesShouldReturnResultFromCacheOnSuccessiveCalls() {
+        // given
+        given(applicationSettings.getStoredResponses(eq(singleton("respId")), any()))
+                .willReturn(Future.succeededFuture(
+                        StoredResponseDataResult.of(singletonMap("respId", "json"), emptyList())));
+
+        // when
+        cachingApplicationSettings.getStoredResponses(singleton("respId"), timeout);
+        final Future<StoredResponseDataResult> future =
+                cachingApplicationSettings.getStoredResponses(singleton("respId"), timeout);
+
+        // then
+        assertThat(future.succeeded()).isTrue();
+        assertThat(future.result())
+                .isEqualTo(StoredResponseDataResult.of(singletonMap("respId", "json"), emptyList()));
+        verify(applicationSettings).getStoredResponses(eq(singleton("respId")), any());
         verifyNoMoreInteractions(applicationSettings);
+        verify(metrics).updateSettingsCacheEventMetric(eq(MetricName.stored_response), eq(MetricName.miss));
+        verify(metrics).updateSettingsCacheEventMetric(eq(MetricName.stored_response), eq(MetricName.hit));
+    }
+
+    @Test
+    public void getStoredResponsesShouldDelegateOnlyMissedIdsAndCombineResults() {
+        // given
+        given(applicationSettings.getStoredResponses(any(), any()))
+                .willReturn(Future.succeededFuture(
+                        StoredResponseDataResult.of(singletonMap("respId1", "json1"), emptyList())))
+                .willReturn(Future.succeededFuture(
+                        StoredResponseDataResult.of(emptyMap(), singletonList("No stored response for respId2"))));
+
+        // when
+        cachingApplicationSettings.getStoredResponses(singleton("respId1"), timeout);
+        final Future<StoredResponseDataResult> future = cachingApplicationSettings
+                .getStoredResponses(new HashSet<>(asList("respId1", "respId2")), timeout);
+
+        // then
+        assertThat(future.result()).isEqualTo(StoredResponseDataResult.of(
+                singletonMap("respId1", "json1"), singletonList("No stored response for respId2")));
+        verify(applicationSettings).getStoredResponses(eq(singleton("respId1")), any());
+        verify(applicationSettings).getStoredResponses(eq(singleton("respId2")), any());
     }
 
     @Test
@@ -254,4 +548,21 @@ public class CachingApplicationSettingsTest {
                 .isInstanceOf(InvalidRequestException.class)
                 .hasMessage("error");
     }
+
+    private CachingApplicationSettings refreshingCachingApplicationSettings(AtomicLong time) {
+        return new CachingApplicationSettings(
+                applicationSettings,
+                new SettingsCache(360, 100, 10, time::get),
+                new SettingsCache(360, 100, 10, time::get),
+                new SettingsCache(360, 100, 10, time::get),
+                metrics,
+                vertx,
+                timeoutFactory,
+                360,
+                100,
+                10,
+                1000L,
+                2000L,
+                time::get);
+    }
 }
@@ -4,10 +4,16 @@ import org.junit.Before;
 import org.junit.Test;
 import org.prebid.server.settings.model.StoredItem;
 
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Arrays.asList;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
 public class SettingsCacheTest {
 
@@ -18,6 +24,13 @@ public class SettingsCacheTest {
         settingsCache = new SettingsCache(10, 10);
     }
 
+    @Test
+    public void creationShouldFailOnRefreshPeriodNotLessThanTtl() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new SettingsCache(10, 10, 10))
+                .withMessage("refresh period must be less than ttl");
+    }
+
     @Test
     public void getRequestCacheShouldReturnEmptyMap() {
         assertThat(settingsCache.getRequestCache()).isEmpty();
@@ -38,6 +51,36 @@ public class SettingsCacheTest {
                 .containsEntry("reqId1", singleton(StoredItem.of("1001", "reqValue1")));
     }
 
+    @Test
+    public void saveRequestCacheShouldReplaceRequestOfTheSameAccountOnly() {
+        // given
+        settingsCache.saveRequestCache("1001", "reqId1", "reqValue1");
+        settingsCache.saveRequestCache("1002", "reqId1", "reqValue2");
+
+        // when
+        settingsCache.saveRequestCache("1001", "reqId1", "reqValue3");
+
+        // then
+        assertThat(settingsCache.getRequestCache()).hasSize(1)
+                .containsEntry("reqId1", new HashSet<>(asList(
+                        StoredItem.of("1001", "reqValue3"), StoredItem.of("1002", "reqValue2"))));
+    }
+
+    @Test
+    public void isRequestRefreshRequiredShouldReturnTrueOnlyForRequestsOlderThanRefreshPeriod() {
+        // given
+        final AtomicLong time = new AtomicLong();
+        settingsCache = new SettingsCache(10, 10, 5, time::get);
+        settingsCache.saveRequestCache("1001", "reqId1", "reqValue1");
+        time.addAndGet(TimeUnit.SECONDS.toNanos(6));
+        settingsCache.saveRequestCache("1001", "reqId2", "reqValue2");
+
+        // when and then
+        assertThat(settingsCache.isRequestRefreshRequired("reqId1")).isTrue();
+        assertThat(settingsCache.isRequestRefreshRequired("reqId2")).isFalse();
+        assertThat(settingsCache.isRequestRefreshRequired("reqId3")).isFalse();
+    }
+
     @Test
     public void saveImpCacheShouldAddNewImpsToCache() {
         // when
@@ -75,4 +118,70 @@ public class SettingsCacheTest {
         assertThat(settingsCache.getImpCache()).hasSize(1)
                 .containsEntry("impId2", singleton(StoredItem.of(null, "impValue2")));
     }
+
+    @Test
+    public void invalidateShouldRemoveRequestsOnlyWhenImpsAreMissing() {
+        // given
+        settingsCache.save(singletonMap("reqId1", "reqValue1"), singletonMap("impId1", "impValue1"));
+
+        // when
+        settingsCache.invalidate(singletonList("reqId1"), null);
+
+        // then
+        assertThat(settingsCache.getRequestCache()).isEmpty();
+        assertThat(settingsCache.getImpCache()).hasSize(1)
+                .containsEntry("impId1", singleton(StoredItem.of(null, "impValue1")));
+    }
+
+    @Test
+    public void invalidateShouldTolerateMissingRequestsAndImps() {
+        // given
+        settingsCache.save(singletonMap("reqId1", "reqValue1"), singletonMap("impId1", "impValue1"));
+
+        // when
+        settingsCache.invalidate(null, null);
+
+        // then
+        assertThat(settingsCache.getRequestCache()).hasSize(1);
+        assertThat(settingsCache.getImpCache()).hasSize(1);
+    }
+
+    @Test
+    public void saveResponsesShouldAddNewResponsesToCache() {
+        // when
+        settingsCache.saveResponses(singletonMap("respId1", "respValue1"));
+
+        // then
+        assertThat(settingsCache.getResponseCache()).hasSize(1)
+                .containsEntry("respId1", "respValue1");
+    }
+
+    @Test
+    public void invalidateResponsesShouldRemoveResponsesFromCache() {
+        // given
+        settingsCache.saveResponses(singletonMap("respId1", "respValue1"));
+        settingsCache.saveResponseCache("respId2", "respValue2");
+
+        // when
+        settingsCache.invalidateResponses(singletonList("respId1"));
+
+        // then
+        assertThat(settingsCache.getResponseCache()).hasSize(1)
+                .containsEntry("respId2", "respValue2");
+    }
+
+    @Test
+    public void invalidateShouldNotPreventResponsesOnlyInvalidation() {
+        // given
+        settingsCache.save(singletonMap("reqId1", "reqValue1"), null);
+        settingsCache.saveResponses(singletonMap("respId1", "respValue1"));
+
+        // when
+        settingsCache.invalidate(null, null);
+        settingsCache.invalidateResponses(singletonList("respId1"));
+
+        // then
+        assertThat(settingsCache.getRequestCache()).hasSize(1);
+        assertThat(settingsCache.getResponseCache()).isEmpty();
+    }
 }
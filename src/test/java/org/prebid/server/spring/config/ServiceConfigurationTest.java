@@ -0,0 +1,52 @@
+package org.prebid.server.spring.config;
+
+import org.junit.Test;
+import org.prebid.server.spring.config.model.HttpClientDestinationProperties;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class ServiceConfigurationTest {
+
+    @Test
+    public void originToDestinationShouldReturnDestinationsByNormalizedOrigin() {
+        // given
+        final HttpClientDestinationProperties first = givenDestination("HTTPS://Bidder.com:443/openrtb2");
+        final HttpClientDestinationProperties second = givenDestination("http://other-bidder.com:8080/auction");
+
+        // when and then
+        assertThat(ServiceConfiguration.originToDestination(asList(first, second)))
+                .containsOnlyKeys("https://bidder.com", "http://other-bidder.com:8080")
+                .containsEntry("https://bidder.com", first)
+                .containsEntry("http://other-bidder.com:8080", second);
+    }
+
+    @Test
+    public void originToDestinationShouldFailOnDestinationsWithSameOrigin() {
+        // given
+        final HttpClientDestinationProperties first = givenDestination("http://bidder.com/openrtb2");
+        final HttpClientDestinationProperties second = givenDestination("http://BIDDER.com:80/auction");
+
+        // when and then
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> ServiceConfiguration.originToDestination(asList(first, second)))
+                .withMessage("Http client destinations http://bidder.com/openrtb2 and http://BIDDER.com:80/auction "
+                        + "have the same origin http://bidder.com");
+    }
+
+    @Test
+    public void originToDestinationShouldFailOnInvalidDestinationUrl() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> ServiceConfiguration.originToDestination(
+                        singletonList(givenDestination("bidder.com/openrtb2"))))
+                .withMessage("Invalid http client destination url: bidder.com/openrtb2");
+    }
+
+    private static HttpClientDestinationProperties givenDestination(String url) {
+        final HttpClientDestinationProperties destination = new HttpClientDestinationProperties();
+        destination.setUrl(url);
+        return destination;
+    }
+}
@@ -0,0 +1,132 @@
+package org.prebid.server.validation;
+
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.networknt.schema.JsonSchema;
+import com.networknt.schema.JsonSchemaFactory;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.json.ObjectMapperProvider;
+import org.prebid.server.metric.AccountMetricsVerbosity;
+import org.prebid.server.metric.CounterType;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.metric.model.AccountMetricsVerbosityLevel;
+import org.prebid.server.proto.response.BidderInfo;
+import org.prebid.server.util.ResourceUtil;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures validation of bidder params of request with 10 imps and 15 bidders per imp: with validation results
+ * cached by {@link BidderParamValidator} and with every params validated against JSON schema.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class BidderParamValidatorBenchmark {
+
+    private static final int IMPS = 10;
+    private static final Map<String, String> BIDDER_TO_PARAMS = new LinkedHashMap<>();
+
+    static {
+        BIDDER_TO_PARAMS.put("appnexus", "{\"placementId\":%d}");
+        BIDDER_TO_PARAMS.put("rubicon", "{\"accountId\":1001,\"siteId\":113932,\"zoneId\":%d}");
+        BIDDER_TO_PARAMS.put("openx", "{\"unit\":\"53947%d\",\"delDomain\":\"se-demo-d.openx.net\"}");
+        BIDDER_TO_PARAMS.put("sovrn", "{\"tagid\":\"31590%d\",\"bidfloor\":0.01}");
+        BIDDER_TO_PARAMS.put("adform", "{\"mid\":%d,\"priceType\":\"gross\"}");
+        BIDDER_TO_PARAMS.put("pubmatic", "{\"publisherId\":\"156209\",\"adSlot\":\"slot%d@300x250\"}");
+        BIDDER_TO_PARAMS.put("ix", "{\"siteId\":\"5612%d\",\"size\":[300,250]}");
+        BIDDER_TO_PARAMS.put("triplelift", "{\"inventoryCode\":\"inventory_%d\",\"floor\":0.5}");
+        BIDDER_TO_PARAMS.put("sharethrough", "{\"pkey\":\"pkey%d\",\"iframe\":false}");
+        BIDDER_TO_PARAMS.put("smartadserver",
+                "{\"networkId\":73,\"siteId\":1,\"pageId\":2,\"formatId\":%d}");
+        BIDDER_TO_PARAMS.put("improvedigital", "{\"placementId\":%d}");
+        BIDDER_TO_PARAMS.put("gumgum", "{\"zone\":\"dc9d6be1%d\"}");
+        BIDDER_TO_PARAMS.put("conversant", "{\"site_id\":\"108060\",\"tag_id\":\"tag%d\",\"bidfloor\":0.01}");
+        BIDDER_TO_PARAMS.put("yieldmo", "{\"placementId\":\"placement%d\"}");
+        BIDDER_TO_PARAMS.put("sonobi", "{\"TagID\":\"tag%d\"}");
+    }
+
+    private BidderParamValidator bidderParamValidator;
+    private Map<String, JsonSchema> bidderSchemas;
+    private List<Map<String, JsonNode>> impsBidderParams;
+
+    @Setup
+    public void setUp() throws IOException {
+        final JacksonMapper mapper = new JacksonMapper(ObjectMapperProvider.mapper());
+
+        final BidderCatalog bidderCatalog = Mockito.mock(BidderCatalog.class, Mockito.withSettings().stubOnly());
+        BDDMockito.given(bidderCatalog.names()).willReturn(BIDDER_TO_PARAMS.keySet());
+        BDDMockito.given(bidderCatalog.bidderInfoByName(ArgumentMatchers.anyString()))
+                .willReturn(BidderInfo.create(true, null, null, null, null, null, 0, true, true, false));
+
+        final AccountMetricsVerbosity accountMetricsVerbosity = new AccountMetricsVerbosity(
+                AccountMetricsVerbosityLevel.none, Collections.emptyList(), Collections.emptyList());
+        final Metrics metrics = new Metrics(new MetricRegistry(), CounterType.counter, accountMetricsVerbosity);
+        bidderParamValidator = BidderParamValidator.create(
+                bidderCatalog, "static/bidder-params", 10000000, 2048, mapper, metrics);
+
+        final JsonSchemaFactory schemaFactory = new JsonSchemaFactory();
+        bidderSchemas = new HashMap<>();
+        for (String bidder : BIDDER_TO_PARAMS.keySet()) {
+            bidderSchemas.put(bidder, schemaFactory.getSchema(mapper.mapper().readTree(
+                    ResourceUtil.readFromClasspath(String.format("static/bidder-params/%s.json", bidder)))));
+        }
+
+        impsBidderParams = new ArrayList<>();
+        for (int imp = 0; imp < IMPS; imp++) {
+            final Map<String, JsonNode> bidderParams = new LinkedHashMap<>();
+            for (Map.Entry<String, String> bidderToParams : BIDDER_TO_PARAMS.entrySet()) {
+                final String bidder = bidderToParams.getKey();
+                final JsonNode params = mapper.mapper().readTree(String.format(bidderToParams.getValue(), imp + 1));
+                if (!bidderSchemas.get(bidder).validate(params).isEmpty()) {
+                    throw new IllegalStateException(String.format("Invalid %s params: %s", bidder, params));
+                }
+                bidderParams.put(bidder, params);
+            }
+            impsBidderParams.add(bidderParams);
+        }
+    }
+
+    @Benchmark
+    public void validateCached(Blackhole blackhole) {
+        for (Map<String, JsonNode> bidderParams : impsBidderParams) {
+            for (Map.Entry<String, JsonNode> bidderToParams : bidderParams.entrySet()) {
+                blackhole.consume(bidderParamValidator.validate(bidderToParams.getKey(), bidderToParams.getValue()));
+            }
+        }
+    }
+
+    @Benchmark
+    public void validateUncached(Blackhole blackhole) {
+        for (Map<String, JsonNode> bidderParams : impsBidderParams) {
+            for (Map.Entry<String, JsonNode> bidderToParams : bidderParams.entrySet()) {
+                blackhole.consume(bidderSchemas.get(bidderToParams.getKey()).validate(bidderToParams.getValue()));
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package org.prebid.server.validation;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -9,6 +10,7 @@ import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import org.prebid.server.VertxTest;
 import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.proto.openrtb.ext.request.adform.ExtImpAdform;
 import org.prebid.server.proto.openrtb.ext.request.adtelligent.ExtImpAdtelligent;
 import org.prebid.server.proto.openrtb.ext.request.appnexus.ExtImpAppnexus;
@@ -35,6 +37,8 @@ import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 public class BidderParamValidatorTest extends VertxTest {
 
@@ -56,6 +60,8 @@ public class BidderParamValidatorTest extends VertxTest {
 
     @Mock
     private BidderCatalog bidderCatalog;
+    @Mock
+    private Metrics metrics;
 
     private BidderParamValidator bidderParamValidator;
 
@@ -77,27 +83,38 @@ public class BidderParamValidatorTest extends VertxTest {
         given(bidderCatalog.bidderInfoByName(anyString())).willReturn(givenBidderInfo());
         given(bidderCatalog.bidderInfoByName(eq(APPNEXUS_ALIAS))).willReturn(givenBidderInfo(APPNEXUS));
 
-        bidderParamValidator = BidderParamValidator.create(bidderCatalog, "static/bidder-params", jacksonMapper);
+        bidderParamValidator = BidderParamValidator.create(
+                bidderCatalog, "static/bidder-params", 10000, 1000, jacksonMapper, metrics);
     }
 
     @Test
     public void createShouldFailOnInvalidSchemaPath() {
         assertThatIllegalArgumentException().isThrownBy(
-                () -> BidderParamValidator.create(bidderCatalog, "noschema", jacksonMapper));
+                () -> BidderParamValidator.create(bidderCatalog, "noschema", 10000, 1000, jacksonMapper, metrics));
     }
 
     @Test
     public void createShouldFailOnEmptySchemaFile() {
         assertThatIllegalArgumentException().isThrownBy(
                 () -> BidderParamValidator.create(
-                        bidderCatalog, "org/prebid/server/validation/schema/empty", jacksonMapper));
+                        bidderCatalog,
+                        "org/prebid/server/validation/schema/empty",
+                        10000,
+                        1000,
+                        jacksonMapper,
+                        metrics));
     }
 
     @Test
     public void createShouldFailOnInvalidSchemaFile() {
         assertThatIllegalArgumentException().isThrownBy(
                 () -> BidderParamValidator.create(
-                        bidderCatalog, "org/prebid/server/validation/schema/invalid", jacksonMapper));
+                        bidderCatalog,
+                        "org/prebid/server/validation/schema/invalid",
+                        10000,
+                        1000,
+                        jacksonMapper,
+                        metrics));
     }
 
     @Test
@@ -113,6 +130,55 @@ public class BidderParamValidatorTest extends VertxTest {
         assertThat(messages).isEmpty();
     }
 
+    @Test
+    public void validateShouldReturnCachedValidationMessagesForStructurallyEqualParams() {
+        // given
+        final ExtImpRubicon ext = ExtImpRubicon.builder().siteId(2).zoneId(3).build();
+        final JsonNode node = mapper.convertValue(ext, JsonNode.class);
+        final Set<String> messages = bidderParamValidator.validate(RUBICON, node);
+
+        // when
+        final Set<String> cachedMessages = bidderParamValidator.validate(RUBICON,
+                mapper.convertValue(ext, JsonNode.class));
+
+        // then
+        assertThat(cachedMessages).isNotEmpty().isSameAs(messages);
+        verify(metrics).updateBidderParamsValidationCacheMetric(false);
+        verify(metrics).updateBidderParamsValidationCacheMetric(true);
+    }
+
+    @Test
+    public void validateShouldNotCacheValidationMessagesForParamsLargerThanLimit() {
+        // given
+        bidderParamValidator = BidderParamValidator.create(
+                bidderCatalog, "static/bidder-params", 10000, 10, jacksonMapper, metrics);
+
+        final ExtImpRubicon ext = ExtImpRubicon.builder().siteId(2).zoneId(3).build();
+        final Set<String> messages = bidderParamValidator.validate(RUBICON, mapper.convertValue(ext, JsonNode.class));
+
+        // when
+        final Set<String> result = bidderParamValidator.validate(RUBICON, mapper.convertValue(ext, JsonNode.class));
+
+        // then
+        assertThat(result).isNotEmpty().isEqualTo(messages).isNotSameAs(messages);
+        verify(metrics, times(2)).updateBidderParamsValidationCacheMetric(false);
+    }
+
+    @Test
+    public void validateShouldNotBeAffectedByParamsModifiedAfterValidation() {
+        // given
+        final ExtImpRubicon ext = ExtImpRubicon.builder().accountId(1).siteId(2).zoneId(3).build();
+        final ObjectNode node = mapper.convertValue(ext, ObjectNode.class);
+        bidderParamValidator.validate(RUBICON, node);
+        node.remove("accountId");
+
+        // when
+        final Set<String> messages = bidderParamValidator.validate(RUBICON, node);
+
+        // then
+        assertThat(messages).isNotEmpty();
+    }
+
     @Test
     public void validateShouldReturnValidationMessagesWhenRubiconImpExtNotValid() {
         // given
@@ -429,7 +495,7 @@ public class BidderParamValidatorTest extends VertxTest {
         given(bidderCatalog.names()).willReturn(new HashSet<>(asList("test-rubicon", "test-appnexus")));
 
         bidderParamValidator = BidderParamValidator.create(
-                bidderCatalog, "org/prebid/server/validation/schema/valid", jacksonMapper);
+                bidderCatalog, "org/prebid/server/validation/schema/valid", 10000, 1000, jacksonMapper, metrics);
 
         // when
         final String result = bidderParamValidator.schemas();
@@ -98,7 +98,7 @@ public class RequestValidatorTest extends VertxTest {
         given(bidderParamValidator.validate(any(), any())).willReturn(Collections.emptySet());
         given(bidderCatalog.isValidName(eq(RUBICON))).willReturn(true);
 
-        requestValidator = new RequestValidator(bidderCatalog, bidderParamValidator, jacksonMapper);
+        requestValidator = new RequestValidator(bidderCatalog, bidderParamValidator, 1000000, 16384, jacksonMapper);
     }
 
     @Test
@@ -2101,6 +2101,70 @@ public class RequestValidatorTest extends VertxTest {
                 .containsOnly("Error while parsing request.imp[0].native.request");
     }
 
+    @Test
+    public void validateShouldReuseUpdatedNativeRequestForSameRawNativeRequest() throws JsonProcessingException {
+        // given
+        final BidRequest bidRequest = givenBidRequestWithNativeRequest(nativeReqCustomizer ->
+                nativeReqCustomizer.assets(singletonList(Asset.builder().build())));
+        final BidRequest otherBidRequest = givenBidRequestWithNativeRequest(nativeReqCustomizer ->
+                nativeReqCustomizer.assets(singletonList(Asset.builder().build())));
+
+        // when
+        final ValidationResult result = requestValidator.validate(bidRequest);
+        final ValidationResult otherResult = requestValidator.validate(otherBidRequest);
+
+        // then
+        assertThat(result.getErrors()).isEmpty();
+        assertThat(otherResult.getErrors()).isEmpty();
+        final String nativeRequest = bidRequest.getImp().get(0).getXNative().getRequest();
+        assertThat(mapper.readValue(nativeRequest, Request.class).getAssets())
+                .extracting(Asset::getId)
+                .containsOnly(0);
+        assertThat(otherBidRequest.getImp().get(0).getXNative().getRequest()).isSameAs(nativeRequest);
+    }
+
+    @Test
+    public void validateShouldNotReuseUpdatedNativeRequestIfRawNativeRequestIsTooLong()
+            throws JsonProcessingException {
+        // given
+        requestValidator = new RequestValidator(bidderCatalog, bidderParamValidator, 1000000, 1, jacksonMapper);
+
+        final BidRequest bidRequest = givenBidRequestWithNativeRequest(nativeReqCustomizer ->
+                nativeReqCustomizer.assets(singletonList(Asset.builder().build())));
+        final BidRequest otherBidRequest = givenBidRequestWithNativeRequest(nativeReqCustomizer ->
+                nativeReqCustomizer.assets(singletonList(Asset.builder().build())));
+
+        // when
+        requestValidator.validate(bidRequest);
+        requestValidator.validate(otherBidRequest);
+
+        // then
+        assertThat(otherBidRequest.getImp().get(0).getXNative().getRequest())
+                .isEqualTo(bidRequest.getImp().get(0).getXNative().getRequest())
+                .isNotSameAs(bidRequest.getImp().get(0).getXNative().getRequest());
+    }
+
+    @Test
+    public void validateShouldReturnNativeRequestErrorForImpIndexOfInvalidNativeRequest() {
+        // given
+        requestValidator.validate(givenBidRequest(nativeCustomizer -> nativeCustomizer.request("broken-request")));
+
+        final BidRequest bidRequest = validBidRequestBuilder()
+                .imp(asList(
+                        validImpBuilder().build(),
+                        validImpBuilder().id("201")
+                                .xNative(Native.builder().request("broken-request").build())
+                                .build()))
+                .build();
+
+        // when
+        final ValidationResult result = requestValidator.validate(bidRequest);
+
+        // then
+        assertThat(result.getErrors()).hasSize(1)
+                .containsOnly("Error while parsing request.imp[1].native.request");
+    }
+
     @Test
     public void validateShouldReturnValidationResultWithErrorWhenContextTypeOutOfPossibleValuesRange()
             throws JsonProcessingException {
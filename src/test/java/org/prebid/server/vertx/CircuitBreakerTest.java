@@ -20,6 +20,12 @@ import java.time.Instant;
 import java.time.ZoneId;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 @RunWith(VertxUnitRunner.class)
 public class CircuitBreakerTest {
@@ -136,6 +142,115 @@ public class CircuitBreakerTest {
         assertThat(future2.cause()).isInstanceOf(RuntimeException.class).hasMessage("exception2");
     }
 
+    @Test
+    public void executeShouldNotOpenCircuitIfFailuresAreSpreadWiderThanOpeningInterval(TestContext context) {
+        // given
+        final Clock clock = mock(Clock.class);
+        given(clock.millis()).willReturn(0L, 150L, 300L);
+        circuitBreaker = new CircuitBreaker("name", vertx, 2, 100L, 200L, clock);
+
+        // when
+        executeWithFail(context, "exception1");
+        executeWithFail(context, "exception2");
+        final Future<?> future = executeWithFail(context, "exception3");
+
+        // then
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause()).isInstanceOf(RuntimeException.class).hasMessage("exception3");
+        assertThat(circuitBreaker.isOpen()).isFalse();
+    }
+
+    @Test
+    public void executeShouldNotOpenCircuitIfFailuresAreInterleavedWithSuccesses(TestContext context) {
+        // given
+        circuitBreaker = new CircuitBreaker("name", vertx, 2, 100L, 200L, clock);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            executeWithFail(context, "exception");
+            executeWithSuccess(context, "value");
+        }
+        final Future<?> future = executeWithFail(context, "exception");
+
+        // then
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause()).isInstanceOf(RuntimeException.class).hasMessage("exception");
+        assertThat(circuitBreaker.isOpen()).isFalse();
+    }
+
+    @Test
+    public void executeShouldOpenCircuitOnConsecutiveFailuresAfterSuccess(TestContext context) {
+        // given
+        circuitBreaker = new CircuitBreaker("name", vertx, 2, 100L, 200L, clock);
+        executeWithFail(context, "exception1");
+        executeWithSuccess(context, "value");
+
+        // when
+        executeWithFail(context, "exception2");
+        executeWithFail(context, "exception3");
+        final Future<?> future = executeWithSuccess(context, "value");
+
+        // then
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause()).isInstanceOf(RuntimeException.class).hasMessage("open circuit");
+    }
+
+    @Test
+    public void executeShouldLetThroughSingleOperationIfCircuitIsHalfOpened(TestContext context) {
+        // given
+        executeWithFail(context, "exception1");
+        waitForClosingInterval(context);
+
+        // when
+        final Future<String> future1 = circuitBreaker.execute(operationPromise -> {
+        });
+        final Future<?> future2 = executeWithSuccess(context, "value");
+
+        // then
+        assertThat(future1.isComplete()).isFalse();
+
+        assertThat(future2.failed()).isTrue();
+        assertThat(future2.cause()).isInstanceOf(RuntimeException.class).hasMessage("open circuit");
+    }
+
+    @Test
+    public void executeShouldLetThroughNextOperationIfTrialOperationIsNotCompletedWithinClosingInterval(
+            TestContext context) {
+        // given
+        executeWithFail(context, "exception1");
+        waitForClosingInterval(context);
+        final Future<String> future1 = circuitBreaker.execute(operationPromise -> {
+        });
+
+        // when
+        waitForClosingInterval(context);
+        final Future<?> future2 = executeWithSuccess(context, "value");
+
+        // then
+        assertThat(future1.isComplete()).isFalse();
+
+        assertThat(future2.succeeded()).isTrue();
+        assertThat(future2.result()).isEqualTo("value");
+        assertThat(circuitBreaker.isOpen()).isFalse();
+    }
+
+    @Test
+    public void executeShouldNotUseWorkerPoolOnFailuresStorm() {
+        // given
+        final Vertx vertx = mock(Vertx.class);
+        circuitBreaker = new CircuitBreaker("name", vertx, 10, 100L, 200L, clock);
+
+        // when
+        for (int i = 0; i < 100_000; i++) {
+            circuitBreaker.execute(operationPromise -> operationPromise.fail(new RuntimeException("exception")));
+        }
+
+        // then
+        assertThat(circuitBreaker.isOpen()).isTrue();
+        verify(vertx).setTimer(eq(200L), any());
+        verifyNoMoreInteractions(vertx);
+    }
+
     private Future<String> executeWithSuccess(TestContext context, String result) {
         return execute(context, operationPromise -> operationPromise.complete(result));
     }
@@ -30,6 +30,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
+import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
@@ -70,6 +71,24 @@ public class BasicHttpClientTest {
         httpClient = new BasicHttpClient(vertx, wrappedHttpClient);
     }
 
+    @Test
+    public void requestShouldUseDestinationHttpClientIfConfiguredForRequestUrlOrigin() {
+        // given
+        final io.vertx.core.http.HttpClient destinationHttpClient = mock(io.vertx.core.http.HttpClient.class);
+        given(destinationHttpClient.requestAbs(any(), any())).willReturn(httpClientRequest);
+
+        httpClient = new BasicHttpClient(vertx, wrappedHttpClient,
+                singletonMap("https://bidder.com:8443", destinationHttpClient));
+
+        // when
+        httpClient.request(HttpMethod.POST, "https://bidder.com:8443/auction?id=1", null, "body", 500L);
+        httpClient.request(HttpMethod.POST, "https://bidder.com/auction", null, "body", 500L);
+
+        // then
+        verify(destinationHttpClient).requestAbs(eq(HttpMethod.POST), eq("https://bidder.com:8443/auction?id=1"));
+        verify(wrappedHttpClient).requestAbs(eq(HttpMethod.POST), eq("https://bidder.com/auction"));
+    }
+
     @Test
     public void requestShouldPerformHttpRequestWithExpectedParams() {
         // given
@@ -82,7 +101,16 @@ public class BasicHttpClientTest {
         // then
         verify(wrappedHttpClient).requestAbs(eq(HttpMethod.POST), eq("url"));
         verify(httpClientRequest.headers()).addAll(eq(headers));
-        verify(httpClientRequest).end(eq("body"));
+        verify(httpClientRequest).end(eq(Buffer.buffer("body")));
+    }
+
+    @Test
+    public void requestShouldPerformHttpRequestWithBodyBytes() {
+        // when
+        httpClient.requestBytes(HttpMethod.POST, "url", null, "body".getBytes(), 500L);
+
+        // then
+        verify(httpClientRequest).end(eq(Buffer.buffer("body")));
     }
 
     @Test
@@ -101,6 +129,25 @@ public class BasicHttpClientTest {
         assertThat(future.succeeded()).isTrue();
     }
 
+    @Test
+    public void requestShouldReturnResponseWithRawBodyBuffer() {
+        // given
+        given(httpClientRequest.handler(any()))
+                .willAnswer(withSelfAndPassObjectToHandler(httpClientResponse));
+
+        final Buffer responseBody = Buffer.buffer("response");
+        given(httpClientResponse.bodyHandler(any()))
+                .willAnswer(withSelfAndPassObjectToHandler(responseBody));
+
+        // when
+        final org.prebid.server.vertx.http.model.HttpClientResponse response =
+                httpClient.request(HttpMethod.GET, null, null, null, 1L).result();
+
+        // then
+        assertThat(response.getBodyBuffer()).isSameAs(responseBody);
+        assertThat(response.getBody()).isEqualTo("response");
+    }
+
     @Test
     public void requestShouldAllowFollowingRedirections() {
         // when
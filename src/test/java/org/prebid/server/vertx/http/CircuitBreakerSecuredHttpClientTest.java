@@ -206,6 +206,22 @@ public class CircuitBreakerSecuredHttpClientTest {
         assertThat(gaugeValueProvider.getAsLong()).isEqualTo(1);
     }
 
+    @Test
+    public void circuitBreakerNumberGaugeShouldReportOneCircuitBreakerForUrlsWithSameSchemeAndAuthority(
+            TestContext context) {
+        // when
+        doRequest("http://www.some-host-1.com:80/path", context);
+        doRequest("http://www.some-host-1.com:80/other-path?param=value", context);
+
+        // then
+        final ArgumentCaptor<LongSupplier> gaugeValueProviderCaptor = ArgumentCaptor.forClass(LongSupplier.class);
+        verify(metrics).createHttpClientCircuitBreakerNumberGauge(gaugeValueProviderCaptor.capture());
+        final LongSupplier gaugeValueProvider = gaugeValueProviderCaptor.getValue();
+
+        assertThat(gaugeValueProvider.getAsLong()).isEqualTo(1);
+        verify(metrics).createHttpClientCircuitBreakerGauge(eq("http_www_some_host_1_com_80"), any());
+    }
+
     @Test
     public void circuitBreakerGaugeShouldReportOpenedWhenCircuitOpen(TestContext context) {
         // given